@@ -0,0 +1,153 @@
+package com.example.BookProject.excel;
+
+import com.example.BookProject.domain.Library;
+import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엑셀 행 rowCount개를 기존 도서관 libraryCount개와 비교하는 비용을 측정합니다.
+ *
+ * - legacy: 이전 ExcelDataProcessor 방식 (행마다 전체 도서관을 훑고, 비교마다 유사도 객체와 정규식을 새로 만들고,
+ *   편집 거리를 끝까지 계산)
+ * - matcher: {@link LibraryMatcher} (주소 블록, 정규화 결과 재사용, 거리 제한 Levenshtein, ForkJoinPool 병렬 판정)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LibraryMatcherBenchmark {
+
+    private static final String[] SIDO = {"서울특별시", "부산광역시", "대구광역시", "경기도", "강원특별자치도", "전라남도"};
+    private static final String[] SIGUNGU = {"중구", "동구", "서구", "남구", "북구", "수원시", "춘천시", "순천시"};
+    private static final String[] DONG = {"신사동", "역삼동", "우동", "중앙동", "평화동", "대흥동"};
+    private static final String[] NAME_PARTS = {"해오름", "푸른", "새싹", "한빛", "꿈나무", "솔빛", "가람", "누리", "다솜", "별빛"};
+    private static final String[] SUFFIXES = {"도서관", "작은도서관", "어린이도서관", "구립도서관", "마을도서관"};
+
+    @Param({"2000"})
+    private int libraryCount;
+
+    @Param({"2000"})
+    private int rowCount;
+
+    private List<Library> libraries;
+    private List<ExcelLibraryRow> rows;
+    private LibraryMatcher matcher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        libraries = new ArrayList<>(libraryCount);
+        for (int i = 0; i < libraryCount; i++) {
+            libraries.add(Library.builder()
+                    .libName(randomName(random))
+                    .address(randomAddress(random))
+                    .latitude(37.5)
+                    .longitude(127.0)
+                    .build());
+        }
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            // 절반은 기존 도서관 이름을 살짝 바꾼 행, 절반은 새 도서관
+            if (random.nextBoolean()) {
+                Library existing = libraries.get(random.nextInt(libraries.size()));
+                rows.add(new ExcelLibraryRow(i + 1, existing.getLibName() + "(분관)", existing.getAddress()));
+            } else {
+                rows.add(new ExcelLibraryRow(i + 1, randomName(random), randomAddress(random)));
+            }
+        }
+        matcher = new LibraryMatcher(libraries, LibraryMatcher.DEFAULT_THRESHOLD, Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        matcher.close();
+    }
+
+    @Benchmark
+    public void matcher(Blackhole blackhole) {
+        blackhole.consume(matcher.decideAll(rows));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        List<String> keys = new ArrayList<>(libraries.size());
+        for (Library library : libraries) {
+            keys.add(legacyNormalizeName(library.getLibName()) + "|" + legacyNormalizeAddress(library.getAddress()));
+        }
+        int duplicates = 0;
+        for (ExcelLibraryRow row : rows) {
+            String name = legacyNormalizeName(row.getLibName());
+            String address = legacyNormalizeAddress(row.getAddress());
+            double best = 0;
+            for (String key : keys) {
+                String[] parts = key.split("\\|");
+                if (address.equals(parts.length > 1 ? parts[1] : "")) {
+                    best = Math.max(best, legacySimilarity(name, parts[0]));
+                }
+            }
+            if (best > LibraryMatcher.DEFAULT_THRESHOLD) {
+                duplicates++;
+            }
+        }
+        blackhole.consume(duplicates);
+    }
+
+    private static double legacySimilarity(String str1, String str2) {
+        double jaroScore = new JaroWinklerSimilarity().apply(str1, str2);
+        int maxLength = Math.max(str1.length(), str2.length());
+        if (maxLength == 0) return 1.0;
+        int levenshteinDistance = new LevenshteinDistance().apply(str1, str2);
+        double levenshteinSimilarity = 1.0 - (double) levenshteinDistance / maxLength;
+        return (jaroScore + levenshteinSimilarity) / 2.0;
+    }
+
+    private static String legacyNormalizeName(String name) {
+        return name.trim()
+                .replaceAll("\\(.*?\\)", "")
+                .replaceAll("도서관|자료실|정보관|분관|본관|작은|시립|구립|군립|국립|도립", "")
+                .replaceAll("[^가-힣a-zA-Z0-9]", "");
+    }
+
+    private static String legacyNormalizeAddress(String fullAddress) {
+        String regex = "([가-힣]+(특별시|광역시|특별자치시|도|특별자치도))?" +
+                "\\s*([가-힣]+(시|군|구))" +
+                "(\\s*[가-힣]+(읍|면|동))?";
+        Matcher matcher = Pattern.compile(regex).matcher(fullAddress.trim());
+        StringBuilder coreAddress = new StringBuilder();
+        if (matcher.find()) {
+            if (matcher.group(1) != null) coreAddress.append(matcher.group(1));
+            if (matcher.group(3) != null) coreAddress.append(matcher.group(3));
+            if (matcher.group(5) != null) coreAddress.append(matcher.group(5));
+        }
+        return coreAddress.toString().replaceAll("[^가-힣a-zA-Z0-9]", "");
+    }
+
+    private static String randomName(Random random) {
+        return NAME_PARTS[random.nextInt(NAME_PARTS.length)] + NAME_PARTS[random.nextInt(NAME_PARTS.length)]
+                + SUFFIXES[random.nextInt(SUFFIXES.length)];
+    }
+
+    private static String randomAddress(Random random) {
+        return SIDO[random.nextInt(SIDO.length)] + " " + SIGUNGU[random.nextInt(SIGUNGU.length)] + " "
+                + DONG[random.nextInt(DONG.length)] + " " + (random.nextInt(300) + 1);
+    }
+}
@@ -1,165 +1,315 @@
 package com.example.BookProject;
 
 import com.example.BookProject.domain.Library;
+import com.example.BookProject.dto.LibraryDto;
+import com.example.BookProject.excel.ExcelLibraryRow;
+import com.example.BookProject.excel.LibraryMatcher;
+import com.example.BookProject.excel.MatchReportWriter;
+import com.example.BookProject.excel.XlsxStreamingReader;
+import com.example.BookProject.repository.LibraryBulkRepository;
 import com.example.BookProject.repository.LibraryRepository;
+import com.example.BookProject.service.LibrariesUpdatedEvent;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.text.similarity.JaroWinklerSimilarity;
-import org.apache.commons.text.similarity.LevenshteinDistance; // <-- Levenshtein import
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
 
+/**
+ * 국가자료종합목록 엑셀의 도서관을 기존 도서관과 대조해 가져옵니다.
+ *
+ * 행별 판정 결과는 NDJSON 보고서 파일로 흘려 씁니다. apply가 false(dry run)면 DB는 그대로 두고,
+ * true면 신규 도서관은 JDBC 배치로 저장하고 같은 도서관으로 판정된 행은 기존 도서관의 빈 필드(전화번호, 홈페이지, 좌표)만 채웁니다.
+ * 신규로 저장하기로 한 도서관은 바로 매칭 색인에 더하므로, 파일 안에 같은 도서관이 여러 번 나와도 처음 한 번만 저장합니다.
+ * 주소를 시/군/구까지 정규화하지 못해 이름만으로 같다고 판정된 행은 합치지도 저장하지도 않고 보고서에 REVIEW_NAME_ONLY로 남깁니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExcelDataProcessor {
 
+    // 국가자료종합목록 엑셀의 열 위치 (0부터 시작)
+    private static final int NAME_COLUMN = 4;
+    private static final int ADDRESS_COLUMN = 7;
+    // 선택 열은 머리글 이름으로 찾으므로 넉넉히 읽어 둠
+    private static final int READ_COLUMNS = 32;
+    private static final String[] TEL_HEADERS = {"전화번호", "대표전화", "연락처"};
+    private static final String[] HOMEPAGE_HEADERS = {"홈페이지", "홈페이지주소", "홈페이지 주소"};
+    private static final String[] LATITUDE_HEADERS = {"위도"};
+    private static final String[] LONGITUDE_HEADERS = {"경도"};
+    private static final long PROGRESS_INTERVAL = 10_000;
+    // 이 행 수만큼 모아서 한 번에 병렬로 판정
+    private static final int MATCH_BATCH_SIZE = 2_000;
+    // JDBC 배치 하나(= 트랜잭션 하나)에 담는 행 수
+    private static final int WRITE_CHUNK_SIZE = 500;
+
     private final LibraryRepository libraryRepository;
+    private final LibraryBulkRepository libraryBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public void runDryRunDebugger(String filePath) throws IOException {
-        System.out.println("--- [최종 디버깅 Dry Run] 시작: 중복 실패 후보를 확인합니다. ---");
-
-        Map<String, Library> existingLibraryMap = libraryRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        library -> normalizeName(library.getLibName()) + "|" + normalizeAddress(library.getAddress()),
-                        library -> library,
-                        (existing, replacement) -> existing
-                ));
-        System.out.println("DB에서 " + existingLibraryMap.size() + "개의 기존 도서관 키를 로드했습니다.");
-
-        int duplicateCount = 0;
-        int newLibraryCandidateCount = 0;
-
-        try (FileInputStream file = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(file)) {
-
-            Sheet sheet = workbook.getSheetAt(0);
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-
-                Cell nameCell = row.getCell(4);
-                Cell addressCell = row.getCell(7);
-
-                if (nameCell != null && addressCell != null) {
-                    String libName = nameCell.getStringCellValue();
-                    String address = addressCell.getStringCellValue();
-                    String newNormalizedName = normalizeName(libName);
-                    String newNormalizedAddress = normalizeAddress(address);
-
-                    if (newNormalizedName.isEmpty() || newNormalizedAddress.isEmpty()) continue;
-
-                    double bestMatchScore = 0.0;
-                    Library bestMatchLibrary = null;
-
-                    // 엑셀 도서관 하나에 대해 가장 비슷한 DB 도서관 '하나'만 찾는 로직
-                    for (Map.Entry<String, Library> entry : existingLibraryMap.entrySet()) {
-                        String[] existingKeyParts = entry.getKey().split("\\|");
-                        String existingNormalizedName = existingKeyParts[0];
-                        String existingNormalizedAddress = existingKeyParts.length > 1 ? existingKeyParts[1] : "";
-
-                        if (newNormalizedAddress.equals(existingNormalizedAddress)) {
-                            double combinedScore = calculateCombinedSimilarity(newNormalizedName, existingNormalizedName);
-                            if (combinedScore > bestMatchScore) { // 최고 점수를 계속 갱신
-                                bestMatchScore = combinedScore;
-                                bestMatchLibrary = entry.getValue();
-                            }
-                        }
-                    }
+    /**
+     * 엑셀 파일을 읽어 행마다 판정하고, 결과를 reportPath에 NDJSON으로 씁니다.
+     *
+     * @param apply false면 보고서만 쓰는 dry run, true면 판정 결과를 DB에 반영
+     */
+    public LibraryDto.ExcelImportResult importLibraries(Path xlsxPath, Path reportPath, boolean apply) throws IOException {
+        return importLibraries(xlsxPath, reportPath, apply, (rows, rowsPerSecond) -> { });
+    }
 
-                    // 루프가 끝난 후, 찾은 '최고 점수'를 기준으로 판단 및 출력
-                    if (bestMatchScore > 0.90) { // 임계값 0.90
-                        duplicateCount++;
-                    } else {
-                        newLibraryCandidateCount++;
-                        if (bestMatchLibrary != null) { // 가장 비슷했던 후보가 있다면 출력
-                            System.out.println("\n[중복 실패 후보] 최종 점수: " + String.format("%.2f", bestMatchScore));
-                            System.out.println("  - [엑셀] 이름: " + libName + " (키: " + newNormalizedName + ")");
-                            System.out.println("  - [DB]   이름: " + bestMatchLibrary.getLibName() + " (키: " + normalizeName(bestMatchLibrary.getLibName()) + ")");
-                            System.out.println("  (공통 주소 키: " + newNormalizedAddress + ")");
-                        }
-                    }
+    /**
+     * 진행 상황(읽은 행 수)을 progressListener로도 알립니다.
+     * 실행 스레드가 interrupt되면 판정 배치 사이에서 {@link CancellationException}을 던지고 멈춥니다.
+     * 이미 커밋한 청크는 남지만, 다시 실행하면 저장된 도서관은 중복으로 판정되므로 두 번 저장되지 않습니다.
+     */
+    public LibraryDto.ExcelImportResult importLibraries(Path xlsxPath, Path reportPath, boolean apply,
+                                                        XlsxStreamingReader.ProgressListener progressListener) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        log.info("엑셀 도서관 가져오기를 시작합니다. 파일={}, 보고서={}, apply={}", xlsxPath, reportPath, apply);
+
+        // 기존 도서관을 주소 키(와 이름 bigram)로 묶어 두고, 엑셀 행마다 같은 블록 안에서만 비교
+        // 폐관 처리된 도서관도 포함해야 엑셀에 남아 있는 폐관 도서관을 신규로 다시 저장하지 않음
+        try (LibraryMatcher matcher = new LibraryMatcher(libraryRepository.findAll(),
+                LibraryMatcher.DEFAULT_THRESHOLD, Runtime.getRuntime().availableProcessors());
+             MatchReportWriter report = new MatchReportWriter(reportPath)) {
+            log.info("DB에서 {}개의 기존 도서관을 {}개 주소 블록으로 로드했습니다.", matcher.libraryCount(), matcher.addressBlockCount());
+
+            ImportBatch batch = new ImportBatch(matcher, report, apply);
+            ColumnLayout[] layout = {ColumnLayout.NONE};
+
+            // 시트 전체를 메모리에 올리지 않고 SAX 방식으로 한 행씩 읽으면서 바로 처리
+            XlsxStreamingReader reader = new XlsxStreamingReader(READ_COLUMNS, PROGRESS_INTERVAL);
+            long rowCount = reader.read(xlsxPath, (rowNum, cells) -> {
+                if (rowNum == 0) { // 머리글 행
+                    layout[0] = ColumnLayout.fromHeader(cells);
+                    return;
                 }
+                if (cells[NAME_COLUMN] == null || cells[ADDRESS_COLUMN] == null) return;
+                batch.add(layout[0].toRow(rowNum, cells));
+            }, (rows, rowsPerSecond) -> {
+                log.info("... {}행 처리 ({}행/초)", rows, Math.round(rowsPerSecond));
+                progressListener.onProgress(rows, rowsPerSecond);
+            });
+            batch.flush();
+
+            if (apply && batch.insertedCount + batch.mergedCount > 0) {
+                eventPublisher.publishEvent(new LibrariesUpdatedEvent());
             }
+            log.info("엑셀 도서관 가져오기 완료: 읽은 행 {}, 중복 {}, 신규 {}, 건너뜀 {}, 저장 {}, 보완 {}, {}ms",
+                    rowCount, batch.duplicateCount, batch.newCount, batch.skippedCount,
+                    batch.insertedCount, batch.mergedCount, System.currentTimeMillis() - startedAt);
+            return new LibraryDto.ExcelImportResult(apply, rowCount, batch.duplicateCount, batch.newCount,
+                    batch.skippedCount, batch.insertedCount, batch.mergedCount);
         }
-        System.out.println("\n--- 디버깅 Dry Run 종료 ---");
-        System.out.println(">>> 중복으로 판단된 도서관 개수: " + duplicateCount + "개");
-        System.out.println(">>> 신규 도서관으로 추정되는 개수: " + newLibraryCandidateCount + "개");
     }
 
     /**
-     * Jaro-Winkler와 Levenshtein 점수를 조합하여 최종 유사도 점수를 계산합니다.
+     * 기존 도서관에 없는 값만 골라 채울 필드를 만듭니다. 채울 것이 없으면 null을 반환합니다.
      */
-    private double calculateCombinedSimilarity(String str1, String str2) {
-        // 1. Jaro-Winkler 점수 (오타, 순서에 강함)
-        double jaroScore = new JaroWinklerSimilarity().apply(str1, str2);
-
-        // 2. Levenshtein 점수 (글자 수 차이에 민감)
-        int maxLength = Math.max(str1.length(), str2.length());
-        if (maxLength == 0) return 1.0;
-        int levenshteinDistance = new LevenshteinDistance().apply(str1, str2);
-        double levenshteinSimilarity = 1.0 - (double) levenshteinDistance / maxLength;
-
-        // 3. 두 점수의 평균을 최종 점수로 사용 (가중치 조절 가능)
-        return (jaroScore + levenshteinSimilarity) / 2.0;
+    static LibraryBulkRepository.MissingFields missingFields(Library existing, ExcelLibraryRow row) {
+        String tel = isBlank(existing.getTel()) && !isBlank(row.getTel()) ? row.getTel().trim() : null;
+        String homepage = isBlank(existing.getHomepage()) && !isBlank(row.getHomepage()) ? row.getHomepage().trim() : null;
+        boolean fillCoordinates = !hasCoordinates(existing) && row.hasCoordinates();
+        if (tel == null && homepage == null && !fillCoordinates) {
+            return null;
+        }
+        return new LibraryBulkRepository.MissingFields(existing.getId(), tel, homepage,
+                fillCoordinates ? row.getLatitude() : null, fillCoordinates ? row.getLongitude() : null);
+    }
+
+    private static boolean hasCoordinates(Library library) {
+        return library.getLatitude() != null && library.getLongitude() != null
+                && library.getLatitude() != 0 && library.getLongitude() != 0;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 
     /**
-     * [개선된 버전] 이름의 고유성을 살리기 위해 지역명은 제거하지 않습니다.
+     * 판정할 행을 MATCH_BATCH_SIZE만큼 모았다가 한 번에 판정하고, 보고서를 쓴 뒤 DB에 반영합니다.
      */
-    private String normalizeName(String name) {
-        if (name == null || name.isBlank()) {
-            return "";
+    private class ImportBatch {
+
+        private final LibraryMatcher matcher;
+        private final MatchReportWriter report;
+        private final boolean apply;
+        private final List<ExcelLibraryRow> rows = new ArrayList<>(MATCH_BATCH_SIZE);
+
+        private int duplicateCount;
+        private int newCount;
+        private int skippedCount;
+        private int insertedCount;
+        private int mergedCount;
+
+        ImportBatch(LibraryMatcher matcher, MatchReportWriter report, boolean apply) {
+            this.matcher = matcher;
+            this.report = report;
+            this.apply = apply;
+        }
+
+        void add(ExcelLibraryRow row) {
+            rows.add(row);
+            if (rows.size() == MATCH_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("엑셀 도서관 가져오기가 중단되었습니다.");
+            }
+            List<Library> inserts = new ArrayList<>();
+            // 한 배치 안에서 여러 행이 같은 도서관으로 판정되면 먼저 나온 행의 값으로 채움
+            Map<Long, LibraryBulkRepository.MissingFields> merges = new HashMap<>();
+
+            for (LibraryMatcher.MatchDecision parallelDecision : matcher.decideAll(rows)) {
+                ExcelLibraryRow row = parallelDecision.getRow();
+                LibraryMatcher.MatchDecision decision = parallelDecision;
+                // 병렬 판정은 같은 배치의 앞선 행에서 저장하기로 한 도서관을 보지 못하므로, 신규 판정만 다시 확인
+                if (decision.getType() == LibraryMatcher.MatchDecision.Type.NEW && matcher.acceptedCount() > 0) {
+                    decision = matcher.decide(row);
+                }
+                MatchReportWriter.Action action;
+                switch (decision.getType()) {
+                    case DUPLICATE -> {
+                        duplicateCount++;
+                        Library existing = decision.getBestCandidate().getLibrary();
+                        if (decision.getBlock() == LibraryMatcher.MatchDecision.Block.NAME) {
+                            // 이름 블록은 전국 단위라 다른 지역의 같은 이름 도서관일 수 있으므로 값을 옮기지 않음
+                            action = MatchReportWriter.Action.REVIEW_NAME_ONLY;
+                        } else if (existing.getId() == null) {
+                            // 이번 작업에서 저장하기로 한 도서관 (아직 ID가 없음)
+                            action = MatchReportWriter.Action.DUPLICATE_IN_FILE;
+                        } else {
+                            LibraryBulkRepository.MissingFields patch = missingFields(existing, row);
+                            if (patch != null && !merges.containsKey(existing.getId())) {
+                                merges.put(existing.getId(), patch);
+                                action = MatchReportWriter.Action.MERGE;
+                            } else {
+                                action = MatchReportWriter.Action.UNCHANGED;
+                            }
+                        }
+                    }
+                    case NEW -> {
+                        newCount++;
+                        if (row.hasCoordinates()) {
+                            Library library = Library.builder()
+                                    .libName(row.getLibName().trim())
+                                    .address(row.getAddress().trim())
+                                    .tel(isBlank(row.getTel()) ? null : row.getTel().trim())
+                                    .homepage(isBlank(row.getHomepage()) ? null : row.getHomepage().trim())
+                                    .latitude(row.getLatitude())
+                                    .longitude(row.getLongitude())
+                                    .build();
+                            inserts.add(library);
+                            // dry run에서도 더해야 보고서가 apply 때의 판정과 같아짐
+                            matcher.addAccepted(library);
+                            action = MatchReportWriter.Action.INSERT;
+                        } else {
+                            // latitude, longitude가 NOT NULL이라 좌표 없는 도서관은 저장할 수 없음
+                            skippedCount++;
+                            action = MatchReportWriter.Action.SKIPPED_NO_COORDINATES;
+                        }
+                    }
+                    default -> {
+                        skippedCount++;
+                        action = MatchReportWriter.Action.SKIPPED_EMPTY_NAME;
+                    }
+                }
+                report.write(decision, action);
+            }
+            rows.clear();
+
+            if (apply) {
+                for (List<Library> chunk : chunks(inserts)) {
+                    insertedCount += libraryBulkRepository.insertWithoutCode(chunk);
+                }
+                for (List<LibraryBulkRepository.MissingFields> chunk : chunks(new ArrayList<>(merges.values()))) {
+                    mergedCount += libraryBulkRepository.fillMissingFields(chunk);
+                }
+            }
+        }
+
+        private <T> List<List<T>> chunks(List<T> items) {
+            List<List<T>> chunks = new ArrayList<>();
+            for (int from = 0; from < items.size(); from += WRITE_CHUNK_SIZE) {
+                chunks.add(items.subList(from, Math.min(from + WRITE_CHUNK_SIZE, items.size())));
+            }
+            return chunks;
         }
-        return name.trim()
-                .replaceAll("\\(.*?\\)", "") // 괄호와 그 안의 내용 제거
-                .replaceAll("도서관|자료실|정보관|분관|본관|작은|시립|구립|군립|국립|도립", "") // 일반적인 단어만 제거
-                .replaceAll("[^가-힣a-zA-Z0-9]", ""); // 특수문자/공백 제거
     }
+
     /**
-     * [개선된 버전] 주소에서 '읍/면/동'까지 추출하여 더 상세한 키를 만듭니다.
+     * 머리글 행에서 찾은 선택 열(전화번호, 홈페이지, 위도, 경도)의 위치. 없는 열은 -1
      */
-    private String normalizeAddress(String fullAddress) {
-        if (fullAddress == null || fullAddress.isBlank()) {
-            return "";
+    private static class ColumnLayout {
+
+        static final ColumnLayout NONE = new ColumnLayout(-1, -1, -1, -1);
+
+        private final int telColumn;
+        private final int homepageColumn;
+        private final int latitudeColumn;
+        private final int longitudeColumn;
+
+        ColumnLayout(int telColumn, int homepageColumn, int latitudeColumn, int longitudeColumn) {
+            this.telColumn = telColumn;
+            this.homepageColumn = homepageColumn;
+            this.latitudeColumn = latitudeColumn;
+            this.longitudeColumn = longitudeColumn;
         }
-        String trimmedAddress = fullAddress.trim();
 
-        if (trimmedAddress.startsWith("세종특별자치시")) {
-            return "세종특별자치시"; // 세종시는 예외 처리
+        static ColumnLayout fromHeader(String[] header) {
+            return new ColumnLayout(find(header, TEL_HEADERS), find(header, HOMEPAGE_HEADERS),
+                    find(header, LATITUDE_HEADERS), find(header, LONGITUDE_HEADERS));
         }
 
-        // '시/도', '시/군/구', '읍/면/동'을 추출하는 정규표현식
-        String regex = "([가-힣]+(특별시|광역시|특별자치시|도|특별자치도))?" + // 시/도 (선택)
-                "\\s*([가-힣]+(시|군|구))" +                  // 시/군/구 (필수)
-                "(\\s*[가-힣]+(읍|면|동))?";                 // 읍/면/동 (선택)
+        private static int find(String[] header, String[] names) {
+            for (int i = 0; i < header.length; i++) {
+                if (header[i] == null) continue;
+                String cell = header[i].trim();
+                for (String name : names) {
+                    if (cell.equals(name)) return i;
+                }
+            }
+            return -1;
+        }
 
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(trimmedAddress);
+        // 셀 배열은 다음 행에서 재사용되므로 필요한 값은 여기서 모두 꺼냄
+        ExcelLibraryRow toRow(int rowNum, String[] cells) {
+            Double latitude = coordinate(cells, latitudeColumn, 90);
+            Double longitude = coordinate(cells, longitudeColumn, 180);
+            boolean bothCoordinates = latitude != null && longitude != null;
+            return new ExcelLibraryRow(rowNum, cells[NAME_COLUMN], cells[ADDRESS_COLUMN],
+                    cell(cells, telColumn), cell(cells, homepageColumn),
+                    bothCoordinates ? latitude : null, bothCoordinates ? longitude : null);
+        }
 
-        StringBuilder coreAddress = new StringBuilder();
-        if (matcher.find()) {
-            if (matcher.group(1) != null) coreAddress.append(matcher.group(1)); // 시/도
-            if (matcher.group(3) != null) coreAddress.append(matcher.group(3)); // 시/군/구
-            if (matcher.group(5) != null) coreAddress.append(matcher.group(5)); // 읍/면/동
+        private static String cell(String[] cells, int column) {
+            return column >= 0 ? cells[column] : null;
         }
 
-        if (coreAddress.isEmpty()) {
-            // 정규식 실패 시 대체 로직
-            String[] parts = trimmedAddress.split(" ");
-            if (parts.length >= 2) return (parts[0] + parts[1]).replaceAll("[^가-힣a-zA-Z0-9]", "");
-            return trimmedAddress.replaceAll("[^가-힣a-zA-Z0-9]", "");
+        // 숫자가 아니거나 범위를 벗어나거나 0이면 좌표가 없는 것으로 봄
+        private static Double coordinate(String[] cells, int column, double limit) {
+            String value = cell(cells, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                double parsed = Double.parseDouble(value.trim());
+                return parsed != 0 && Math.abs(parsed) <= limit ? parsed : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
         }
-        return coreAddress.toString().replaceAll("[^가-힣a-zA-Z0-9]", "");
     }
 }
-
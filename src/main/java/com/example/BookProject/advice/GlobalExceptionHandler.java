@@ -1,5 +1,6 @@
 package com.example.BookProject.advice;
 
+import com.example.BookProject.client.ExternalApiUnavailableException;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +31,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage()); // 409 Conflict
     }
 
+    @ExceptionHandler(ExternalApiUnavailableException.class)
+    public ResponseEntity<String> handleExternalApiUnavailableException(ExternalApiUnavailableException e) {
+        log.warn("외부 API 사용 불가: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("외부 도서 정보 서비스에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
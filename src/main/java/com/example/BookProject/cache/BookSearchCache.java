@@ -0,0 +1,121 @@
+package com.example.BookProject.cache;
+
+import com.example.BookProject.dto.BookDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 알라딘 검색 결과(BookSearchResponse 목록)를 검색어 단위로 보관하는 캐시입니다.
+ * Caffeine(W-TinyLFU)으로 항목 수와 메모리 예산을 동시에 제한합니다.
+ *
+ * 항목은 ttl 동안은 신선(fresh)하고, 그 뒤 stale-ttl까지는 오래된(stale) 상태로 남아 있습니다.
+ * 오래된 항목은 알라딘이 느리거나 장애일 때 대신 응답하거나, 백그라운드 갱신이 끝날 때까지 보여주는 용도로 씁니다.
+ * 적중/실패/제거 통계는 Micrometer의 cache.* 메트릭(cache=aladinSearch)으로 노출됩니다.
+ */
+@Component
+public class BookSearchCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 객체 헤더, 참조 필드 등 문자열 외의 고정 비용을 대략적으로 잡은 값
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int ITEM_OVERHEAD_BYTES = 80;
+
+    private final Cache<String, CachedSearch> cache;
+    private final long freshNanos;
+
+    public BookSearchCache(@Value("${book.search-cache.ttl:1h}") Duration ttl,
+                           @Value("${book.search-cache.stale-ttl:24h}") Duration staleTtl,
+                           @Value("${book.search-cache.max-entries:10000}") long maxEntries,
+                           @Value("${book.search-cache.max-memory-mb:32}") long maxMemoryMb,
+                           MeterRegistry meterRegistry) {
+        long maxBytes = maxMemoryMb * 1024 * 1024;
+        // 항목 하나의 가중치를 (메모리 예산 / 최대 항목 수) 이상으로 잡으면
+        // 하나의 maximumWeight로 항목 수 상한과 메모리 상한을 함께 지킬 수 있습니다.
+        int minWeight = (int) Math.max(1, maxBytes / maxEntries);
+        this.freshNanos = ttl.toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(staleTtl.compareTo(ttl) > 0 ? staleTtl : ttl)
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedSearch value) -> Math.max(minWeight, estimateBytes(key, value.getResults())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "aladinSearch");
+    }
+
+    /**
+     * 대소문자, 공백, 유니코드 조합 방식(NFC)이 달라도 같은 검색어로 취급되도록 키를 정규화합니다.
+     */
+    public static String normalizeQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFC).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 신선한 항목과 오래된 항목을 모두 반환합니다. 신선한지는 {@link CachedSearch#isFresh()}로 확인합니다.
+     */
+    public Optional<CachedSearch> get(String normalizedQuery) {
+        return Optional.ofNullable(cache.getIfPresent(normalizedQuery));
+    }
+
+    public void put(String normalizedQuery, List<BookDto.BookSearchResponse> results) {
+        cache.put(normalizedQuery, new CachedSearch(List.copyOf(results), System.nanoTime() + freshNanos));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static int estimateBytes(String key, List<BookDto.BookSearchResponse> value) {
+        long bytes = ENTRY_OVERHEAD_BYTES + sizeOf(key);
+        for (BookDto.BookSearchResponse item : value) {
+            bytes += ITEM_OVERHEAD_BYTES
+                    + sizeOf(item.getTitle()) + sizeOf(item.getAuthor()) + sizeOf(item.getPublisher())
+                    + sizeOf(item.getIsbn()) + sizeOf(item.getBookImg()) + sizeOf(item.getDescription())
+                    + sizeOf(item.getPublishedAt());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long sizeOf(String value) {
+        // 한글이 섞인 문자열은 UTF-16으로 저장되므로 글자당 2바이트로 계산
+        return value == null ? 0 : 40L + 2L * value.length();
+    }
+
+    /**
+     * 캐시된 검색 결과와 그 결과가 신선한 것으로 취급되는 기한(System.nanoTime 기준)
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class CachedSearch {
+        private final List<BookDto.BookSearchResponse> results;
+        private final long freshUntilNanos;
+
+        public boolean isFresh() {
+            return System.nanoTime() - freshUntilNanos < 0;
+        }
+    }
+}
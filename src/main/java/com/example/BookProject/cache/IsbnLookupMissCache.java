@@ -0,0 +1,45 @@
+package com.example.BookProject.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 알라딘 ItemLookUp에서 결과가 없었던 ISBN을 기억하는 부정(negative) 캐시입니다.
+ * TTL 동안은 같은 ISBN으로 다시 요청이 와도 알라딘을 호출하지 않습니다.
+ * 호출 자체가 실패한 경우(타임아웃, 서킷 열림 등)는 기록하지 않습니다.
+ * 통계는 cache.* 메트릭(cache=isbnLookupMiss)으로 노출됩니다.
+ */
+@Component
+public class IsbnLookupMissCache {
+
+    private final Cache<String, Boolean> cache;
+
+    public IsbnLookupMissCache(@Value("${book.isbn-miss-cache.ttl:6h}") Duration ttl,
+                               @Value("${book.isbn-miss-cache.max-entries:100000}") long maxEntries,
+                               MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "isbnLookupMiss");
+    }
+
+    public boolean isKnownMiss(String isbn13) {
+        return cache.getIfPresent(isbn13) != null;
+    }
+
+    public void recordMiss(String isbn13) {
+        cache.put(isbn13, Boolean.TRUE);
+    }
+
+    public void invalidate(String isbn13) {
+        cache.invalidate(isbn13);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.BookProject.cache;
+
+import com.example.BookProject.client.Data4LibraryClient;
+import com.example.BookProject.dto.LibraryDto;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 도서관 정보나루의 대출 가능 여부를 (도서관 코드, ISBN13) 단위로 잠깐 보관하는 캐시입니다.
+ *
+ * - 같은 키를 동시에 여러 요청이 조회하면 정보나루 호출 한 번의 결과를 함께 기다립니다.
+ * - 정상 응답은 ttl 동안, 호출 실패(ERROR)는 더 짧은 error-ttl 동안만 보관합니다.
+ *   실패를 '소장하지 않음'으로 바꾸지 않고 상태로 구분해 두므로, 장애가 '대출 불가'로 보이지 않습니다.
+ * - refresh-after가 지난 항목을 조회하면 기존 값을 바로 돌려주고 백그라운드에서 새로 가져옵니다.
+ *   자주 조회되는 키는 만료 전에 계속 갱신되어 호출하는 쪽이 기다리지 않습니다.
+ *   갱신이 실패하면 기존 값을 원래 만료 시각까지 그대로 둡니다.
+ *
+ * 정보나루 호출은 동시 호출 수가 제한된 전용 스레드 풀에서 실행됩니다.
+ * 통계는 cache.* 메트릭(cache=libraryAvailability)으로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class LibraryAvailabilityCache {
+
+    private final Data4LibraryClient data4LibraryClient;
+    private final long ttlNanos;
+    private final long errorTtlNanos;
+    private final ExecutorService lookupExecutor;
+    private final AsyncLoadingCache<Key, CachedAvailability> cache;
+
+    public LibraryAvailabilityCache(Data4LibraryClient data4LibraryClient,
+                                    @Value("${library.availability.concurrency:16}") int concurrency,
+                                    @Value("${library.availability-cache.ttl:5m}") Duration ttl,
+                                    @Value("${library.availability-cache.error-ttl:30s}") Duration errorTtl,
+                                    @Value("${library.availability-cache.refresh-after:4m}") Duration refreshAfter,
+                                    @Value("${library.availability-cache.max-entries:50000}") long maxEntries,
+                                    MeterRegistry meterRegistry) {
+        this.data4LibraryClient = data4LibraryClient;
+        this.ttlNanos = ttl.toNanos();
+        this.errorTtlNanos = errorTtl.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.lookupExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "d4l-availability-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.cache = Caffeine.newBuilder()
+                .executor(lookupExecutor)
+                .maximumSize(maxEntries)
+                .expireAfter(new AvailabilityExpiry())
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .buildAsync(new AvailabilityLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "libraryAvailability");
+    }
+
+    /**
+     * 캐시된 결과가 있으면 완료된 Future를, 없으면 진행 중인(또는 새로 시작한) 정보나루 호출의 Future를 반환합니다.
+     * 같은 키의 호출을 다른 요청과 공유하므로, 기다리다 포기하더라도 Future를 취소하지 않아야 합니다.
+     * 반환된 Future는 예외로 끝나지 않고 실패 시 ERROR 상태의 결과로 완료됩니다.
+     */
+    public CompletableFuture<CachedAvailability> get(Long d4lLibCode, String isbn13) {
+        return cache.get(new Key(d4lLibCode, isbn13));
+    }
+
+    public void invalidate(Long d4lLibCode, String isbn13) {
+        cache.synchronous().invalidate(new Key(d4lLibCode, isbn13));
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.shutdownNow();
+    }
+
+    private CachedAvailability fetch(Key key) {
+        long loadedAt = System.nanoTime();
+        LibraryDto.Data4LibBookExistResponse.ResultData result = data4LibraryClient.bookExist(key.d4lLibCode, key.isbn13);
+        boolean hasBook = result != null && "Y".equals(result.getHasBook());
+        boolean loanAvailable = result != null && "Y".equals(result.getLoanAvailable());
+        return new CachedAvailability(LibraryDto.AvailabilityStatus.OK, hasBook, loanAvailable, loadedAt);
+    }
+
+    private class AvailabilityLoader implements CacheLoader<Key, CachedAvailability> {
+
+        @Override
+        public CachedAvailability load(Key key) {
+            try {
+                return fetch(key);
+            } catch (RuntimeException e) {
+                log.warn("정보나루 대출 정보 조회 실패: libCode={}, isbn={}, {}", key.d4lLibCode, key.isbn13, e.getMessage());
+                return new CachedAvailability(LibraryDto.AvailabilityStatus.ERROR, null, null, System.nanoTime());
+            }
+        }
+
+        @Override
+        public CachedAvailability reload(Key key, CachedAvailability oldValue) {
+            try {
+                return fetch(key);
+            } catch (RuntimeException e) {
+                // 갱신 실패: 기존 값을 그대로 두고(만료 시각도 유지) 만료되면 다시 조회
+                log.debug("정보나루 대출 정보 갱신 실패: libCode={}, isbn={}, {}", key.d4lLibCode, key.isbn13, e.getMessage());
+                return oldValue;
+            }
+        }
+    }
+
+    /**
+     * 정상 결과와 실패 결과의 보관 시간을 다르게 적용합니다.
+     * 만료 시각은 값을 가져온 시각(loadedAtNanos) 기준이라, 갱신 실패로 기존 값을 다시 넣어도 늘어나지 않습니다.
+     */
+    private class AvailabilityExpiry implements Expiry<Key, CachedAvailability> {
+
+        @Override
+        public long expireAfterCreate(Key key, CachedAvailability value, long currentTime) {
+            return remaining(value, currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, CachedAvailability value, long currentTime, long currentDuration) {
+            return remaining(value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, CachedAvailability value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remaining(CachedAvailability value, long currentTime) {
+            long lifetime = value.isOk() ? ttlNanos : errorTtlNanos;
+            return Math.max(0, lifetime - (currentTime - value.loadedAtNanos));
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final Long d4lLibCode;
+        private final String isbn13;
+    }
+
+    /**
+     * 캐시된 대출 가능 여부. OK가 아니면 hasBook/loanAvailable은 null입니다.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class CachedAvailability {
+        private final LibraryDto.AvailabilityStatus status;
+        private final Boolean hasBook;
+        private final Boolean loanAvailable;
+        @Getter(AccessLevel.NONE)
+        private final long loadedAtNanos;
+
+        public boolean isOk() {
+            return status == LibraryDto.AvailabilityStatus.OK;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.BookProject.client;
+
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.dto.AladinDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 알라딘 TTB API(ItemSearch, ItemLookUp, ItemList) 호출을 담당합니다.
+ * 같은 우선순위의 같은 요청이 동시에 여러 번 들어오면 HTTP 호출 한 번과 파싱된 응답 하나를 공유합니다.
+ * 알라딘이 느리거나 장애일 때는 서킷 브레이커가 호출을 막고 {@link ExternalApiUnavailableException}을 던집니다.
+ * 모든 호출은 우선순위와 함께 {@link AladinQuotaScheduler}를 거쳐 일일 할당량 안에서만 나갑니다.
+ */
+@Slf4j
+@Component
+public class AladinClient {
+
+    private static final String ITEM_SEARCH_URL = "http://www.aladin.co.kr/ttb/api/ItemSearch.aspx";
+    private static final String ITEM_LOOKUP_URL = "http://www.aladin.co.kr/ttb/api/ItemLookUp.aspx";
+    private static final String ITEM_LIST_URL = "http://www.aladin.co.kr/ttb/api/ItemList.aspx";
+    private static final String API_VERSION = "20131101";
+
+    private final RestTemplate restTemplate;
+    private final String ttbKey;
+    private final SingleFlight<FlightKey, AladinDto.AladinResponse> singleFlight = new SingleFlight<>();
+    private final CircuitBreaker circuitBreaker;
+    private final AladinQuotaScheduler quotaScheduler;
+
+    public AladinClient(RestTemplate restTemplate,
+                        AladinQuotaScheduler quotaScheduler,
+                        @Value("${external.api.aladin}") String ttbKey,
+                        @Value("${aladin.circuit-breaker.window-size:20}") int windowSize,
+                        @Value("${aladin.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                        @Value("${aladin.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                        @Value("${aladin.circuit-breaker.slow-call-threshold:3s}") Duration slowCallThreshold,
+                        @Value("${aladin.circuit-breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+                        @Value("${aladin.circuit-breaker.open-duration:30s}") Duration openDuration,
+                        @Value("${aladin.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+                        MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.ttbKey = ttbKey;
+        this.quotaScheduler = quotaScheduler;
+        this.circuitBreaker = new CircuitBreaker("aladin", windowSize, minimumCalls, failureRateThreshold,
+                slowCallThreshold, slowCallRateThreshold, openDuration, halfOpenCalls);
+        FunctionCounter.builder("aladin.requests.coalesced", singleFlight, SingleFlight::coalescedCount)
+                .description("동시에 들어온 같은 요청과 합쳐져 생략된 알라딘 API 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("aladin.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("알라딘 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품 검색 API (검색어는 호출하는 쪽에서 정규화해서 넘깁니다)
+     */
+    public AladinDto.AladinResponse itemSearch(String query, int start, int maxResults, Priority priority) {
+        URI uri = UriComponentsBuilder.fromUriString(ITEM_SEARCH_URL)
+                .queryParam("ttbkey", ttbKey)
+                .queryParam("Query", query)                 // 검색어
+                .queryParam("QueryType", "Keyword")         // 검색어 종류
+                .queryParam("MaxResults", maxResults)       // 최대 검색 결과 수
+                .queryParam("start", start)                 // 검색 시작 위치
+                .queryParam("SearchTarget", "Book")         // 검색 대상
+                .queryParam("output", "js")                 // 출력 포맷 (JSON)
+                .queryParam("Version", API_VERSION)
+                .encode(StandardCharsets.UTF_8)             // 한글 검색어가 깨지지 않도록 인코딩
+                .build()
+                .toUri();
+        return call(uri, priority);
+    }
+
+    /**
+     * 상품 조회 API (ISBN13 기준)
+     */
+    public AladinDto.AladinResponse itemLookUp(String isbn13, Priority priority) {
+        URI uri = UriComponentsBuilder.fromUriString(ITEM_LOOKUP_URL)
+                .queryParam("ttbkey", ttbKey)
+                .queryParam("itemId", isbn13)
+                .queryParam("itemIdType", "ISBN13")
+                .queryParam("output", "js")
+                .queryParam("Version", API_VERSION)
+                .queryParam("Cover", "Big")
+                .encode(StandardCharsets.UTF_8)
+                .build()
+                .toUri();
+        return call(uri, priority);
+    }
+
+    /**
+     * 상품 리스트 API (베스트셀러, 신간 등 QueryType으로 구분)
+     */
+    public AladinDto.AladinResponse itemList(String queryType, int start, int maxResults, Priority priority) {
+        URI uri = UriComponentsBuilder.fromUriString(ITEM_LIST_URL)
+                .queryParam("ttbkey", ttbKey)
+                .queryParam("QueryType", queryType)
+                .queryParam("MaxResults", maxResults)
+                .queryParam("start", start)
+                .queryParam("SearchTarget", "Book")
+                .queryParam("output", "js")
+                .queryParam("Version", API_VERSION)
+                .encode(StandardCharsets.UTF_8)
+                .build()
+                .toUri();
+        return call(uri, priority);
+    }
+
+    public long coalescedCount() {
+        return singleFlight.coalescedCount();
+    }
+
+    /**
+     * 서킷이 닫혀 있거나 시험 호출이 가능한 상태라 지금 알라딘을 호출할 수 있는지 여부
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.isCallPermitted();
+    }
+
+    private AladinDto.AladinResponse call(URI uri, Priority priority) {
+        // 정규화된 파라미터로 만든 URI와 우선순위를 중복 판단 키로 사용합니다.
+        // 우선순위가 다른 호출은 합치지 않으므로, INTERACTIVE 호출이 BACKGROUND 호출의 긴 대기열을 물려받지 않습니다.
+        return singleFlight.execute(new FlightKey(uri, priority), () -> {
+            // 서킷이 열려 있으면 할당량 차례를 기다리거나 쓰지 않고 바로 실패
+            if (!circuitBreaker.isCallPermitted()) {
+                throw new ExternalApiUnavailableException("aladin 서킷이 열려 있어 호출하지 않았습니다.");
+            }
+            // 할당량 대기는 서킷 밖에서 합니다. 대기 시간이 느린 호출로 기록되거나 HALF_OPEN 시험 호출 기회를 붙잡지 않도록
+            // 서킷 브레이커는 실제 HTTP 호출 시간만 잽니다.
+            return quotaScheduler.execute(priority, () -> circuitBreaker.execute(
+                    () -> restTemplate.getForObject(uri, AladinDto.AladinResponse.class)));
+        });
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class FlightKey {
+        private final URI uri;
+        private final Priority priority;
+    }
+}
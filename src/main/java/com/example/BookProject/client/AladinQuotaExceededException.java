@@ -0,0 +1,11 @@
+package com.example.BookProject.client;
+
+/**
+ * 알라딘 일일 호출 할당량이 부족하거나 대기 시간이 너무 길어 호출을 보내지 않았을 때 던지는 예외입니다.
+ */
+public class AladinQuotaExceededException extends ExternalApiUnavailableException {
+
+    public AladinQuotaExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.BookProject.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 알라딘 TTB API의 일일 호출 할당량을 우선순위별로 나눠 쓰도록 조절합니다.
+ *
+ * - 호출 간격은 하나의 토큰 버킷으로 맞추고, 토큰이 생기면 대기 중인 호출 중 우선순위가 높은 쪽이 먼저 가져갑니다.
+ * - 남은 일일 할당량이 background-reserve 비율 아래로 내려가면 BACKGROUND 호출을,
+ *   ingest-reserve 비율 아래로 내려가면 INGEST 호출까지 거절합니다. INTERACTIVE는 할당량을 다 쓸 때까지 허용됩니다.
+ * - 차례를 기다리는 시간이 우선순위별 최대 대기 시간을 넘으면 호출을 포기합니다.
+ *
+ * 할당량은 한국 시간 자정에 초기화됩니다. 남은 할당량과 우선순위별 대기 수는 aladin.quota.* 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class AladinQuotaScheduler {
+
+    public enum Priority { INTERACTIVE, INGEST, BACKGROUND }
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final TokenBucket pacer;
+    private final long dailyLimit;
+    private final Map<Priority, Long> minimumRemaining = new EnumMap<>(Priority.class);
+    private final Map<Priority, Long> maxWaitNanos = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> shedCounters = new EnumMap<>(Priority.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition turnChanged = lock.newCondition();
+    private final int[] waiting = new int[Priority.values().length];
+    private LocalDate quotaDay;
+    private long usedToday;
+
+    public AladinQuotaScheduler(@Value("${aladin.quota.daily-limit:5000}") long dailyLimit,
+                                @Value("${aladin.quota.rate-per-second:10}") double ratePerSecond,
+                                @Value("${aladin.quota.burst:10}") int burst,
+                                @Value("${aladin.quota.ingest-reserve:0.1}") double ingestReserve,
+                                @Value("${aladin.quota.background-reserve:0.3}") double backgroundReserve,
+                                @Value("${aladin.quota.max-wait.interactive:3s}") Duration interactiveMaxWait,
+                                @Value("${aladin.quota.max-wait.ingest:30s}") Duration ingestMaxWait,
+                                @Value("${aladin.quota.max-wait.background:60s}") Duration backgroundMaxWait,
+                                MeterRegistry meterRegistry) {
+        this.pacer = new TokenBucket(ratePerSecond, burst);
+        this.dailyLimit = dailyLimit;
+        this.quotaDay = LocalDate.now(QUOTA_ZONE);
+
+        // 우선순위별로 남겨둬야 하는 최소 할당량
+        minimumRemaining.put(Priority.INTERACTIVE, 0L);
+        minimumRemaining.put(Priority.INGEST, (long) Math.ceil(dailyLimit * ingestReserve));
+        minimumRemaining.put(Priority.BACKGROUND, (long) Math.ceil(dailyLimit * backgroundReserve));
+        maxWaitNanos.put(Priority.INTERACTIVE, interactiveMaxWait.toNanos());
+        maxWaitNanos.put(Priority.INGEST, ingestMaxWait.toNanos());
+        maxWaitNanos.put(Priority.BACKGROUND, backgroundMaxWait.toNanos());
+
+        Gauge.builder("aladin.quota.remaining", this, AladinQuotaScheduler::remainingToday)
+                .description("오늘 남은 알라딘 API 호출 할당량")
+                .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            String lane = priority.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("aladin.quota.queue.depth", this, scheduler -> scheduler.waitingCount(priority))
+                    .description("호출 차례를 기다리는 요청 수")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            shedCounters.put(priority, Counter.builder("aladin.quota.shed")
+                    .description("할당량 부족이나 대기 시간 초과로 보내지 않은 호출 수")
+                    .tag("lane", lane)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 우선순위에 맞게 할당량과 호출 차례를 확보한 뒤 call을 실행합니다.
+     * 확보하지 못하면 {@link AladinQuotaExceededException}을 던집니다.
+     */
+    public <T> T execute(Priority priority, Supplier<T> call) {
+        acquire(priority);
+        return call.get();
+    }
+
+    public long remainingToday() {
+        lock.lock();
+        try {
+            rollOverIfNewDay();
+            return Math.max(0, dailyLimit - usedToday);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int waitingCount(Priority priority) {
+        lock.lock();
+        try {
+            return waiting[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(Priority priority) {
+        long deadline = System.nanoTime() + maxWaitNanos.get(priority);
+        lock.lock();
+        waiting[priority.ordinal()]++;
+        try {
+            while (true) {
+                rollOverIfNewDay();
+                if (dailyLimit - usedToday <= minimumRemaining.get(priority)) {
+                    throw shed(priority, "오늘 남은 알라딘 호출 할당량이 부족하여 " + priority + " 호출을 보내지 않았습니다.");
+                }
+                if (!hasHigherPriorityWaiting(priority) && pacer.tryAcquire()) {
+                    usedToday++;
+                    return;
+                }
+                long remainingWait = deadline - System.nanoTime();
+                if (remainingWait <= 0) {
+                    throw shed(priority, "알라딘 호출 차례를 기다리는 시간이 초과되어 " + priority + " 호출을 보내지 않았습니다.");
+                }
+                // 다음 토큰이 채워질 즈음 다시 확인 (높은 우선순위 대기가 끝나면 signal로 깨어남)
+                long pollNanos = Math.max(pacer.nanosUntilAvailable(), TimeUnit.MILLISECONDS.toNanos(1));
+                turnChanged.awaitNanos(Math.min(remainingWait, pollNanos));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AladinQuotaExceededException("알라딘 호출 차례를 기다리는 중 중단되었습니다.");
+        } finally {
+            waiting[priority.ordinal()]--;
+            turnChanged.signalAll();
+            lock.unlock();
+        }
+    }
+
+    private boolean hasHigherPriorityWaiting(Priority priority) {
+        for (int i = 0; i < priority.ordinal(); i++) {
+            if (waiting[i] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AladinQuotaExceededException shed(Priority priority, String message) {
+        shedCounters.get(priority).increment();
+        log.debug(message);
+        return new AladinQuotaExceededException(message);
+    }
+
+    private void rollOverIfNewDay() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(quotaDay)) {
+            log.info("알라딘 호출 할당량을 초기화합니다. (어제 사용량 {}회)", usedToday);
+            quotaDay = today;
+            usedToday = 0;
+        }
+    }
+}
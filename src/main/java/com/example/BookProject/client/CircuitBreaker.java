@@ -0,0 +1,182 @@
+package com.example.BookProject.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출을 감싸는 서킷 브레이커입니다.
+ *
+ * - CLOSED: 최근 windowSize번의 호출 결과를 기록하고, 실패율 또는 느린 호출 비율이 임계값을 넘으면 OPEN으로 바뀝니다.
+ * - OPEN: openDuration 동안 호출을 보내지 않고 바로 {@link ExternalApiUnavailableException}을 던집니다.
+ * - HALF_OPEN: openDuration이 지나면 halfOpenCalls번의 시험 호출만 허용합니다.
+ *   시험 호출이 모두 성공하면 CLOSED로, 하나라도 실패하거나 느리면 다시 OPEN으로 바뀝니다.
+ *
+ * 감싼 호출 안에서 {@link ExternalApiUnavailableException}이 나오면(할당량 초과 등 실제로 호출을 보내지 않은 경우)
+ * 결과를 기록하지 않고 호출 기회만 돌려줍니다.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final double slowCallRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과를 담는 원형 버퍼
+    private final byte[] outcomes;
+    private int position;
+    private int recordedCalls;
+    private int failureCalls;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermitsLeft;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration slowCallThreshold, double slowCallRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallThreshold, slowCallRateThreshold,
+                openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                   Duration slowCallThreshold, double slowCallRateThreshold,
+                   Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+        this.outcomes = new byte[windowSize];
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquirePermission()) {
+            throw new ExternalApiUnavailableException(name + " 서킷이 열려 있어 호출하지 않았습니다.");
+        }
+        long startedAt = nanoClock.getAsLong();
+        try {
+            T result = call.get();
+            onComplete(nanoClock.getAsLong() - startedAt, false);
+            return result;
+        } catch (ExternalApiUnavailableException e) {
+            releasePermission();
+            throw e;
+        } catch (RuntimeException | Error e) {
+            onComplete(nanoClock.getAsLong() - startedAt, true);
+            throw e;
+        }
+    }
+
+    /**
+     * 지금 호출을 보낼 수 있는 상태인지 확인만 합니다. (HALF_OPEN 시험 호출 기회를 쓰지 않음)
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> nanoClock.getAsLong() - openedAtNanos >= openDurationNanos;
+            case HALF_OPEN -> halfOpenPermitsLeft > 0;
+        };
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermitsLeft = halfOpenCalls;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitsLeft == 0) {
+                return false;
+            }
+            halfOpenPermitsLeft--;
+        }
+        return true;
+    }
+
+    private synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermitsLeft++;
+        }
+    }
+
+    private synchronized void onComplete(long elapsedNanos, boolean failed) {
+        byte outcome = failed ? FAILURE : (elapsedNanos >= slowCallThresholdNanos ? SLOW : SUCCESS);
+
+        if (state == State.HALF_OPEN) {
+            if (outcome != SUCCESS) {
+                open();
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // OPEN이 되기 전에 시작된 호출의 결과는 무시
+            return;
+        }
+
+        record(outcome);
+        if (recordedCalls >= minimumCalls) {
+            double failureRate = (double) failureCalls / recordedCalls;
+            double slowRate = (double) slowCalls / recordedCalls;
+            if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    private void record(byte outcome) {
+        if (recordedCalls == windowSize) {
+            byte evicted = outcomes[position];
+            if (evicted == FAILURE) failureCalls--;
+            if (evicted == SLOW) slowCalls--;
+        } else {
+            recordedCalls++;
+        }
+        outcomes[position] = outcome;
+        if (outcome == FAILURE) failureCalls++;
+        if (outcome == SLOW) slowCalls++;
+        position = (position + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        position = 0;
+        recordedCalls = 0;
+        failureCalls = 0;
+        slowCalls = 0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.BookProject.client;
+
+import com.example.BookProject.dto.LibraryDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도서관 정보나루(data4library) API 호출을 담당합니다.
+ */
+@Component
+public class Data4LibraryClient {
+
+    private static final String BOOK_EXIST_URL = "http://data4library.kr/api/bookExist";
+    private static final String LIB_SRCH_URL = "http://data4library.kr/api/libSrch";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String authKey;
+
+    public Data4LibraryClient(RestTemplate restTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${external.api.data4library}") String authKey) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.authKey = authKey;
+    }
+
+    /**
+     * 도서 소장 여부 및 대출 가능 여부 조회 API.
+     * 호출이나 응답 해석에 실패하면 예외를 던지므로, '소장하지 않음'과 '확인 실패'를 구분할 수 있습니다.
+     *
+     * @return 결과 항목이 없으면 null
+     */
+    public LibraryDto.Data4LibBookExistResponse.ResultData bookExist(Long d4lLibCode, String isbn13) {
+        URI uri = UriComponentsBuilder.fromUriString(BOOK_EXIST_URL)
+                .queryParam("authKey", authKey)
+                .queryParam("libCode", d4lLibCode)
+                .queryParam("isbn13", isbn13)
+                .queryParam("format", "json")
+                .build()
+                .toUri();
+
+        // 정보나루는 JSON을 text/plain 등으로 내려주는 경우가 있어 문자열로 받은 뒤 직접 변환
+        String jsonResponse = restTemplate.getForObject(uri, String.class);
+        try {
+            LibraryDto.Data4LibBookExistResponse response = objectMapper.readValue(jsonResponse, LibraryDto.Data4LibBookExistResponse.class);
+            if (response == null || response.getResponse() == null) {
+                return null;
+            }
+            return response.getResponse().getResult();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new ExternalApiUnavailableException("정보나루 bookExist 응답을 해석하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 정보나루 도서관 목록 API의 한 페이지를 가져옵니다.
+     * 응답 전체를 문자열로 받지 않고, 응답 스트림을 Jackson 스트리밍 파서로 읽으면서 도서관 항목만 꺼냅니다.
+     */
+    public LibSrchPage libSrch(int pageNo, int pageSize) {
+        URI uri = UriComponentsBuilder.fromUriString(LIB_SRCH_URL)
+                .queryParam("authKey", authKey)
+                .queryParam("pageNo", pageNo)
+                .queryParam("pageSize", pageSize)
+                .queryParam("format", "json")
+                .build()
+                .toUri();
+        // 응답 Content-Type과 상관없이 본문을 직접 읽기 위해 메시지 컨버터 대신 ResponseExtractor를 사용
+        return restTemplate.execute(uri, HttpMethod.GET, null, response -> readLibSrchPage(response.getBody()));
+    }
+
+    /**
+     * {"response": {"numFound": N, "libs": [{"lib": {...}}, ...]}} 형태의 응답에서
+     * 전체 건수와 도서관 목록만 읽고 나머지 필드는 건너뜁니다.
+     */
+    LibSrchPage readLibSrchPage(InputStream body) throws IOException {
+        int numFound = -1;
+        List<LibraryDto.Data4LibResponse.LibData> libs = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ExternalApiUnavailableException("정보나루 libSrch 응답이 JSON 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"response".equals(field) || value != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken token = parser.nextToken();
+                    if ("numFound".equals(name) && (token.isNumeric() || token == JsonToken.VALUE_STRING)) {
+                        numFound = parser.getValueAsInt(-1);
+                    } else if ("libs".equals(name) && token == JsonToken.START_ARRAY) {
+                        // 배열 원소 하나({"lib": {...}})씩만 객체로 변환
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            LibraryDto.Data4LibResponse.Lib lib = objectMapper.readValue(parser, LibraryDto.Data4LibResponse.Lib.class);
+                            if (lib.getLib() != null) {
+                                libs.add(lib.getLib());
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return new LibSrchPage(numFound, libs);
+    }
+
+    /**
+     * 도서관 목록 한 페이지. numFound는 전체 도서관 수이며, 응답에 없으면 -1입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LibSrchPage {
+        private final int numFound;
+        private final List<LibraryDto.Data4LibResponse.LibData> libs;
+    }
+}
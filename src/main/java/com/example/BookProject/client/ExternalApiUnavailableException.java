@@ -0,0 +1,16 @@
+package com.example.BookProject.client;
+
+/**
+ * 외부 API(알라딘 등)가 장애 상태이거나 서킷이 열려 있어 결과를 줄 수 없을 때 던지는 예외입니다.
+ * GlobalExceptionHandler에서 503 Service Unavailable로 응답합니다.
+ */
+public class ExternalApiUnavailableException extends RuntimeException {
+
+    public ExternalApiUnavailableException(String message) {
+        super(message);
+    }
+
+    public ExternalApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
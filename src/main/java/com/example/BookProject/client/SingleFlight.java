@@ -0,0 +1,91 @@
+package com.example.BookProject.client;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합쳐 주는 in-flight 중복 제거기입니다.
+ * 먼저 들어온 호출(leader)만 실제로 작업을 수행하고, 그동안 들어온 호출(follower)은 같은 결과를 공유합니다.
+ *
+ * - leader가 예외로 끝나면 follower도 같은 예외를 받습니다.
+ * - leader가 인터럽트로 취소되면 follower는 그 결과를 쓰지 않고 다시 시도합니다.
+ * - follower가 기다리는 중에 인터럽트되면 follower만 대기를 멈추고, leader의 작업은 계속됩니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public V execute(K key, Supplier<V> call) {
+        while (true) {
+            CompletableFuture<V> created = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+
+            if (existing == null) {
+                return lead(key, created, call);
+            }
+
+            coalesced.increment();
+            try {
+                return await(existing);
+            } catch (CancellationException e) {
+                // leader가 취소된 경우: 현재 스레드가 인터럽트된 것이 아니라면 새로 시도합니다.
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 지금까지 다른 호출의 결과를 공유받아 실제 호출을 생략한 횟수
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> future, Supplier<V> call) {
+        try {
+            V value = call.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            if (Thread.currentThread().isInterrupted()) {
+                future.cancel(false);
+            } else {
+                future.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("대기 중 인터럽트되어 호출을 취소했습니다.");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
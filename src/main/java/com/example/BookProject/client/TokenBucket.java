@@ -0,0 +1,87 @@
+package com.example.BookProject.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 API 호출 속도를 제한하는 토큰 버킷입니다.
+ * 초당 permitsPerSecond개의 토큰이 채워지고, 최대 burst개까지 쌓아둘 수 있습니다.
+ * 토큰이 없으면 {@link #acquire()}는 다음 토큰이 채워질 때까지 기다립니다.
+ */
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond와 burst는 0보다 커야 합니다.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 기다립니다.
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = reserveOrWait()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 기다리지 않고 토큰을 얻을 수 있으면 얻고 true를 반환합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    /**
+     * 토큰 하나가 채워질 때까지 남은 시간(ns). 지금 바로 얻을 수 있으면 0입니다.
+     */
+    public synchronized long nanosUntilAvailable() {
+        refill();
+        return tokens >= 1 ? 0 : Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerNano));
+    }
+
+    // 토큰을 얻으면 0, 아니면 토큰 하나가 채워질 때까지 남은 시간(ns)을 반환
+    private synchronized long reserveOrWait() {
+        long waitNanos = nanosUntilAvailable();
+        if (waitNanos == 0) {
+            tokens -= 1;
+        }
+        return waitNanos;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * permitsPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
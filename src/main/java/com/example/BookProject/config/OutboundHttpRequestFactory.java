@@ -0,0 +1,172 @@
+package com.example.BookProject.config;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * connect/read 타임아웃만으로는 응답을 아주 느리게 조금씩 보내는 서버를 막을 수 없으므로,
+ * 요청 하나가 시작부터 응답 본문을 다 읽을 때까지 걸리는 전체 시간에 상한(total timeout)을 둡니다.
+ * 상한이 지나면 요청을 cancel() 하여 커넥션을 끊고, 호출한 쪽은 I/O 예외를 받게 됩니다.
+ * 응답을 close() 하거나 요청이 예외로 끝나면 예약해 둔 cancel()을 바로 취소해 스케줄러 대기열에서 빼냅니다.
+ */
+public class OutboundHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final long totalTimeoutMillis;
+    private final ScheduledThreadPoolExecutor deadlineScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "outbound-http-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // createRequest() 안에서 만들어진 HttpClient 요청을 같은 스레드에서 넘겨받기 위한 자리
+    private final ThreadLocal<HttpUriRequestBase> creatingRequest = new ThreadLocal<>();
+
+    public OutboundHttpRequestFactory(HttpClient httpClient, Duration totalTimeout) {
+        super(httpClient);
+        this.totalTimeoutMillis = totalTimeout.toMillis();
+        // 끝난 요청의 cancel() 예약이 상한 시간 동안 대기열에 남아 요청 객체를 붙잡지 않도록 함
+        deadlineScheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request;
+        HttpUriRequestBase cancellableRequest;
+        try {
+            request = super.createRequest(uri, httpMethod);
+            cancellableRequest = creatingRequest.get();
+        } finally {
+            creatingRequest.remove();
+        }
+        if (totalTimeoutMillis <= 0 || cancellableRequest == null) {
+            return request;
+        }
+        return new DeadlineRequest(request, cancellableRequest);
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        if (request instanceof HttpUriRequestBase cancellableRequest) {
+            creatingRequest.set(cancellableRequest);
+        }
+    }
+
+    /**
+     * 아직 상한 시간이 지나지 않았고 응답도 닫히지 않은 요청 수
+     */
+    public int pendingDeadlineCount() {
+        return deadlineScheduler.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        deadlineScheduler.shutdownNow();
+        super.destroy();
+    }
+
+    /**
+     * execute() 시점에 cancel()을 예약하고, 응답이 닫히거나 실행이 실패하면 예약을 취소합니다.
+     */
+    private class DeadlineRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+        private final HttpUriRequestBase cancellableRequest;
+
+        DeadlineRequest(ClientHttpRequest delegate, HttpUriRequestBase cancellableRequest) {
+            this.delegate = delegate;
+            this.cancellableRequest = cancellableRequest;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            ScheduledFuture<?> deadline = deadlineScheduler.schedule(cancellableRequest::cancel, totalTimeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                return new DeadlineResponse(delegate.execute(), deadline);
+            } catch (IOException | RuntimeException | Error e) {
+                deadline.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return delegate.getAttributes();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    private static class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> deadline;
+
+        DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                deadline.cancel(false);
+            }
+        }
+    }
+}
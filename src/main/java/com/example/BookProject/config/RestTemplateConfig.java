@@ -1,14 +1,92 @@
 package com.example.BookProject.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * 알라딘, 도서관 정보나루 등 외부 API 호출에 공통으로 쓰는 HTTP 클라이언트 설정입니다.
+ *
+ * - 호스트(route)별 커넥션 풀과 keep-alive로 매 요청마다 TCP 연결을 새로 맺지 않습니다.
+ * - connect / read / 전체(total) 타임아웃을 두어 느린 외부 서버가 요청 스레드를 붙잡지 못하게 합니다.
+ * - HttpClient 5는 기본으로 Accept-Encoding: gzip, deflate를 보내고 응답을 풀어 줍니다.
+ * - RestTemplateBuilder로 만들기 때문에 호스트별 지연/오류가 http.client.requests 메트릭
+ *   (client.name=호스트, outcome, exception 태그)으로 기록됩니다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager outboundConnectionManager(
+            @Value("${http.client.max-total:100}") int maxTotal,
+            @Value("${http.client.max-per-route:20}") int maxPerRoute,
+            @Value("${http.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${http.client.read-timeout:5s}") Duration readTimeout,
+            @Value("${http.client.connection-ttl:5m}") Duration connectionTtl,
+            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient outboundHttpClient(
+            PoolingHttpClientConnectionManager outboundConnectionManager,
+            @Value("${http.client.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${http.client.read-timeout:5s}") Duration readTimeout,
+            @Value("${http.client.keep-alive:30s}") Duration keepAlive) {
+        TimeValue defaultKeepAlive = TimeValue.of(keepAlive);
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout)) // 풀에서 커넥션을 기다리는 시간
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                // 서버가 Keep-Alive 헤더를 주지 않으면 설정값만큼 커넥션을 재사용
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(serverKeepAlive) && serverKeepAlive.compareTo(defaultKeepAlive) < 0
+                            ? serverKeepAlive : defaultKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(defaultKeepAlive)
+                .build();
+    }
+
+    @Bean
+    public OutboundHttpRequestFactory outboundHttpRequestFactory(
+            CloseableHttpClient outboundHttpClient,
+            @Value("${http.client.total-timeout:10s}") Duration totalTimeout) {
+        return new OutboundHttpRequestFactory(outboundHttpClient, totalTimeout);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, OutboundHttpRequestFactory outboundHttpRequestFactory) {
+        return restTemplateBuilder
+                .requestFactory(() -> outboundHttpRequestFactory)
+                .build();
     }
 }
@@ -2,6 +2,7 @@ package com.example.BookProject.config;
 
 import com.example.BookProject.jwt.JwtAuthenticationFilter; // 추가
 import com.example.BookProject.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -43,6 +44,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // 스트리밍 응답(StreamingResponseBody)의 비동기 디스패치는 최초 요청에서 이미 인증을 거쳤으므로 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/", "/api/users/register", "/api/users/login", "/api/libraries/**").permitAll()
                         .anyRequest().authenticated()
                 )
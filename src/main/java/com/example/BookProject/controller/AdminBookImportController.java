@@ -0,0 +1,49 @@
+package com.example.BookProject.controller;
+
+import com.example.BookProject.dto.BookDto;
+import com.example.BookProject.service.BookImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * ISBN 일괄 등록 API (ADMIN 전용, SecurityConfig에서 /api/admin/** 제한)
+ * 요청 하나가 알라딘 일일 호출량을 크게 쓰므로 일반 사용자에게는 열지 않습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/books/import")
+public class AdminBookImportController {
+
+    private final BookImportService bookImportService;
+
+    /**
+     * ISBN 목록을 일괄 등록하는 작업을 시작합니다. (JSON 배열)
+     * 응답의 jobId로 GET /api/admin/books/import/{jobId}에서 진행 상황을 조회합니다.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BookDto.ImportJobResponse> importBooks(@RequestBody List<String> isbns){
+        return ResponseEntity.accepted().body(bookImportService.startImport(isbns));
+    }
+
+    /**
+     * ISBN 목록 파일(줄바꿈/공백/쉼표 구분)로 일괄 등록 작업을 시작합니다.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BookDto.ImportJobResponse> importBooksFromFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.accepted().body(bookImportService.startImport(inputStream));
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BookDto.ImportJobResponse> getImportJob(@PathVariable String jobId){
+        return ResponseEntity.ok(bookImportService.getJob(jobId));
+    }
+}
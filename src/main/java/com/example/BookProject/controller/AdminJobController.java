@@ -0,0 +1,76 @@
+package com.example.BookProject.controller;
+
+import com.example.BookProject.domain.JobExecution;
+import com.example.BookProject.dto.JobDto;
+import com.example.BookProject.job.JobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 백그라운드 작업 관리 API (ADMIN 전용, SecurityConfig에서 /api/admin/** 제한)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jobs")
+public class AdminJobController {
+
+    private static final int MAX_EXECUTIONS = 100;
+
+    private final JobRunner jobRunner;
+
+    /**
+     * 등록된 작업 목록과 실행 중인 실행
+     */
+    @GetMapping
+    public ResponseEntity<List<JobDto.JobResponse>> getJobs() {
+        List<JobDto.JobResponse> jobs = jobRunner.jobNames().stream()
+                .map(name -> new JobDto.JobResponse(name, jobRunner.activeExecutionId(name)))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(jobs);
+    }
+
+    /**
+     * 작업을 실행합니다. 같은 작업이 이미 실행 중이면 409를 반환합니다.
+     * 예시: POST /api/admin/jobs/excel-import  {"file": "국가자료종합목록.xlsx", "apply": "true"}
+     */
+    @PostMapping("/{jobName}")
+    public ResponseEntity<JobDto.ExecutionResponse> startJob(@PathVariable String jobName,
+                                                             @RequestBody(required = false) Map<String, String> parameters,
+                                                             @AuthenticationPrincipal UserDetails userDetails) {
+        JobExecution execution = jobRunner.start(jobName, JobExecution.Trigger.MANUAL, userDetails.getUsername(),
+                parameters != null ? parameters : Map.of());
+        return ResponseEntity.accepted().body(new JobDto.ExecutionResponse(execution));
+    }
+
+    /**
+     * 최근 실행 기록 (jobName을 주면 그 작업만)
+     */
+    @GetMapping("/executions")
+    public ResponseEntity<List<JobDto.ExecutionResponse>> getExecutions(@RequestParam(required = false) String jobName,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        List<JobDto.ExecutionResponse> executions = jobRunner.recentExecutions(jobName, Math.max(1, Math.min(size, MAX_EXECUTIONS))).stream()
+                .map(JobDto.ExecutionResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(executions);
+    }
+
+    @GetMapping("/executions/{executionId}")
+    public ResponseEntity<JobDto.ExecutionResponse> getExecution(@PathVariable Long executionId) {
+        return ResponseEntity.ok(new JobDto.ExecutionResponse(jobRunner.getExecution(executionId)));
+    }
+
+    /**
+     * 실행 취소를 요청합니다. 실제로 멈추면 상태가 CANCELLED로 바뀝니다.
+     */
+    @PostMapping("/executions/{executionId}/cancel")
+    public ResponseEntity<JobDto.ExecutionResponse> cancelExecution(@PathVariable Long executionId) {
+        return ResponseEntity.accepted().body(new JobDto.ExecutionResponse(jobRunner.cancel(executionId)));
+    }
+}
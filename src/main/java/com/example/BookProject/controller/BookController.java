@@ -1,33 +1,99 @@
 package com.example.BookProject.controller;
 
 import com.example.BookProject.dto.BookDto;
+import com.example.BookProject.service.BookDeepIngestService;
 import com.example.BookProject.service.BookService;
+import com.example.BookProject.service.BookSuggestService;
+import com.example.BookProject.service.LocalBookSearchService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RestController
 @RequestMapping("/api/books")
 @RequiredArgsConstructor
 public class BookController {
 
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     private final BookService bookService;
+    private final ObjectMapper objectMapper;
+    private final BookDeepIngestService bookDeepIngestService;
+    private final LocalBookSearchService localBookSearchService;
+    private final BookSuggestService bookSuggestService;
 
+    /**
+     * 검색 결과를 DB에 저장하고 수집 결과를 반환합니다.
+     * pages를 2 이상으로 주면 여러 페이지를 병렬로 가져오는 깊은 수집 모드로 동작합니다. (응답 형태는 같음)
+     */
     @PostMapping("/search")
-    public ResponseEntity<Void> searchAndSaveBooks(@RequestParam String query){
-        bookService.searchAndSaveBooks(query);
-
-        return ResponseEntity.ok().build();
+    public ResponseEntity<BookDto.IngestResult> searchAndSaveBooks(@RequestParam String query,
+                                                                   @RequestParam(defaultValue = "1") int pages){
+        // 1페이지는 검색 캐시를 함께 쓰는 일반 경로로 저장
+        BookDto.IngestResult result = pages > 1
+                ? bookDeepIngestService.ingest(query, pages)
+                : bookService.searchAndSaveBooks(query);
+        return ResponseEntity.ok(result);
     }
 
+    /**
+     * 책 목록을 book_id 커서 기반으로 페이지 조회합니다.
+     * 예시 URL: GET /api/books?size=20 -> 응답의 nextCursor로 GET /api/books?cursor=120&size=20
+     */
     @GetMapping
-    public ResponseEntity<List<BookDto.BookResponse>> getAllBooks(){
+    public ResponseEntity<BookDto.BookPageResponse> getAllBooks(@RequestParam(required = false) Long cursor,
+                                                                @RequestParam(required = false) Integer size){
+
+        BookDto.BookPageResponse bookPage = bookService.findBooks(cursor, size);
+
+        return ResponseEntity.ok().body(bookPage);
+    }
 
-        List<BookDto.BookResponse> bookResponses = bookService.findAllBooks();
+    /**
+     * 전체 책 목록을 한 건씩 바로 응답으로 흘려보냅니다. (서버 메모리에 전체 목록을 만들지 않음)
+     * format=ndjson(기본): 한 줄에 JSON 객체 하나 / format=json: JSON 배열
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllBooks(@RequestParam(defaultValue = "ndjson") String format){
+        boolean jsonArray = "json".equalsIgnoreCase(format);
 
-        return ResponseEntity.ok().body(bookResponses);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                if (jsonArray) {
+                    generator.writeStartArray();
+                }
+                AtomicInteger written = new AtomicInteger();
+                bookService.forEachBook(book -> {
+                    try {
+                        generator.writeObject(book);
+                        if (!jsonArray) {
+                            generator.writeRaw('\n');
+                        }
+                        if (written.incrementAndGet() % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (jsonArray) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+
+        MediaType contentType = jsonArray ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON;
+        return ResponseEntity.ok().contentType(contentType).body(body);
     }
 
     @GetMapping("/search")
@@ -36,6 +102,25 @@ public class BookController {
         return ResponseEntity.ok().body(searchResults);
     }
 
+    /**
+     * 알라딘을 거치지 않고 우리 DB에 저장된 책만 대상으로 검색합니다. (BM25 순위)
+     */
+    @GetMapping("/search/local")
+    public ResponseEntity<List<BookDto.BookSearchResponse>> searchLocalBooks(@RequestParam String query,
+                                                                             @RequestParam(defaultValue = "10") int size){
+        List<BookDto.BookSearchResponse> searchResults = localBookSearchService.search(query, Math.min(size, 100));
+        return ResponseEntity.ok().body(searchResults);
+    }
+
+    /**
+     * 제목/저자 자동완성. 초성(예: ㅎㄹㅍㅌ)으로도 찾을 수 있고, 서재에 많이 담긴 책이 먼저 나옵니다.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BookDto.BookSuggestResponse>> suggestBooks(@RequestParam String query,
+                                                                         @RequestParam(defaultValue = "10") int size){
+        return ResponseEntity.ok(bookSuggestService.suggest(query, size));
+    }
+
     @PostMapping("/{isbn}")
     public ResponseEntity<Void> saveBook(@PathVariable String isbn){
         bookService.saveBookByIsbn(isbn);
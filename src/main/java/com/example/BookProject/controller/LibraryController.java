@@ -1,7 +1,9 @@
 package com.example.BookProject.controller;
 
 import com.example.BookProject.dto.LibraryDto;
+import com.example.BookProject.service.LibraryAvailabilityService;
 import com.example.BookProject.service.LibraryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,7 +18,10 @@ import java.util.List;
 @RequestMapping("/api/libraries") // 이 컨트롤러의 모든 API는 /api/libraries 로 시작
 public class LibraryController {
 
+    private static final int MAX_NEAREST = 100;
+
     private final LibraryService libraryService;
+    private final LibraryAvailabilityService libraryAvailabilityService;
 
     @GetMapping("/search")
     public ResponseEntity<List<LibraryDto.Response>> searchNearbyLibraries(
@@ -28,6 +33,21 @@ public class LibraryController {
         return ResponseEntity.ok(libraries);
     }
 
+    /**
+     * 가장 가까운 도서관 k곳을 거리순으로 조회하는 API
+     * 예시 URL: GET /api/libraries/nearest?latitude=37.56&longitude=126.97&k=5&maxDistance=50
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<LibraryDto.Response>> findNearestLibraries(
+            @RequestParam("latitude") double latitude,
+            @RequestParam("longitude") double longitude,
+            @RequestParam(value = "k", defaultValue = "10") int k,
+            @RequestParam(value = "maxDistance", required = false) Double maxDistance) {
+
+        List<LibraryDto.Response> libraries = libraryService.findNearestLibraries(latitude, longitude, Math.min(k, MAX_NEAREST), maxDistance);
+        return ResponseEntity.ok(libraries);
+    }
+
     /**
      * 특정 도서관의 도서 대출 가능 여부를 확인하는 API
      * 예시 URL: GET /api/libraries/141002/availability?isbn=9788937460451
@@ -40,10 +60,23 @@ public class LibraryController {
             @PathVariable("d4lLibCode") Long d4lLibCode,
             @RequestParam("isbn") String isbn) {
 
-        LibraryDto.AvailabilityResponse availability = libraryService.checkBookAvailability(d4lLibCode, isbn);
+        LibraryDto.AvailabilityResponse availability = libraryAvailabilityService.checkBookAvailability(d4lLibCode, isbn);
         return ResponseEntity.ok(availability);
     }
 
+    /**
+     * 여러 도서관 × 여러 ISBN의 대출 가능 여부를 한 번에 조회하는 API
+     * 예시: POST /api/libraries/availability {"libCodes": [141002, 111003], "isbns": ["9788937460451"]}
+     * 제한 시간 안에 응답하지 않은 칸은 status=TIMEOUT, 실패한 칸은 status=ERROR로 표시됩니다.
+     */
+    @PostMapping("/availability")
+    public ResponseEntity<LibraryDto.AvailabilityMatrixResponse> checkAvailabilityMatrix(
+            @Valid @RequestBody LibraryDto.AvailabilityMatrixRequest request) {
+
+        LibraryDto.AvailabilityMatrixResponse matrix = libraryAvailabilityService.checkAvailabilityMatrix(request.getLibCodes(), request.getIsbns());
+        return ResponseEntity.ok(matrix);
+    }
+
     // --- '내 도서관' 관련 API (API 명세서 기반) ---
     // 참고: 실제 구현 시에는 @AuthenticationPrincipal 등을 통해 로그인된 사용자 정보를 가져와야 합니다.
     // 지금은 userId를 파라미터로 받는다고 가정하겠습니다.
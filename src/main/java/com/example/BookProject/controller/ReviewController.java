@@ -1,7 +1,9 @@
 package com.example.BookProject.controller;
 
+import com.example.BookProject.dto.ReviewPageResponseDto;
 import com.example.BookProject.dto.ReviewRequestDto;
 import com.example.BookProject.dto.ReviewResponseDto;
+import com.example.BookProject.dto.ReviewSort;
 import com.example.BookProject.service.ReviewService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +13,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -37,16 +38,26 @@ public class ReviewController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
-    @GetMapping("/books/{isbn}/reviews")
-    public ResponseEntity<List<ReviewResponseDto>> getReviewsByBookIsbn(@PathVariable String isbn) {
-        List<ReviewResponseDto> reviews = reviewService.getReviewsByBookIsbn(isbn);
+    /**
+     * 책의 리뷰 목록을 커서 기반으로 페이지 조회합니다. sort는 newest(기본) 또는 rating입니다.
+     * 예시 URL: GET /api/reviews/books/3/reviews?sort=rating&size=20 -> 응답의 nextCursor로 같은 sort와 함께 ?cursor=... 조회
+     */
+    @GetMapping("/books/{bookId}/reviews")
+    public ResponseEntity<ReviewPageResponseDto> getReviewsByBookId(@PathVariable Long bookId,
+                                                                    @RequestParam(required = false) String sort,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer size) {
+        ReviewPageResponseDto reviews = reviewService.getReviewsByBookId(bookId, ReviewSort.from(sort), cursor, size);
         return ResponseEntity.ok(reviews);
     }
 
-    // 여기에 리뷰 목록 조회, 단건 조회, 수정, 삭제 API가 추가될 수 있습니다.
-    @GetMapping("/books/{bookId}/reviews")
-    public ResponseEntity<List<ReviewResponseDto>> getReivewsByBookId(@PathVariable Long bookId) {
-        List<ReviewResponseDto> reviews = reviewService.getReviewsByBookId(bookId);
+    // bookId 경로와 겹치지 않도록 ISBN 조회는 /books/isbn/{isbn}/reviews로 분리
+    @GetMapping("/books/isbn/{isbn}/reviews")
+    public ResponseEntity<ReviewPageResponseDto> getReviewsByBookIsbn(@PathVariable String isbn,
+                                                                      @RequestParam(required = false) String sort,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size) {
+        ReviewPageResponseDto reviews = reviewService.getReviewsByBookIsbn(isbn, ReviewSort.from(sort), cursor, size);
         return ResponseEntity.ok(reviews);
     }
 
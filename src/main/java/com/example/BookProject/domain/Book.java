@@ -48,4 +48,12 @@ public class Book extends BaseEntity {
         this.publishedAt = publishedAt;
         this.description = description;
     }
+
+    // JPA를 거치지 않고 JDBC로 일괄 저장(BookBulkRepository)한 뒤, DB가 매긴 book_id를 채울 때만 사용
+    public void assignGeneratedId(Long id) {
+        if (this.id != null) {
+            throw new IllegalStateException("이미 ID가 있는 책입니다: " + this.id);
+        }
+        this.id = id;
+    }
 }
@@ -0,0 +1,115 @@
+package com.example.BookProject.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업(도서관 동기화, 엑셀 가져오기, 베스트셀러 갱신 등) 한 번의 실행 기록입니다.
+ * 같은 작업은 QUEUED/RUNNING 상태의 실행이 하나만 있을 수 있습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_executions", indexes = @Index(name = "idx_job_executions_name", columnList = "job_name, job_execution_id"))
+public class JobExecution extends BaseEntity {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    public enum Trigger {
+        MANUAL,     // 관리자 API로 실행
+        SCHEDULED   // 스케줄로 실행
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_execution_id")
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_type", nullable = false, length = 20)
+    private Trigger trigger;
+
+    // 실행을 요청한 관리자 이메일 (스케줄 실행이면 null)
+    @Column(name = "requested_by")
+    private String requestedBy;
+
+    // 작업 파라미터 (JSON)
+    @Column(name = "parameters", columnDefinition = "TEXT")
+    private String parameters;
+
+    @Column(name = "progress_current", nullable = false)
+    private long progressCurrent;
+
+    // 전체 작업량 (알 수 없으면 null)
+    @Column(name = "progress_total")
+    private Long progressTotal;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    // 완료 시 결과 요약, 실패 시 에러 메시지
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_millis")
+    private Long durationMillis;
+
+    public JobExecution(String jobName, Trigger trigger, String requestedBy, String parameters) {
+        this.jobName = jobName;
+        this.status = Status.QUEUED;
+        this.trigger = trigger;
+        this.requestedBy = requestedBy;
+        this.parameters = parameters;
+    }
+
+    public void start() {
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void updateProgress(long current, Long total) {
+        this.progressCurrent = current;
+        this.progressTotal = total;
+    }
+
+    public void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    public void finish(Status status, String message) {
+        this.status = status;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        if (startedAt != null) {
+            this.durationMillis = Duration.between(startedAt, finishedAt).toMillis();
+        }
+    }
+}
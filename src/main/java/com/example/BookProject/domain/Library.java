@@ -4,6 +4,10 @@ import com.example.BookProject.dto.LibraryDto;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -38,6 +42,14 @@ public class Library {
     @Column(name = "longitude", nullable = false)
     private Double longitude;
 
+    // 정보나루에서 받은 내용(이름, 주소, 연락처, 좌표)의 해시. 동기화 때 바뀐 도서관만 갱신하는 데 사용
+    @Column(name = "content_hash")
+    private Long contentHash;
+
+    // 정보나루 목록에서 사라진(폐관 등) 시각. null이면 운영 중
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @Builder
     public Library(Long d4lLibCode, String libName, String address, String tel, String homepage, Double latitude, Double longitude) {
         this.d4lLibCode = d4lLibCode;
@@ -53,4 +65,27 @@ public class Library {
         this.d4lLibCode = d4lLibCode;
     }
 
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    /**
+     * 정보나루에서 받아오는 필드들로 계산한 64비트 해시 (SHA-256의 앞 8바이트)
+     */
+    public long computeContentHash() {
+        String content = String.join("\u0000",
+                String.valueOf(libName), String.valueOf(address), String.valueOf(tel), String.valueOf(homepage),
+                String.valueOf(latitude), String.valueOf(longitude));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
@@ -0,0 +1,53 @@
+package com.example.BookProject.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 동기화 회차에서 처리를 마친 페이지(체크포인트)입니다.
+ * 그 페이지에 있던 도서관 코드를 함께 저장해 두어, 중간에 멈췄다가 이어서 진행해도
+ * 회차 전체에서 본 도서관 목록(= 폐관 판정 기준)을 다시 만들 수 있습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "library_sync_pages",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"sync_run_id", "page_no"}))
+public class LibrarySyncPage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sync_page_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sync_run_id", nullable = false)
+    private LibrarySyncRun run;
+
+    @Column(name = "page_no", nullable = false)
+    private int pageNo;
+
+    // 쉼표로 구분한 정보나루 도서관 코드 목록
+    @Column(name = "lib_codes", nullable = false, columnDefinition = "TEXT")
+    private String libCodes;
+
+    public LibrarySyncPage(LibrarySyncRun run, int pageNo, Collection<Long> libCodes) {
+        this.run = run;
+        this.pageNo = pageNo;
+        this.libCodes = libCodes.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public List<Long> getLibCodeList() {
+        if (libCodes.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(libCodes.split(",")).map(Long::valueOf).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.BookProject.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정보나루 전체 도서관 동기화 한 회차의 진행 상태입니다.
+ * RUNNING인 회차가 남아 있으면 다음 동기화는 새로 시작하지 않고 이 회차를 이어서 진행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "library_sync_runs")
+public class LibrarySyncRun extends BaseEntity {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sync_run_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "page_size", nullable = false)
+    private int pageSize;
+
+    // 정보나루가 알려준 전체 페이지 수 (첫 페이지를 받기 전이거나 알 수 없으면 null)
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Column(name = "inserted_count", nullable = false)
+    private int insertedCount;
+
+    @Column(name = "updated_count", nullable = false)
+    private int updatedCount;
+
+    @Column(name = "deleted_count", nullable = false)
+    private int deletedCount;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public LibrarySyncRun(int pageSize) {
+        this.status = Status.RUNNING;
+        this.pageSize = pageSize;
+    }
+
+    public void setTotalPages(Integer totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public void addChanges(int inserted, int updated) {
+        this.insertedCount += inserted;
+        this.updatedCount += updated;
+    }
+
+    public void complete(int deleted) {
+        this.deletedCount = deleted;
+        this.status = Status.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
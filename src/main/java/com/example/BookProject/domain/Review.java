@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 책별 리뷰 목록의 키셋 페이지 조회용 (최신순 / 평점순)
+        @Index(name = "idx_reviews_book_created", columnList = "book_id, created_at DESC, review_id DESC"),
+        @Index(name = "idx_reviews_book_rating", columnList = "book_id, rating DESC, review_id DESC")
+})
 public class Review {
 
     @Id
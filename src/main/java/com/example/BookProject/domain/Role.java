@@ -0,0 +1,9 @@
+package com.example.BookProject.domain;
+
+/**
+ * 사용자 권한. Spring Security에는 "ROLE_" 접두사를 붙여 전달됩니다.
+ */
+public enum Role {
+    USER,
+    ADMIN
+}
@@ -45,6 +45,11 @@ public class User implements UserDetails {
     @Column(name = "user_img")
     private String userImg;
 
+    // 관리자 API(/api/admin/**)는 ADMIN만 호출할 수 있음. 관리자 지정은 DB에서 직접 합니다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_role", nullable = false)
+    private Role role = Role.USER;
+
     @CreationTimestamp // 엔티티가 처음 생성될 때 시간 자동 저장
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -80,8 +85,7 @@ public class User implements UserDetails {
     //UserDetails 인터페이스 구현
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        //일단 모든 유저에게 Role_User 권한 부여, 나중에 admin, user로 나누는 과정 필요
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -14,6 +14,9 @@ public class AladinDto {
     @NoArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class AladinResponse {
+        private Integer totalResults;  // 전체 검색 결과 수
+        private Integer startIndex;    // 이번 응답의 시작 위치
+        private Integer itemsPerPage;  // 한 페이지당 결과 수
         private List<Item> item;
     }
 
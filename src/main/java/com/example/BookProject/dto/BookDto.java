@@ -1,10 +1,15 @@
 package com.example.BookProject.dto;
 
 import com.example.BookProject.domain.Book;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class BookDto {
 
     @Getter
@@ -29,6 +34,17 @@ public class BookDto {
         }
     }
 
+    /**
+     * 커서 기반 페이지 응답. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 조회합니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BookPageResponse {
+        private List<BookResponse> content;
+        private Long nextCursor;   // 다음 페이지가 없으면 null
+        private boolean hasNext;
+    }
+
     @Getter
     @RequiredArgsConstructor
     public static class BookSearchResponse {
@@ -49,5 +65,71 @@ public class BookDto {
             this.description = item.getDescription();
             this.publishedAt = item.getPubDate();
         }
+
+        public BookSearchResponse(Book book) {
+            this.title = book.getTitle();
+            this.author = book.getAuthor();
+            this.publisher = book.getPublisher();
+            this.isbn = book.getIsbn();
+            this.bookImg = book.getBookImg();
+            this.description = book.getDescription();
+            this.publishedAt = book.getPublishedAt();
+        }
+    }
+
+    /**
+     * 자동완성 후보 한 건
+     */
+    @Getter
+    public static class BookSuggestResponse {
+        private String isbn;
+        private String title;
+        private String author;
+        private String bookImg;
+
+        public BookSuggestResponse(Book book) {
+            this.isbn = book.getIsbn();
+            this.title = book.getTitle();
+            this.author = book.getAuthor();
+            this.bookImg = book.getBookImg();
+        }
+    }
+
+    /**
+     * 외부 API에서 가져와 저장한 결과 (가져온 책 수 / 새로 저장된 책 수 / 가져오지 못한 페이지 수)
+     * failedPages가 0보다 크면 일부 페이지만 저장된 결과입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class IngestResult {
+        private int fetchedCount;
+        private int insertedCount;
+        private int failedPages;
+
+        public IngestResult(int fetchedCount, int insertedCount) {
+            this(fetchedCount, insertedCount, 0);
+        }
+    }
+
+    /**
+     * ISBN 일괄 등록 작업의 진행 상황. throughputPerSecond는 알라딘 조회가 끝난 ISBN 기준 초당 처리량입니다.
+     */
+    @Getter
+    @Builder
+    public static class ImportJobResponse {
+        private String jobId;
+        private String status;              // QUEUED, RUNNING, COMPLETED, FAILED
+        private int requestedCount;         // 요청에 담긴 ISBN 수
+        private int invalidCount;           // 형식이 잘못된 ISBN 수
+        private int duplicateCount;         // 요청 안에서 중복된 ISBN 수
+        private int existingCount;          // 이미 DB에 있던 ISBN 수
+        private int toLookUpCount;          // 알라딘에서 조회할 ISBN 수
+        private int lookedUpCount;          // 조회가 끝난 ISBN 수 (성공/없음/실패 포함)
+        private int notFoundCount;          // 알라딘에 없는 ISBN 수
+        private int failedCount;            // 호출이 실패한 ISBN 수
+        private int insertedCount;          // 새로 저장된 책 수
+        private double throughputPerSecond;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
     }
 }
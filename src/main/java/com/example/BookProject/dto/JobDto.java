@@ -0,0 +1,58 @@
+package com.example.BookProject.dto;
+
+import com.example.BookProject.domain.JobExecution;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class JobDto {
+
+    /**
+     * 등록된 작업과 현재 실행 중인 실행 ID (없으면 null)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class JobResponse {
+        private String name;
+        private Long activeExecutionId;
+    }
+
+    /**
+     * 작업 실행 한 번의 상태
+     */
+    @Getter
+    public static class ExecutionResponse {
+        private Long executionId;
+        private String jobName;
+        private String status;          // QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+        private String trigger;         // MANUAL, SCHEDULED
+        private String requestedBy;
+        private String parameters;      // JSON
+        private long progressCurrent;
+        private Long progressTotal;     // 전체 작업량을 모르면 null
+        private boolean cancelRequested;
+        private String message;         // 완료 시 결과 요약, 실패 시 에러 메시지
+        private LocalDateTime createdAt;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private Long durationMillis;
+
+        public ExecutionResponse(JobExecution execution) {
+            this.executionId = execution.getId();
+            this.jobName = execution.getJobName();
+            this.status = execution.getStatus().name();
+            this.trigger = execution.getTrigger().name();
+            this.requestedBy = execution.getRequestedBy();
+            this.parameters = execution.getParameters();
+            this.progressCurrent = execution.getProgressCurrent();
+            this.progressTotal = execution.getProgressTotal();
+            this.cancelRequested = execution.isCancelRequested();
+            this.message = execution.getMessage();
+            this.createdAt = execution.getCreatedAt();
+            this.startedAt = execution.getStartedAt();
+            this.finishedAt = execution.getFinishedAt();
+            this.durationMillis = execution.getDurationMillis();
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.example.BookProject.dto;
 
 import com.example.BookProject.domain.Library;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -20,6 +23,8 @@ public class LibraryDto {
         private String homepage;
         private Double latitude;
         private Double longitude;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double distanceKm;  // 위치 기반 검색에서만 채워지는 검색 위치로부터의 거리
 
         public Response(Library library) {
             this.id = library.getId();
@@ -31,6 +36,18 @@ public class LibraryDto {
             this.latitude = library.getLatitude();
             this.longitude = library.getLongitude();
         }
+
+        public Response(Response response, double distanceKm) {
+            this.id = response.id;
+            this.d4lLibCode = response.d4lLibCode;
+            this.libName = response.libName;
+            this.address = response.address;
+            this.tel = response.tel;
+            this.homepage = response.homepage;
+            this.latitude = response.latitude;
+            this.longitude = response.longitude;
+            this.distanceKm = Math.round(distanceKm * 1000) / 1000.0;
+        }
     }
 
     @Getter
@@ -38,17 +55,81 @@ public class LibraryDto {
     public static class AvailabilityResponse {
         private Long libCode;
         private String isbn13;
-        private Boolean hasBook;
-        private Boolean loanAvailable;
+        private AvailabilityStatus status;
+        private Boolean hasBook;        // status가 OK가 아니면 null (알 수 없음)
+        private Boolean loanAvailable;  // status가 OK가 아니면 null (알 수 없음)
 
-        public AvailabilityResponse(Long libCode, String isbn13, boolean hasBook, boolean loanAvailable) {
+        public AvailabilityResponse(Long libCode, String isbn13, AvailabilityStatus status, Boolean hasBook, Boolean loanAvailable) {
             this.libCode = libCode;
             this.isbn13 = isbn13;
+            this.status = status;
             this.hasBook = hasBook;
             this.loanAvailable = loanAvailable;
         }
     }
 
+    /**
+     * 여러 도서관 × 여러 ISBN의 대출 가능 여부를 한 번에 조회하는 요청
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class AvailabilityMatrixRequest {
+        @NotEmpty(message = "도서관 코드는 하나 이상 필요합니다.")
+        private List<Long> libCodes;
+        @NotEmpty(message = "ISBN은 하나 이상 필요합니다.")
+        private List<String> isbns;
+    }
+
+    /**
+     * 조회 결과 상태. OK가 아닌 칸은 hasBook/loanAvailable이 null입니다.
+     */
+    public enum AvailabilityStatus {
+        OK,         // 정보나루에서 결과를 받음
+        TIMEOUT,    // 제한 시간 안에 응답을 받지 못함
+        ERROR       // 호출 또는 응답 해석 실패
+    }
+
+    /**
+     * 대출 가능 여부 일괄 조회 결과. 일부 칸이 실패해도 나머지 결과는 그대로 반환합니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AvailabilityMatrixResponse {
+        private List<AvailabilityResponse> cells;
+        private int okCount;
+        private int timeoutCount;
+        private int errorCount;
+    }
+
+    /**
+     * 정보나루 전체 도서관 동기화 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SyncResult {
+        private int pageCount;      // 가져온 페이지 수
+        private int failedPages;    // 가져오지 못한 페이지 수
+        private int fetchedCount;   // 정보나루에서 받은 도서관 수
+        private int insertedCount;  // 새로 저장한 도서관 수
+        private int updatedCount;   // 내용이 바뀌어 갱신한 도서관 수
+        private int deletedCount;   // 목록에서 사라져 폐관 처리한 도서관 수
+    }
+
+    /**
+     * 국가자료종합목록 엑셀 가져오기 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ExcelImportResult {
+        private boolean applied;    // false면 DB를 바꾸지 않은 dry run
+        private long rowCount;      // 엑셀에서 읽은 행 수 (머리글 포함)
+        private int duplicateCount; // 기존 도서관과 같은 곳으로 판정한 행 수
+        private int newCount;       // 신규 도서관으로 판정한 행 수
+        private int skippedCount;   // 이름이 비었거나 좌표가 없어 반영할 수 없는 행 수
+        private int insertedCount;  // 새로 저장한 도서관 수
+        private int mergedCount;    // 빈 필드를 채운 기존 도서관 수
+    }
+
     //--- 아래부터는 외부 API의 JSON 응답을 Java 객체로 매핑하기 위한 클래스들 ---//
 
     /**
@@ -69,6 +150,7 @@ public class LibraryDto {
 
         @Getter
         @NoArgsConstructor
+        @JsonIgnoreProperties(ignoreUnknown = true)
         public static class Lib {
             private LibData lib;
         }
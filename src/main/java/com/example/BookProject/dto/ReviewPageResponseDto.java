@@ -0,0 +1,17 @@
+package com.example.BookProject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 리뷰 목록의 커서 기반 페이지 응답. 다음 페이지는 nextCursor를 같은 sort와 함께 cursor 파라미터로 넘겨서 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewPageResponseDto {
+    private final List<ReviewResponseDto> content;
+    private final String nextCursor;   // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+}
@@ -23,4 +23,16 @@ public class ReviewResponseDto {
         this.bookId = review.getBook().getId();
         this.createdAt = review.getCreatedAt();
     }
-}
\ No newline at end of file
+
+    // 목록 조회 JPQL의 생성자 표현식(SELECT new ...)용: 엔티티를 거치지 않아 작성자/책을 따로 불러오지 않음
+    public ReviewResponseDto(Long reviewId, String content, String reviewImg, Float rating,
+                             String authorNickname, Long bookId, LocalDateTime createdAt) {
+        this.reviewId = reviewId;
+        this.content = content;
+        this.reviewImg = reviewImg;
+        this.rating = rating;
+        this.authorNickname = authorNickname;
+        this.bookId = bookId;
+        this.createdAt = createdAt;
+    }
+}
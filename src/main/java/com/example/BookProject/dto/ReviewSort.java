@@ -0,0 +1,27 @@
+package com.example.BookProject.dto;
+
+import java.util.Locale;
+
+/**
+ * 리뷰 목록 정렬 기준. 같은 값이면 나중에 작성된(review_id가 큰) 리뷰가 먼저 옵니다.
+ */
+public enum ReviewSort {
+    NEWEST, // 최신순
+    RATING; // 평점 높은 순
+
+    /**
+     * 요청 파라미터를 대소문자 구분 없이 변환합니다. 비어 있으면 최신순입니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준
+     */
+    public static ReviewSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value + " (newest, rating)");
+        }
+    }
+}
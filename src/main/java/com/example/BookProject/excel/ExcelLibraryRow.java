@@ -0,0 +1,28 @@
+package com.example.BookProject.excel;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 국가자료종합목록 엑셀에서 읽은 도서관 한 행
+ * 이름과 주소 외의 열은 엑셀에 없거나 비어 있으면 null입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ExcelLibraryRow {
+    private final int rowNum;
+    private final String libName;
+    private final String address;
+    private final String tel;
+    private final String homepage;
+    private final Double latitude;
+    private final Double longitude;
+
+    public ExcelLibraryRow(int rowNum, String libName, String address) {
+        this(rowNum, libName, address, null, null, null, null);
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+}
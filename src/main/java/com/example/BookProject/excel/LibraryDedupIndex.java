@@ -0,0 +1,115 @@
+package com.example.BookProject.excel;
+
+import com.example.BookProject.domain.Library;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 엑셀 도서관 목록을 DB 도서관과 비교할 때 비교 대상을 줄이기 위한 블로킹(blocking) 색인입니다.
+ *
+ * - 주소 블록: 정규화한 주소 키(시/도 + 시/군/구 + 읍/면/동)가 같은 도서관끼리 묶습니다.
+ *   주소를 정규화할 수 있는 행은 같은 블록 안의 도서관과만 비교합니다.
+ * - 이름 블록: 주소를 정규화하지 못한 행을 위해, 정규화한 이름의 글자 bigram으로도 색인합니다.
+ *   질의 이름의 bigram 중 minGramOverlap 비율 이상을 공유하는 도서관만 후보로 돌려줍니다.
+ *
+ * 키는 호출하는 쪽에서 정규화해서 넘기며, 한 번 만든 뒤에는 읽기만 합니다.
+ */
+public class LibraryDedupIndex {
+
+    private final Map<String, List<Entry>> byAddressKey = new HashMap<>();
+    private final Map<String, List<Entry>> byNameGram = new HashMap<>();
+    private final double minGramOverlap;
+    private int size;
+
+    public LibraryDedupIndex(double minGramOverlap) {
+        this.minGramOverlap = minGramOverlap;
+    }
+
+    public void add(Library library, String nameKey, String addressKey) {
+        if (nameKey.isEmpty()) {
+            return;
+        }
+        Entry entry = new Entry(library, nameKey, addressKey);
+        if (!addressKey.isEmpty()) {
+            byAddressKey.computeIfAbsent(addressKey, key -> new ArrayList<>()).add(entry);
+        }
+        for (String gram : nameGrams(nameKey)) {
+            byNameGram.computeIfAbsent(gram, key -> new ArrayList<>()).add(entry);
+        }
+        size++;
+    }
+
+    /**
+     * 주소 키가 같은 도서관 목록 (없으면 빈 목록)
+     */
+    public List<Entry> addressBlock(String addressKey) {
+        return byAddressKey.getOrDefault(addressKey, List.of());
+    }
+
+    /**
+     * 이름 bigram을 충분히 공유하는 도서관 목록. 주소로 블록을 정할 수 없는 행에 사용합니다.
+     */
+    public List<Entry> nameBlock(String nameKey) {
+        Set<String> grams = nameGrams(nameKey);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        int required = Math.max(1, (int) Math.ceil(grams.size() * minGramOverlap));
+
+        Map<Entry, Integer> sharedGrams = new IdentityHashMap<>();
+        for (String gram : grams) {
+            for (Entry entry : byNameGram.getOrDefault(gram, List.of())) {
+                sharedGrams.merge(entry, 1, Integer::sum);
+            }
+        }
+        List<Entry> block = new ArrayList<>();
+        sharedGrams.forEach((entry, shared) -> {
+            if (shared >= required) {
+                block.add(entry);
+            }
+        });
+        return block;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int addressBlockCount() {
+        return byAddressKey.size();
+    }
+
+    /**
+     * 겹치는 두 글자씩 자른 조각 (한 글자 이름은 그 글자 하나)
+     */
+    static Set<String> nameGrams(String nameKey) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (nameKey.length() == 1) {
+            grams.add(nameKey);
+            return grams;
+        }
+        for (int i = 0; i + 1 < nameKey.length(); i++) {
+            grams.add(nameKey.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인된 도서관 한 곳과 그 정규화된 키
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Library library;
+        private final String nameKey;
+        private final String addressKey;
+    }
+}
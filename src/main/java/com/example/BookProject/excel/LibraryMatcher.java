@@ -0,0 +1,327 @@
+package com.example.BookProject.excel;
+
+import com.example.BookProject.domain.Library;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엑셀 도서관 행이 이미 DB에 있는 도서관과 같은 곳인지 판정하는 매칭 엔진입니다.
+ *
+ * - 정규화에 쓰는 정규식은 미리 컴파일해 두고, 같은 이름/주소의 정규화 결과는 기억해 두었다가 재사용합니다.
+ * - 이름 유사도는 Jaro-Winkler와 Levenshtein 유사도의 평균입니다. Jaro-Winkler를 먼저 계산해서
+ *   임계값에 닿을 수 있는 최대 편집 거리를 구하고, Levenshtein은 그 거리를 넘는 순간 계산을 멈춥니다.
+ * - 비교 대상은 {@link LibraryDedupIndex}의 같은 블록으로 한정하고, 여러 행을 전용 ForkJoinPool에서 병렬로 판정합니다.
+ *
+ * 한 번의 가져오기 작업 동안 만들어 쓰고 닫습니다. (정규화 결과 캐시는 작업이 끝나면 함께 버립니다)
+ */
+public class LibraryMatcher implements AutoCloseable {
+
+    public static final double DEFAULT_THRESHOLD = 0.90;
+
+    // 주소로 블록을 정할 수 없는 행은 이름 bigram을 이 비율 이상 공유하는 도서관만 비교
+    private static final double NAME_GRAM_OVERLAP = 0.5;
+    // 판정 결과에 남길 최대 후보 수
+    private static final int MAX_RANKED = 3;
+
+    private static final Pattern PARENTHESES = Pattern.compile("\\(.*?\\)");
+    private static final Pattern GENERIC_WORDS = Pattern.compile("도서관|자료실|정보관|분관|본관|작은|시립|구립|군립|국립|도립");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^가-힣a-zA-Z0-9]");
+    // '시/도'(선택), '시/군/구'(필수), '읍/면/동'(선택)
+    private static final Pattern CORE_ADDRESS = Pattern.compile(
+            "([가-힣]+(특별시|광역시|특별자치시|도|특별자치도))?" +
+            "\\s*([가-힣]+(시|군|구))" +
+            "(\\s*[가-힣]+(읍|면|동))?");
+    private static final Pattern SPACE = Pattern.compile(" ");
+    // 주소를 정규화하지 못했다는 표시 (ConcurrentHashMap에는 null을 넣을 수 없음)
+    private static final String NO_CORE_ADDRESS = "";
+
+    // 상태가 없는 객체라 여러 스레드가 함께 사용해도 안전
+    private static final JaroWinklerSimilarity JARO_WINKLER = new JaroWinklerSimilarity();
+
+    private final double threshold;
+    private final LibraryDedupIndex index;
+    private final ForkJoinPool pool;
+    private final Map<String, String> nameKeys = new ConcurrentHashMap<>();
+    private final Map<String, String> addressKeys = new ConcurrentHashMap<>();
+    private final Map<String, String> coreAddressKeys = new ConcurrentHashMap<>();
+    private int acceptedCount;
+
+    public LibraryMatcher(Collection<Library> libraries, double threshold, int parallelism) {
+        this.threshold = threshold;
+        this.index = new LibraryDedupIndex(NAME_GRAM_OVERLAP);
+        for (Library library : libraries) {
+            index.add(library, normalizeName(library.getLibName()), normalizeAddress(library.getAddress()));
+        }
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("library-match-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 여러 행을 병렬로 판정하고, 입력 순서대로 결과를 반환합니다.
+     */
+    public List<MatchDecision> decideAll(List<ExcelLibraryRow> rows) {
+        return pool.submit(() -> rows.parallelStream().map(this::decide).toList()).join();
+    }
+
+    /**
+     * 행 하나를 같은 블록의 도서관들과 비교해 판정합니다.
+     * 임계값을 넘는 후보가 있으면 DUPLICATE(점수 높은 순으로 최대 MAX_RANKED개), 없으면 NEW입니다.
+     * NEW인 경우 Jaro-Winkler가 가장 높았던 후보를 정확한 점수와 함께 참고용으로 남깁니다.
+     */
+    public MatchDecision decide(ExcelLibraryRow row) {
+        String nameKey = normalizeName(row.getLibName());
+        String coreAddress = extractCoreAddress(row.getAddress());
+        String addressKey = coreAddress != null ? coreAddress : normalizeAddress(row.getAddress());
+        // 주소를 시/군/구 단위까지 정규화할 수 있으면 주소 블록, 아니면 이름 bigram 블록에서 후보를 찾음
+        MatchDecision.Block blockKind = coreAddress != null ? MatchDecision.Block.ADDRESS : MatchDecision.Block.NAME;
+        if (nameKey.isEmpty()) {
+            return new MatchDecision(row, nameKey, addressKey, blockKind, MatchDecision.Type.SKIPPED, List.of(), null);
+        }
+
+        List<LibraryDedupIndex.Entry> block = blockKind == MatchDecision.Block.ADDRESS
+                ? index.addressBlock(coreAddress)
+                : index.nameBlock(nameKey);
+
+        List<ScoredCandidate> matches = new ArrayList<>();
+        LibraryDedupIndex.Entry closest = null;
+        double closestJaroWinkler = -1;
+        for (LibraryDedupIndex.Entry entry : block) {
+            double jaroWinkler = JARO_WINKLER.apply(nameKey, entry.getNameKey());
+            double score = similarityAtLeast(nameKey, entry.getNameKey(), jaroWinkler, threshold);
+            if (score > threshold) {
+                matches.add(new ScoredCandidate(entry.getLibrary(), score));
+            } else if (matches.isEmpty() && jaroWinkler > closestJaroWinkler) {
+                closestJaroWinkler = jaroWinkler;
+                closest = entry;
+            }
+        }
+
+        if (!matches.isEmpty()) {
+            matches.sort(Comparator.comparingDouble(ScoredCandidate::getScore).reversed());
+            List<ScoredCandidate> ranked = List.copyOf(matches.subList(0, Math.min(MAX_RANKED, matches.size())));
+            return new MatchDecision(row, nameKey, addressKey, blockKind, MatchDecision.Type.DUPLICATE, ranked, ranked.get(0));
+        }
+        ScoredCandidate nearestMiss = closest == null ? null
+                : new ScoredCandidate(closest.getLibrary(), similarity(nameKey, closest.getNameKey()));
+        return new MatchDecision(row, nameKey, addressKey, blockKind, MatchDecision.Type.NEW, List.of(), nearestMiss);
+    }
+
+    /**
+     * Jaro-Winkler와 Levenshtein 유사도의 평균 (가지치기 없이 끝까지 계산)
+     */
+    public double similarity(String left, String right) {
+        return similarityAtLeast(left, right, JARO_WINKLER.apply(left, right), 0);
+    }
+
+    /**
+     * 최종 점수가 minScore 이상이 될 수 있을 때만 Levenshtein 거리를 계산해 점수를 반환하고, 아니면 -1을 반환합니다.
+     * (jw + 1 - d / maxLength) / 2 >= minScore 이려면 d <= maxLength * (1 - 2 * minScore + jw) 여야 합니다.
+     */
+    double similarityAtLeast(String left, String right, double jaroWinkler, double minScore) {
+        int maxLength = Math.max(left.length(), right.length());
+        if (maxLength == 0) {
+            return 1.0;
+        }
+        double distanceBudget = maxLength * (1 - 2 * minScore + jaroWinkler);
+        if (distanceBudget < 0) {
+            return -1;
+        }
+        int distance = boundedLevenshtein(left, right, (int) Math.floor(distanceBudget + 1e-9));
+        if (distance < 0) {
+            return -1;
+        }
+        return (jaroWinkler + 1.0 - (double) distance / maxLength) / 2.0;
+    }
+
+    /**
+     * maxDistance 이하일 때만 편집 거리를 반환하고, 넘으면 -1을 반환합니다.
+     * 대각선에서 maxDistance 이내의 칸만 계산하고, 한 줄의 최솟값이 maxDistance를 넘으면 바로 멈춥니다.
+     */
+    static int boundedLevenshtein(CharSequence left, CharSequence right, int maxDistance) {
+        int n = left.length();
+        int m = right.length();
+        if (Math.abs(n - m) > maxDistance) {
+            return -1;
+        }
+        if (n == 0 || m == 0) {
+            return Math.max(n, m);
+        }
+
+        final int outside = Integer.MAX_VALUE / 2;
+        int[] previous = new int[n + 1];
+        int[] current = new int[n + 1];
+        for (int i = 0; i <= n; i++) {
+            previous[i] = i <= maxDistance ? i : outside;
+        }
+        for (int j = 1; j <= m; j++) {
+            char rightChar = right.charAt(j - 1);
+            int from = Math.max(1, j - maxDistance);
+            int to = Math.min(n, j + maxDistance);
+            current[0] = j <= maxDistance ? j : outside;
+            if (from > 1) {
+                current[from - 1] = outside;
+            }
+            int rowMin = from == 1 ? current[0] : outside;
+            for (int i = from; i <= to; i++) {
+                int cost = left.charAt(i - 1) == rightChar ? 0 : 1;
+                int value = Math.min(Math.min(current[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+                current[i] = value;
+                if (value < rowMin) {
+                    rowMin = value;
+                }
+            }
+            if (to < n) {
+                current[to + 1] = outside;
+            }
+            if (rowMin > maxDistance) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[n] <= maxDistance ? previous[n] : -1;
+    }
+
+    /**
+     * [개선된 버전] 이름의 고유성을 살리기 위해 지역명은 제거하지 않습니다.
+     */
+    public String normalizeName(String name) {
+        if (name == null || name.isBlank()) {
+            return "";
+        }
+        return nameKeys.computeIfAbsent(name, key -> {
+            String withoutParentheses = PARENTHESES.matcher(key.trim()).replaceAll(""); // 괄호와 그 안의 내용 제거
+            String withoutGenericWords = GENERIC_WORDS.matcher(withoutParentheses).replaceAll(""); // 일반적인 단어만 제거
+            return NON_ALPHANUMERIC.matcher(withoutGenericWords).replaceAll(""); // 특수문자/공백 제거
+        });
+    }
+
+    /**
+     * [개선된 버전] 주소에서 '읍/면/동'까지 추출하여 더 상세한 키를 만듭니다.
+     */
+    public String normalizeAddress(String fullAddress) {
+        if (fullAddress == null || fullAddress.isBlank()) {
+            return "";
+        }
+        return addressKeys.computeIfAbsent(fullAddress, key -> {
+            String coreAddress = extractCoreAddress(key);
+            if (coreAddress != null) {
+                return coreAddress;
+            }
+            // 정규식 실패 시 대체 로직
+            String trimmedAddress = key.trim();
+            String[] parts = SPACE.split(trimmedAddress);
+            if (parts.length >= 2) return NON_ALPHANUMERIC.matcher(parts[0] + parts[1]).replaceAll("");
+            return NON_ALPHANUMERIC.matcher(trimmedAddress).replaceAll("");
+        });
+    }
+
+    /**
+     * 주소에서 '시/도', '시/군/구', '읍/면/동'을 추출한 키. 시/군/구를 찾지 못하면 null을 반환합니다.
+     */
+    public String extractCoreAddress(String fullAddress) {
+        if (fullAddress == null || fullAddress.isBlank()) {
+            return null;
+        }
+        String coreAddress = coreAddressKeys.computeIfAbsent(fullAddress, key -> {
+            String trimmedAddress = key.trim();
+            if (trimmedAddress.startsWith("세종특별자치시")) {
+                return "세종특별자치시"; // 세종시는 예외 처리
+            }
+            Matcher matcher = CORE_ADDRESS.matcher(trimmedAddress);
+            StringBuilder core = new StringBuilder();
+            if (matcher.find()) {
+                if (matcher.group(1) != null) core.append(matcher.group(1)); // 시/도
+                if (matcher.group(3) != null) core.append(matcher.group(3)); // 시/군/구
+                if (matcher.group(5) != null) core.append(matcher.group(5)); // 읍/면/동
+            }
+            return core.isEmpty() ? NO_CORE_ADDRESS : NON_ALPHANUMERIC.matcher(core).replaceAll("");
+        });
+        return coreAddress.isEmpty() ? null : coreAddress;
+    }
+
+    /**
+     * 이번 작업에서 신규로 저장하기로 한 도서관을 색인에 더해, 같은 파일의 뒤쪽 행이 이 도서관과도 비교되게 합니다.
+     * 색인은 판정 중에 바뀌면 안 되므로 {@link #decideAll}이 실행 중이지 않을 때만 호출합니다.
+     */
+    public void addAccepted(Library library) {
+        index.add(library, normalizeName(library.getLibName()), normalizeAddress(library.getAddress()));
+        acceptedCount++;
+    }
+
+    /**
+     * {@link #addAccepted}로 더한 도서관 수
+     */
+    public int acceptedCount() {
+        return acceptedCount;
+    }
+
+    public int libraryCount() {
+        return index.size();
+    }
+
+    public int addressBlockCount() {
+        return index.addressBlockCount();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 후보 도서관 하나와 그 유사도 점수
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static class ScoredCandidate {
+        private final Library library;
+        private final double score;
+    }
+
+    /**
+     * 엑셀 행 하나에 대한 판정 결과
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static class MatchDecision {
+
+        public enum Type {
+            DUPLICATE,  // 임계값을 넘는 기존 도서관이 있음
+            NEW,        // 같은 블록에 충분히 비슷한 도서관이 없음
+            SKIPPED     // 정규화한 이름이 비어 판정하지 않음
+        }
+
+        public enum Block {
+            ADDRESS,    // 같은 시/군/구(읍/면/동) 주소 블록 안에서 비교함
+            NAME        // 주소를 정규화하지 못해 전국의 이름 bigram 블록에서 비교함 (다른 지역 도서관일 수 있음)
+        }
+
+        private final ExcelLibraryRow row;
+        private final String nameKey;
+        private final String addressKey;
+        private final Block block;
+        private final Type type;
+        // DUPLICATE일 때 임계값을 넘은 후보 (점수 높은 순)
+        private final List<ScoredCandidate> ranked;
+        // DUPLICATE면 가장 점수가 높은 후보, NEW면 가장 비슷했던 후보 (없으면 null)
+        private final ScoredCandidate bestCandidate;
+    }
+}
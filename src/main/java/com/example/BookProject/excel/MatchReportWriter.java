@@ -0,0 +1,97 @@
+package com.example.BookProject.excel;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 엑셀 행별 판정 결과를 NDJSON(한 줄에 JSON 객체 하나) 파일로 씁니다.
+ *
+ * 행을 처리하는 대로 바로 파일에 흘려 쓰므로 결과 전체를 메모리에 모아두지 않습니다.
+ * 한 줄의 예)
+ * {"row":12,"action":"MERGE","type":"DUPLICATE","name":"...","address":"...","nameKey":"...","addressKey":"...",
+ *  "libraryId":3,"libraryName":"...","score":0.97,"candidates":[{"libraryId":3,"libraryName":"...","score":0.97}]}
+ */
+public class MatchReportWriter implements AutoCloseable {
+
+    /**
+     * 판정 결과에 따라 한 일 (dry run이면 할 일)
+     */
+    public enum Action {
+        INSERT,                 // 신규 도서관으로 저장
+        MERGE,                  // 기존 도서관의 빈 필드를 채움
+        UNCHANGED,              // 기존 도서관과 같고 채울 필드도 없음
+        DUPLICATE_IN_FILE,      // 같은 파일의 앞선 행에서 신규로 저장한 도서관과 같음
+        REVIEW_NAME_ONLY,       // 주소 없이 이름만으로 같다고 판정되어 합치거나 저장하지 않고 사람이 확인해야 함
+        SKIPPED_NO_COORDINATES, // 신규 도서관이지만 좌표가 없어 저장할 수 없음
+        SKIPPED_EMPTY_NAME      // 정규화한 이름이 비어 판정하지 않음
+    }
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    public MatchReportWriter(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.generator = JSON_FACTORY.createGenerator(Files.newOutputStream(path), JsonEncoding.UTF8);
+        // 최상위 값 사이를 줄바꿈으로 구분
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    public void write(LibraryMatcher.MatchDecision decision, Action action) {
+        ExcelLibraryRow row = decision.getRow();
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("row", row.getRowNum());
+            generator.writeStringField("action", action.name());
+            generator.writeStringField("type", decision.getType().name());
+            generator.writeStringField("block", decision.getBlock().name());
+            generator.writeStringField("name", row.getLibName());
+            generator.writeStringField("address", row.getAddress());
+            generator.writeStringField("nameKey", decision.getNameKey());
+            generator.writeStringField("addressKey", decision.getAddressKey());
+
+            // DUPLICATE면 합칠 도서관, NEW면 가장 비슷했던 도서관
+            LibraryMatcher.ScoredCandidate best = decision.getBestCandidate();
+            if (best != null) {
+                writeCandidateFields(best);
+            }
+            if (decision.getRanked() != null && !decision.getRanked().isEmpty()) {
+                generator.writeArrayFieldStart("candidates");
+                for (LibraryMatcher.ScoredCandidate candidate : decision.getRanked()) {
+                    generator.writeStartObject();
+                    writeCandidateFields(candidate);
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCandidateFields(LibraryMatcher.ScoredCandidate candidate) throws IOException {
+        if (candidate.getLibrary().getId() != null) {
+            generator.writeNumberField("libraryId", candidate.getLibrary().getId());
+        }
+        generator.writeStringField("libraryName", candidate.getLibrary().getLibName());
+        // 소수점 넷째 자리까지만 남겨 파일 크기를 줄임
+        generator.writeNumberField("score", Math.round(candidate.getScore() * 10_000) / 10_000.0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.BookProject.excel;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 큰 .xlsx 파일의 첫 번째 시트를 POI 이벤트(SAX) 모델로 한 행씩 읽습니다.
+ *
+ * XSSFWorkbook처럼 시트 전체를 객체 트리로 올리지 않고, 시트 XML을 파싱하면서 행이 끝날 때마다 바로 넘겨줍니다.
+ * 메모리에 남는 것은 공유 문자열 표(sharedStrings)와 현재 행의 셀 배열 하나뿐입니다.
+ * 행 배열은 다음 행에서 재사용하므로 {@link RowHandler}는 필요한 값을 그 자리에서 꺼내 써야 합니다.
+ */
+public class XlsxStreamingReader {
+
+    /**
+     * 행 하나를 처리합니다. cells[i]는 i번째 열(A=0)의 표시 문자열이며 빈 셀은 null입니다.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        void handle(int rowNum, String[] cells);
+    }
+
+    /**
+     * 지금까지 읽은 행 수와 초당 처리 행 수를 알려줍니다.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(long rowCount, double rowsPerSecond);
+    }
+
+    private final int columnCount;
+    private final long progressInterval;
+
+    /**
+     * @param columnCount      읽을 열 수 (0 ~ columnCount-1번 열만 보관하고 나머지는 버림)
+     * @param progressInterval 이 행 수마다 진행 상황을 알림
+     */
+    public XlsxStreamingReader(int columnCount, long progressInterval) {
+        this.columnCount = columnCount;
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * 첫 번째 시트의 모든 행을 순서대로 rowHandler에 넘기고, 읽은 행 수를 반환합니다.
+     * 진행 상황은 progressInterval 행마다, 그리고 끝났을 때 한 번 더 알립니다.
+     */
+    public long read(Path path, RowHandler rowHandler, ProgressListener progressListener) throws IOException {
+        // 파일 경로로 열면 zip 항목을 필요할 때만 풀어서 읽음 (InputStream으로 열면 전체를 메모리에 올림)
+        try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = xssfReader.getStylesTable();
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return 0;
+            }
+            RowCollector collector = new RowCollector(rowHandler, progressListener);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(styles, sharedStrings, collector, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+            collector.reportProgress();
+            return collector.rowCount;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽지 못했습니다: " + path, e);
+        }
+    }
+
+    /**
+     * "AB12" 같은 셀 주소에서 열 번호(A=0)를 구합니다.
+     */
+    static int columnIndex(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler rowHandler;
+        private final ProgressListener progressListener;
+        private final String[] cells = new String[columnCount];
+        private final long startedAt = System.nanoTime();
+        private long rowCount;
+        private int currentColumn;
+
+        private RowCollector(RowHandler rowHandler, ProgressListener progressListener) {
+            this.rowHandler = rowHandler;
+            this.progressListener = progressListener;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, null);
+            currentColumn = -1;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // 셀 주소(r 속성)가 생략된 파일은 바로 앞 셀의 다음 열로 취급
+            currentColumn = cellReference != null ? columnIndex(cellReference) : currentColumn + 1;
+            if (currentColumn >= 0 && currentColumn < columnCount) {
+                cells[currentColumn] = formattedValue;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowHandler.handle(rowNum, cells);
+            rowCount++;
+            if (progressListener != null && rowCount % progressInterval == 0) {
+                reportProgress();
+            }
+        }
+
+        private void reportProgress() {
+            if (progressListener == null) {
+                return;
+            }
+            double elapsedSeconds = Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+            progressListener.onProgress(rowCount, rowCount / elapsedSeconds);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.BookProject.job;
+
+import com.example.BookProject.dto.BookDto;
+import com.example.BookProject.service.BookService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알라딘 베스트셀러 목록 중 DB에 없는 책을 저장합니다.
+ * 기본 스케줄은 job.schedules.bestseller-refresh이며, 마지막 실행 결과는 bestseller.refresh.* 메트릭으로도 노출됩니다.
+ */
+@Component
+public class BestsellerRefreshJob implements Job {
+
+    public static final String NAME = "bestseller-refresh";
+
+    private final BookService bookService;
+
+    private final AtomicLong lastRunEpochMillis = new AtomicLong();
+    private final AtomicLong lastDurationMillis = new AtomicLong();
+    private final AtomicLong lastFetchedCount = new AtomicLong();
+    private final AtomicLong lastInsertedCount = new AtomicLong();
+    private final Counter failureCounter;
+
+    public BestsellerRefreshJob(BookService bookService, MeterRegistry meterRegistry) {
+        this.bookService = bookService;
+
+        Gauge.builder("bestseller.refresh.last.run", lastRunEpochMillis, AtomicLong::get)
+                .description("마지막 베스트셀러 갱신 시작 시각 (epoch millis)")
+                .register(meterRegistry);
+        Gauge.builder("bestseller.refresh.last.duration", lastDurationMillis, AtomicLong::get)
+                .description("마지막 베스트셀러 갱신 소요 시간 (ms)")
+                .register(meterRegistry);
+        Gauge.builder("bestseller.refresh.last.fetched", lastFetchedCount, AtomicLong::get)
+                .description("마지막 갱신에서 알라딘으로부터 받은 책 수")
+                .register(meterRegistry);
+        Gauge.builder("bestseller.refresh.last.inserted", lastInsertedCount, AtomicLong::get)
+                .description("마지막 갱신에서 새로 저장된 책 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("bestseller.refresh.failures")
+                .description("베스트셀러 갱신 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String run(JobContext context) {
+        long startedAt = System.currentTimeMillis();
+        lastRunEpochMillis.set(startedAt);
+        try {
+            BookDto.IngestResult result = bookService.updateBestsellers();
+            lastFetchedCount.set(result.getFetchedCount());
+            lastInsertedCount.set(result.getInsertedCount());
+            context.reportProgress(result.getFetchedCount(), (long) result.getFetchedCount());
+            return "조회 " + result.getFetchedCount() + "권, 신규 저장 " + result.getInsertedCount() + "권";
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            throw e;
+        } finally {
+            lastDurationMillis.set(System.currentTimeMillis() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.BookProject.job;
+
+import com.example.BookProject.ExcelDataProcessor;
+import com.example.BookProject.dto.LibraryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 국가자료종합목록 엑셀을 기존 도서관과 대조해 가져옵니다. ({@link ExcelDataProcessor})
+ *
+ * 파라미터
+ * - file: 가져올 .xlsx 파일 (job.excel-import.base-dir 기준 상대 경로, 그 밖의 파일은 읽지 않음)
+ * - apply: "true"면 DB에 반영, 그 외에는 보고서만 쓰는 dry run
+ * 판정 보고서는 job.excel-import.report-dir/library-match-{실행 ID}.ndjson에 씁니다.
+ */
+@Component
+public class ExcelImportJob implements Job {
+
+    public static final String NAME = "excel-import";
+
+    private final ExcelDataProcessor excelDataProcessor;
+    private final Path baseDir;
+    private final Path reportDir;
+
+    public ExcelImportJob(ExcelDataProcessor excelDataProcessor,
+                          @Value("${job.excel-import.base-dir:imports}") String baseDir,
+                          @Value("${job.excel-import.report-dir:reports}") String reportDir) {
+        this.excelDataProcessor = excelDataProcessor;
+        this.baseDir = Path.of(baseDir).toAbsolutePath().normalize();
+        this.reportDir = Path.of(reportDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String run(JobContext context) throws Exception {
+        Path file = resolveInput(context.getRequiredParameter("file"));
+        boolean apply = Boolean.parseBoolean(context.getParameter("apply"));
+        Path report = reportDir.resolve("library-match-" + context.getExecutionId() + ".ndjson");
+
+        LibraryDto.ExcelImportResult result = excelDataProcessor.importLibraries(file, report, apply,
+                (rows, rowsPerSecond) -> context.reportProgress(rows, null));
+        return String.format("%s: 읽은 행 %d, 중복 %d, 신규 %d, 건너뜀 %d, 저장 %d, 보완 %d, 보고서 %s",
+                apply ? "반영" : "dry run", result.getRowCount(), result.getDuplicateCount(), result.getNewCount(),
+                result.getSkippedCount(), result.getInsertedCount(), result.getMergedCount(), report);
+    }
+
+    Path resolveInput(String file) {
+        Path path = baseDir.resolve(file).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("가져오기 디렉터리 밖의 파일은 읽을 수 없습니다: " + file);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다: " + file);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.BookProject.job;
+
+/**
+ * {@link JobRunner}가 전용 스레드 풀에서 실행하는 무거운 백그라운드 작업입니다.
+ *
+ * 구현체는 스프링 빈으로 등록하면 이름으로 관리자 API와 스케줄에서 실행할 수 있습니다.
+ * 오래 걸리는 작업은 {@link JobContext#reportProgress}로 진행 상황을 알리고,
+ * 적당한 지점마다 {@link JobContext#checkCancelled()}로 취소 요청을 확인해야 합니다.
+ */
+public interface Job {
+
+    /**
+     * 관리자 API 경로와 스케줄 설정에 쓰이는 작업 이름 (예: library-sync)
+     */
+    String name();
+
+    /**
+     * 작업을 실행하고 결과 요약을 반환합니다. 예외를 던지면 실행은 FAILED로 기록됩니다.
+     */
+    String run(JobContext context) throws Exception;
+}
@@ -0,0 +1,100 @@
+package com.example.BookProject.job;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.LongSupplier;
+
+/**
+ * 실행 중인 작업 하나에 넘겨지는 실행 정보입니다. 파라미터 조회, 진행 상황 보고, 취소 확인을 제공합니다.
+ *
+ * 진행 상황은 자주 보고해도 되도록 progressInterval마다 한 번만 DB에 기록합니다.
+ */
+public class JobContext {
+
+    /**
+     * 진행 상황을 기록하는 곳 (실행 ID, 현재, 전체)
+     */
+    @FunctionalInterface
+    interface ProgressSink {
+        void save(long executionId, long current, Long total);
+    }
+
+    private final long executionId;
+    private final Map<String, String> parameters;
+    private final ProgressSink progressSink;
+    private final long progressIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile boolean cancelRequested;
+    private long lastSavedAtNanos;
+    private long current;
+    private Long total;
+
+    JobContext(long executionId, Map<String, String> parameters, ProgressSink progressSink,
+               long progressIntervalNanos, LongSupplier nanoClock) {
+        this.executionId = executionId;
+        this.parameters = Map.copyOf(parameters);
+        this.progressSink = progressSink;
+        this.progressIntervalNanos = progressIntervalNanos;
+        this.nanoClock = nanoClock;
+        this.lastSavedAtNanos = nanoClock.getAsLong();
+    }
+
+    public long getExecutionId() {
+        return executionId;
+    }
+
+    public String getParameter(String name) {
+        return parameters.get(name);
+    }
+
+    public String getRequiredParameter(String name) {
+        String value = parameters.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("작업 파라미터 '" + name + "'가 필요합니다.");
+        }
+        return value;
+    }
+
+    /**
+     * 진행 상황을 알립니다. total을 모르면 null을 넘깁니다.
+     */
+    public synchronized void reportProgress(long current, Long total) {
+        this.current = current;
+        this.total = total;
+        long now = nanoClock.getAsLong();
+        if (now - lastSavedAtNanos >= progressIntervalNanos) {
+            lastSavedAtNanos = now;
+            progressSink.save(executionId, current, total);
+        }
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * 취소가 요청됐으면 {@link CancellationException}을 던집니다.
+     */
+    public void checkCancelled() {
+        if (isCancelRequested()) {
+            throw new CancellationException("작업 취소가 요청되었습니다.");
+        }
+    }
+
+    void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    boolean wasCancelRequested() {
+        return cancelRequested;
+    }
+
+    synchronized long getCurrent() {
+        return current;
+    }
+
+    synchronized Long getTotal() {
+        return total;
+    }
+}
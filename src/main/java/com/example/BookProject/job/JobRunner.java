@@ -0,0 +1,285 @@
+package com.example.BookProject.job;
+
+import com.example.BookProject.domain.JobExecution;
+import com.example.BookProject.repository.JobExecutionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 등록된 {@link Job}을 애플리케이션 기동 경로 밖의 전용 스레드 풀에서 실행하고, 실행 기록을 {@link JobExecution}으로 남깁니다.
+ *
+ * - 같은 이름의 작업은 동시에 하나만 실행됩니다. 이미 대기 중이거나 실행 중이면 새 실행 요청은 거절합니다.
+ * - 스레드 풀은 concurrency개 스레드와 queue-capacity 크기의 대기열로 제한되며, 가득 차면 요청을 거절합니다.
+ * - 취소를 요청하면 실행 중인 작업 스레드를 interrupt하고, 작업은 {@link JobContext#checkCancelled()} 등으로 이를 확인해 멈춥니다.
+ * - 서버가 작업 도중 종료되어 QUEUED/RUNNING으로 남은 실행은 다음 기동 때 FAILED로 정리합니다. (단일 인스턴스 기준)
+ */
+@Slf4j
+@Component
+public class JobRunner {
+
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+    private final JobExecutionRepository executionRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration progressInterval;
+    private final ThreadPoolExecutor executor;
+    // 작업 이름 -> 대기 중이거나 실행 중인 실행
+    private final ConcurrentMap<String, ActiveJob> activeJobs = new ConcurrentHashMap<>();
+
+    public JobRunner(List<Job> jobs,
+                     JobExecutionRepository executionRepository,
+                     ObjectMapper objectMapper,
+                     @Value("${job.concurrency:2}") int concurrency,
+                     @Value("${job.queue-capacity:10}") int queueCapacity,
+                     @Value("${job.progress-interval:1s}") Duration progressInterval) {
+        for (Job job : jobs) {
+            if (this.jobs.putIfAbsent(job.name(), job) != null) {
+                throw new IllegalStateException("작업 이름이 중복되었습니다: " + job.name());
+            }
+        }
+        this.executionRepository = executionRepository;
+        this.objectMapper = objectMapper;
+        this.progressInterval = progressInterval;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 지난 실행에서 끝나지 못한 기록을 정리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedExecutions() {
+        for (JobExecution execution : executionRepository.findByStatusIn(EnumSet.of(JobExecution.Status.QUEUED, JobExecution.Status.RUNNING))) {
+            ActiveJob active = activeJobs.get(execution.getJobName());
+            if (active != null && active.executionId == execution.getId()) {
+                continue;
+            }
+            execution.finish(JobExecution.Status.FAILED, "서버가 재시작되어 중단되었습니다.");
+            executionRepository.save(execution);
+            log.warn("끝나지 않은 작업 실행 {}({})을 FAILED로 정리했습니다.", execution.getId(), execution.getJobName());
+        }
+    }
+
+    public Collection<String> jobNames() {
+        return jobs.keySet();
+    }
+
+    /**
+     * 실행 중(또는 대기 중)인 실행 ID. 없으면 null
+     */
+    public Long activeExecutionId(String jobName) {
+        ActiveJob active = activeJobs.get(jobName);
+        // 등록 직후 실행 ID가 채워지기 전에는 0
+        return active != null && active.executionId != 0 ? active.executionId : null;
+    }
+
+    /**
+     * 작업 실행을 등록하고 바로 반환합니다. 작업은 전용 스레드 풀에서 실행됩니다.
+     *
+     * @throws EntityNotFoundException 등록되지 않은 작업 이름
+     * @throws IllegalStateException   같은 작업이 이미 대기 중이거나 실행 중, 또는 대기열이 가득 참
+     */
+    public JobExecution start(String jobName, JobExecution.Trigger trigger, String requestedBy, Map<String, String> parameters) {
+        Job job = jobs.get(jobName);
+        if (job == null) {
+            throw new EntityNotFoundException("등록되지 않은 작업입니다: " + jobName);
+        }
+        ActiveJob active = new ActiveJob();
+        if (activeJobs.putIfAbsent(jobName, active) != null) {
+            throw new IllegalStateException("이미 실행 중인 작업입니다: " + jobName);
+        }
+
+        JobExecution execution;
+        try {
+            execution = executionRepository.save(new JobExecution(jobName, trigger, requestedBy, toJson(parameters)));
+        } catch (RuntimeException e) {
+            activeJobs.remove(jobName, active);
+            throw e;
+        }
+        // cancel()은 executionId로 실행을 찾으므로 context를 먼저 채움
+        active.context = new JobContext(execution.getId(), parameters != null ? parameters : Map.of(), this::saveProgress, progressInterval.toNanos(), System::nanoTime);
+        active.executionId = execution.getId();
+
+        try {
+            JobExecution queued = execution;
+            executor.execute(() -> execute(job, queued, active));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(jobName, active);
+            execution.finish(JobExecution.Status.FAILED, "작업 대기열이 가득 차 실행하지 못했습니다.");
+            executionRepository.save(execution);
+            throw new IllegalStateException("작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("작업 {}을 등록했습니다. 실행={}, trigger={}, 요청자={}", jobName, execution.getId(), trigger, requestedBy);
+        return execution;
+    }
+
+    /**
+     * 실행 취소를 요청합니다. 실행 중이면 작업 스레드를 interrupt하고, 대기 중이면 시작하지 않고 끝냅니다.
+     * 서버 재시작 등으로 주인이 없어진 실행은 바로 CANCELLED로 기록합니다.
+     */
+    public JobExecution cancel(long executionId) {
+        JobExecution execution = getExecution(executionId);
+        if (execution.getStatus().isFinished()) {
+            throw new IllegalStateException("이미 끝난 작업 실행입니다: " + executionId);
+        }
+        ActiveJob active = activeJobs.get(execution.getJobName());
+        if (active == null || active.executionId != executionId) {
+            execution.finish(JobExecution.Status.CANCELLED, "실행 중인 작업을 찾을 수 없어 취소로 정리했습니다.");
+            return executionRepository.save(execution);
+        }
+        executionRepository.markCancelRequested(executionId);
+        active.cancel();
+        log.info("작업 {}의 실행 {} 취소를 요청했습니다.", execution.getJobName(), executionId);
+        return getExecution(executionId);
+    }
+
+    public JobExecution getExecution(long executionId) {
+        return executionRepository.findById(executionId)
+                .orElseThrow(() -> new EntityNotFoundException("작업 실행 기록을 찾을 수 없습니다: " + executionId));
+    }
+
+    public List<JobExecution> recentExecutions(String jobName, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return jobName == null ? executionRepository.findByOrderByIdDesc(page) : executionRepository.findByJobNameOrderByIdDesc(jobName, page);
+    }
+
+    private void execute(Job job, JobExecution execution, ActiveJob active) {
+        JobContext context = active.context;
+        JobExecution.Status status;
+        String message;
+        try {
+            if (!active.begin()) {
+                status = JobExecution.Status.CANCELLED;
+                message = "시작 전에 취소되었습니다.";
+            } else {
+                execution.start();
+                execution = executionRepository.save(execution);
+                log.info("작업 {} 실행 {}을 시작합니다.", job.name(), execution.getId());
+
+                message = job.run(context);
+                // 작업이 interrupt를 받고 중간 결과를 반환한 경우도 취소로 기록
+                status = context.wasCancelRequested() ? JobExecution.Status.CANCELLED : JobExecution.Status.COMPLETED;
+            }
+        } catch (Exception e) {
+            if (context.wasCancelRequested() || e instanceof CancellationException || e instanceof InterruptedException) {
+                status = JobExecution.Status.CANCELLED;
+                message = "취소되었습니다.";
+            } else {
+                status = JobExecution.Status.FAILED;
+                message = e.getClass().getSimpleName() + ": " + e.getMessage();
+                log.error("작업 {} 실행 {}이 실패했습니다.", job.name(), execution.getId(), e);
+            }
+        } finally {
+            // 이 뒤의 DB 기록이 interrupt 때문에 실패하지 않도록, 그리고 다음 작업에 interrupt가 넘어가지 않도록 정리
+            active.end();
+        }
+
+        try {
+            if (context.wasCancelRequested()) {
+                execution.requestCancel();
+            }
+            execution.updateProgress(context.getCurrent(), context.getTotal());
+            execution.finish(status, truncate(message));
+            executionRepository.save(execution);
+            log.info("작업 {} 실행 {}을 마쳤습니다. 상태={}, {}ms, {}", job.name(), execution.getId(), status,
+                    execution.getDurationMillis(), message);
+        } catch (RuntimeException e) {
+            log.error("작업 {} 실행 {}의 결과를 기록하지 못했습니다.", job.name(), execution.getId(), e);
+        } finally {
+            activeJobs.remove(job.name(), active);
+        }
+    }
+
+    private void saveProgress(long executionId, long current, Long total) {
+        try {
+            executionRepository.updateProgress(executionId, current, total, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 진행 상황 기록 실패로 작업을 멈추지 않음
+            log.warn("작업 실행 {}의 진행 상황을 기록하지 못했습니다: {}", executionId, e.getMessage());
+        }
+    }
+
+    private String toJson(Map<String, String> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("작업 파라미터를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 실행 하나. 취소 시 interrupt할 스레드를 실행하는 동안만 기억합니다.
+     */
+    private static class ActiveJob {
+
+        private volatile long executionId;
+        private volatile JobContext context;
+        private Thread thread;
+        private boolean cancelled;
+        private boolean finished;
+
+        synchronized boolean begin() {
+            if (cancelled) {
+                return false;
+            }
+            thread = Thread.currentThread();
+            return true;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            context.requestCancel();
+            if (thread != null && !finished) {
+                thread.interrupt();
+            }
+        }
+
+        synchronized void end() {
+            finished = true;
+            thread = null;
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.BookProject.job;
+
+import com.example.BookProject.domain.JobExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * job.schedules.{작업 이름}.* 설정에 따라 작업을 주기적으로 실행합니다.
+ *
+ * - cron이 있으면 cron 식대로 실행합니다.
+ * - 없으면 애플리케이션이 요청을 받을 준비가 된 뒤 initial-delay 후 첫 실행을, 이후 (interval + 0~jitter)마다 실행합니다.
+ *   여러 서버가 같은 시각에 외부 API를 호출하지 않도록 jitter를 둡니다.
+ * 실행은 {@link JobRunner}에 맡기므로, 이전 실행이 아직 끝나지 않았으면 이번 차례는 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class JobScheduler {
+
+    private final JobRunner jobRunner;
+    private final TaskScheduler taskScheduler;
+    private final Environment environment;
+
+    public JobScheduler(JobRunner jobRunner, TaskScheduler taskScheduler, Environment environment) {
+        this.jobRunner = jobRunner;
+        this.taskScheduler = taskScheduler;
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleAll() {
+        for (String jobName : jobRunner.jobNames()) {
+            String prefix = "job.schedules." + jobName + ".";
+            if (!environment.getProperty(prefix + "enabled", Boolean.class, false)) {
+                continue;
+            }
+            String cron = environment.getProperty(prefix + "cron");
+            if (cron != null && !cron.isBlank()) {
+                taskScheduler.schedule(() -> trigger(jobName), new CronTrigger(cron));
+                log.info("작업 {}을 cron '{}'로 예약했습니다.", jobName, cron);
+                continue;
+            }
+            Duration interval = environment.getProperty(prefix + "interval", Duration.class);
+            if (interval == null) {
+                log.warn("작업 {}의 스케줄에 cron도 interval도 없어 예약하지 않습니다.", jobName);
+                continue;
+            }
+            Duration initialDelay = environment.getProperty(prefix + "initial-delay", Duration.class, Duration.ofMinutes(1));
+            Duration jitter = environment.getProperty(prefix + "jitter", Duration.class, Duration.ZERO);
+            scheduleNextRun(jobName, initialDelay, interval, jitter);
+        }
+    }
+
+    private void runAndReschedule(String jobName, Duration interval, Duration jitter) {
+        try {
+            trigger(jobName);
+        } finally {
+            scheduleNextRun(jobName, interval, interval, jitter);
+        }
+    }
+
+    private void scheduleNextRun(String jobName, Duration baseDelay, Duration interval, Duration jitter) {
+        long jitterMillis = jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1);
+        Instant nextRun = Instant.now().plus(baseDelay).plusMillis(jitterMillis);
+        taskScheduler.schedule(() -> runAndReschedule(jobName, interval, jitter), nextRun);
+        log.info("다음 {} 작업을 {}에 실행합니다.", jobName, nextRun);
+    }
+
+    private void trigger(String jobName) {
+        try {
+            jobRunner.start(jobName, JobExecution.Trigger.SCHEDULED, null, Map.of());
+        } catch (IllegalStateException e) {
+            log.info("예약된 {} 작업을 건너뜁니다: {}", jobName, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("예약된 {} 작업을 등록하지 못했습니다.", jobName, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.BookProject.job;
+
+import com.example.BookProject.dto.LibraryDto;
+import com.example.BookProject.service.LibraryBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정보나루 전체 도서관 목록을 DB에 동기화합니다. 진행 상황은 처리한 페이지 수입니다.
+ * 취소하면 남은 페이지는 다음 실행에서 체크포인트부터 이어서 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LibrarySyncJob implements Job {
+
+    public static final String NAME = "library-sync";
+
+    private final LibraryBatchService libraryBatchService;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String run(JobContext context) {
+        LibraryDto.SyncResult result = libraryBatchService.fetchAndSaveAllLibrariesFromData4Lib(
+                (donePages, totalPages) -> context.reportProgress(donePages, totalPages != null ? totalPages.longValue() : null));
+        return String.format("페이지 %d (실패 %d), 조회 %d, 신규 %d, 변경 %d, 폐관 %d",
+                result.getPageCount(), result.getFailedPages(), result.getFetchedCount(),
+                result.getInsertedCount(), result.getUpdatedCount(), result.getDeletedCount());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.BookProject.repository;
+
+import com.example.BookProject.domain.Book;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Book은 IDENTITY 전략이라 Hibernate가 insert를 배치로 묶지 못하므로,
+ * 대량 저장은 JdbcTemplate으로 multi-row INSERT 한 번에 처리합니다.
+ *
+ * INSERT ... ON CONFLICT DO NOTHING RETURNING은 PostgreSQL 전용 문법입니다.
+ * 테스트용 H2는 이 문법을 지원하지 않아 이 클래스의 SQL은 자동 테스트로 검증되지 않으므로, SQL을 바꿀 때는 PostgreSQL에서 직접 확인해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO books (title, author, publisher, isbn, book_img, published_at, description, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 다른 요청이 같은 ISBN을 먼저 저장했다면 unique 제약 예외 대신 조용히 건너뜁니다.
+    private static final String INSERT_SUFFIX = " ON CONFLICT (isbn) DO NOTHING RETURNING book_id, isbn";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 책 목록을 하나의 INSERT 문으로 저장하고, 실제로 새로 저장된 책의 ISBN -> book_id를 반환합니다.
+     * PostgreSQL 바인드 파라미터 한도(32767개)를 넘지 않도록 호출하는 쪽에서 크기를 나눠서 넘겨야 합니다.
+     */
+    public Map<String, Long> insertIgnoringDuplicates(List<Book> books) {
+        if (books.isEmpty()) {
+            return Map.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(books.size() * 9);
+
+        for (int i = 0; i < books.size(); i++) {
+            Book book = books.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args.add(book.getTitle());
+            args.add(book.getAuthor());
+            args.add(book.getPublisher());
+            args.add(book.getIsbn());
+            args.add(book.getBookImg());
+            args.add(book.getPublishedAt());
+            args.add(book.getDescription());
+            args.add(now);
+            args.add(now);
+        }
+        sql.append(INSERT_SUFFIX);
+
+        Map<String, Long> insertedIds = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            insertedIds.put(rs.getString("isbn"), rs.getLong("book_id"));
+        }, args.toArray());
+        return insertedIds;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.BookProject.repository;
 import com.example.BookProject.domain.BookRecord;
 import com.example.BookProject.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +11,13 @@ import java.util.Optional;
 public interface BookRecordRepository extends JpaRepository<BookRecord, Long> {
     List<BookRecord> findByUserId(Long userId);
     Optional<BookRecord> findByUserAndBookId(User user, Long BookId);
+
+    // 책별로 서재에 담은 사용자 수 (자동완성 인기도)
+    @Query("SELECT r.book.isbn AS isbn, COUNT(r) AS readers FROM BookRecord r GROUP BY r.book.isbn")
+    List<ReaderCount> countReadersByIsbn();
+
+    interface ReaderCount {
+        String getIsbn();
+        long getReaders();
+    }
 }
@@ -1,11 +1,33 @@
 package com.example.BookProject.repository;
 
 import com.example.BookProject.domain.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
     // ISBN으로 책이 이미 DB에 저장되어 있는지 확인하기 위한 메소드
     Optional<Book> findByIsbn(String isbn);
+
+    // 여러 ISBN 중 이미 DB에 있는 것만 한 번의 IN 쿼리로 조회
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    Set<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    // 커서(book_id) 기반 페이지 조회: 커서보다 큰 id를 id 순서대로 limit개 가져옴
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long cursor, Limit limit);
+
+    // 전체 목록을 한 번에 메모리에 올리지 않고 fetch size 단위로 읽어오는 스트림 (트랜잭션 안에서만 사용 가능)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM Book b ORDER BY b.id")
+    Stream<Book> streamAllOrderById();
 }
@@ -0,0 +1,35 @@
+package com.example.BookProject.repository;
+
+import com.example.BookProject.domain.JobExecution;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JobExecutionRepository extends JpaRepository<JobExecution, Long> {
+
+    List<JobExecution> findByOrderByIdDesc(Pageable pageable);
+
+    List<JobExecution> findByJobNameOrderByIdDesc(String jobName, Pageable pageable);
+
+    List<JobExecution> findByStatusIn(Collection<JobExecution.Status> statuses);
+
+    // 진행 상황은 자주 바뀌므로 엔티티를 읽지 않고 두 컬럼만 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecution j SET j.progressCurrent = :current, j.progressTotal = :total, j.updatedAt = :now WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("current") long current, @Param("total") Long total,
+                       @Param("now") LocalDateTime now);
+
+    // 실행 중인 스레드도 같은 행을 저장하므로 다른 컬럼은 건드리지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecution j SET j.cancelRequested = true WHERE j.id = :id")
+    int markCancelRequested(@Param("id") Long id);
+}
@@ -0,0 +1,167 @@
+package com.example.BookProject.repository;
+
+import com.example.BookProject.domain.Library;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Library도 IDENTITY 전략이라 Hibernate가 insert를 배치로 묶지 못하므로,
+ * 정보나루 동기화와 엑셀 가져오기의 저장, 갱신, 폐관 처리는 JdbcTemplate의 JDBC 배치로 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LibraryBulkRepository {
+
+    // 다른 동기화 작업이 같은 도서관을 먼저 저장했다면 unique 제약 예외 대신 조용히 건너뜁니다.
+    private static final String INSERT_SQL =
+            "INSERT INTO libraries (d4l_lib_code, lib_name, address, tel, homepage, latitude, longitude, content_hash) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (d4l_lib_code) DO NOTHING";
+    // 폐관 처리됐던 도서관이 다시 목록에 나타나면 deleted_at을 지워 되살립니다.
+    private static final String UPDATE_SQL =
+            "UPDATE libraries SET lib_name = ?, address = ?, tel = ?, homepage = ?, latitude = ?, longitude = ?, " +
+            "content_hash = ?, deleted_at = NULL WHERE d4l_lib_code = ?";
+    private static final String SOFT_DELETE_SQL =
+            "UPDATE libraries SET deleted_at = ? WHERE d4l_lib_code = ? AND deleted_at IS NULL";
+    // 엑셀에서 온 도서관은 정보나루 코드가 없으므로 d4l_lib_code와 content_hash를 비워 둡니다.
+    private static final String INSERT_WITHOUT_CODE_SQL =
+            "INSERT INTO libraries (lib_name, address, tel, homepage, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?)";
+    // 이미 값이 있는 필드는 그대로 두고 비어 있는 필드만 채웁니다. 좌표는 0이면 비어 있는 것으로 봅니다.
+    // content_hash는 건드리지 않으므로 정보나루 쪽 내용이 바뀌기 전까지는 동기화가 채운 값을 덮어쓰지 않습니다.
+    private static final String FILL_MISSING_SQL =
+            "UPDATE libraries SET tel = COALESCE(NULLIF(tel, ''), ?), homepage = COALESCE(NULLIF(homepage, ''), ?), " +
+            "latitude = CASE WHEN latitude = 0 OR longitude = 0 THEN COALESCE(?, latitude) ELSE latitude END, " +
+            "longitude = CASE WHEN latitude = 0 OR longitude = 0 THEN COALESCE(?, longitude) ELSE longitude END " +
+            "WHERE library_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 도서관 목록을 하나의 JDBC 배치로 저장하고 한 번에 커밋한 뒤, 실제로 새로 저장된 행 수를 반환합니다.
+     * 청크마다 별도 트랜잭션이므로 뒤 청크가 실패해도 앞에서 저장한 도서관은 남습니다.
+     */
+    @Transactional
+    public int insertIgnoringDuplicates(List<Library> libraries) {
+        if (libraries.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, libraries, libraries.size(), (ps, library) -> {
+            ps.setLong(1, library.getD4lLibCode());
+            ps.setString(2, library.getLibName());
+            ps.setString(3, library.getAddress());
+            ps.setString(4, library.getTel());
+            ps.setString(5, library.getHomepage());
+            ps.setDouble(6, library.getLatitude());
+            ps.setDouble(7, library.getLongitude());
+            ps.setLong(8, library.computeContentHash());
+        });
+        return countAffected(counts);
+    }
+
+    /**
+     * 내용이 바뀐 도서관을 d4l_lib_code 기준으로 갱신하고 한 번에 커밋합니다.
+     */
+    @Transactional
+    public int updateChanged(List<Library> libraries) {
+        if (libraries.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, libraries, libraries.size(), (ps, library) -> {
+            ps.setString(1, library.getLibName());
+            ps.setString(2, library.getAddress());
+            ps.setString(3, library.getTel());
+            ps.setString(4, library.getHomepage());
+            ps.setDouble(5, library.getLatitude());
+            ps.setDouble(6, library.getLongitude());
+            ps.setLong(7, library.computeContentHash());
+            ps.setLong(8, library.getD4lLibCode());
+        });
+        return countAffected(counts);
+    }
+
+    /**
+     * 주어진 정보나루 코드의 도서관을 폐관 처리(soft delete)합니다. 이미 폐관 처리된 도서관은 건너뜁니다.
+     */
+    @Transactional
+    public int softDelete(List<Long> d4lLibCodes, LocalDateTime deletedAt) {
+        if (d4lLibCodes.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(deletedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(SOFT_DELETE_SQL, d4lLibCodes, d4lLibCodes.size(), (ps, code) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setLong(2, code);
+        });
+        return countAffected(counts);
+    }
+
+    /**
+     * 정보나루 코드가 없는 도서관(엑셀 가져오기 등)을 하나의 JDBC 배치로 저장하고 한 번에 커밋합니다.
+     */
+    @Transactional
+    public int insertWithoutCode(List<Library> libraries) {
+        if (libraries.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_WITHOUT_CODE_SQL, libraries, libraries.size(), (ps, library) -> {
+            ps.setString(1, library.getLibName());
+            ps.setString(2, library.getAddress());
+            ps.setString(3, library.getTel());
+            ps.setString(4, library.getHomepage());
+            ps.setDouble(5, library.getLatitude());
+            ps.setDouble(6, library.getLongitude());
+        });
+        return countAffected(counts);
+    }
+
+    /**
+     * 기존 도서관의 비어 있는 연락처, 홈페이지, 좌표를 채우고 한 번에 커밋합니다.
+     */
+    @Transactional
+    public int fillMissingFields(List<MissingFields> patches) {
+        if (patches.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(FILL_MISSING_SQL, patches, patches.size(), (ps, patch) -> {
+            ps.setString(1, patch.getTel());
+            ps.setString(2, patch.getHomepage());
+            ps.setObject(3, patch.getLatitude(), Types.DOUBLE);
+            ps.setObject(4, patch.getLongitude(), Types.DOUBLE);
+            ps.setLong(5, patch.getLibraryId());
+        });
+        return countAffected(counts);
+    }
+
+    private int countAffected(int[][] counts) {
+        int affected = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 행별 결과를 주지 않는 경우(SUCCESS_NO_INFO)는 반영된 것으로 셈
+                affected += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * 기존 도서관에 채워 넣을 값. null인 필드는 건드리지 않습니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MissingFields {
+        private final long libraryId;
+        private final String tel;
+        private final String homepage;
+        private final Double latitude;
+        private final Double longitude;
+    }
+}
@@ -3,8 +3,8 @@ package com.example.BookProject.repository;
 import com.example.BookProject.domain.Library;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +12,17 @@ public interface LibraryRepository extends JpaRepository<Library, Long> {
     // 정보나루 API의 libCode로 DB에 저장된 도서관이 있는지 확인
     Optional<Library> findByD4lLibCode(Long d4lLibCode);
 
-    @Query("SELECT l FROM Library l WHERE l.latitude BETWEEN :minLat AND :maxLat AND l.longitude BETWEEN :minLon AND :maxLon")
-    List<Library> findByLocationBounds(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
-                                       @Param("minLon") double minLon, @Param("maxLon") double maxLon);
+    // 운영 중인(폐관 처리되지 않은) 도서관만 조회
+    List<Library> findAllByDeletedAtIsNull();
+
+    // 동기화 시 바뀐 도서관만 골라내기 위해 엔티티 대신 코드, 내용 해시, 폐관 여부만 조회
+    @Query("SELECT l.d4lLibCode AS d4lLibCode, l.contentHash AS contentHash, l.deletedAt AS deletedAt " +
+            "FROM Library l WHERE l.d4lLibCode IS NOT NULL")
+    List<LibrarySyncState> findAllSyncStates();
+
+    interface LibrarySyncState {
+        Long getD4lLibCode();
+        Long getContentHash();
+        LocalDateTime getDeletedAt();
+    }
 }
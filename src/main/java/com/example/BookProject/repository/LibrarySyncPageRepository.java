@@ -0,0 +1,11 @@
+package com.example.BookProject.repository;
+
+import com.example.BookProject.domain.LibrarySyncPage;
+import com.example.BookProject.domain.LibrarySyncRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LibrarySyncPageRepository extends JpaRepository<LibrarySyncPage, Long> {
+    List<LibrarySyncPage> findByRun(LibrarySyncRun run);
+}
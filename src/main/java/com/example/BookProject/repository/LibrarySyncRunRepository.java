@@ -0,0 +1,11 @@
+package com.example.BookProject.repository;
+
+import com.example.BookProject.domain.LibrarySyncRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface LibrarySyncRunRepository extends JpaRepository<LibrarySyncRun, Long> {
+    // 이어서 진행할 회차 (가장 최근의 RUNNING 회차)
+    Optional<LibrarySyncRun> findFirstByStatusOrderByIdDesc(LibrarySyncRun.Status status);
+}
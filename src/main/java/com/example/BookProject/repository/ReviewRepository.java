@@ -1,13 +1,46 @@
 package com.example.BookProject.repository;
 
 import com.example.BookProject.domain.Review;
+import com.example.BookProject.dto.ReviewResponseDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 리뷰 목록은 DTO 생성자 표현식으로 작성자 이름까지 한 번의 쿼리로 가져옵니다. (리뷰 수와 무관하게 쿼리 1번)
+ * 페이지는 OFFSET 없이 (정렬 기준, review_id) 키셋으로 이어서 조회하며, 첫 페이지는 가장 큰 값을 커서로 넘깁니다.
+ * 정렬은 쿼리에 고정되어 있고, 같은 책의 리뷰는 reviews 테이블의 (book_id, 정렬 기준, review_id) 인덱스를 순서대로 읽습니다.
+ */
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByBookId(Long bookId);
-    List<Review> findByBookIsbn(String isbn);
+
+    String SELECT_DTO = "SELECT new com.example.BookProject.dto.ReviewResponseDto(" +
+            "r.id, r.reviewContent, r.reviewImg, r.rating, u.userNm, r.book.id, r.createdAt) ";
+    String AFTER_NEWEST = "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC";
+    String AFTER_RATING = "AND (r.rating < :rating OR (r.rating = :rating AND r.id < :id)) " +
+            "ORDER BY r.rating DESC, r.id DESC";
+
+    // 최신순: (created_at, review_id) 내림차순
+    @Query(SELECT_DTO + "FROM Review r JOIN r.user u WHERE r.book.id = :bookId " + AFTER_NEWEST)
+    List<ReviewResponseDto> findNewestByBookId(@Param("bookId") Long bookId, @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Limit limit);
+
+    @Query(SELECT_DTO + "FROM Review r JOIN r.user u JOIN r.book b WHERE b.isbn = :isbn " + AFTER_NEWEST)
+    List<ReviewResponseDto> findNewestByBookIsbn(@Param("isbn") String isbn, @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id, Limit limit);
+
+    // 평점순: (rating, review_id) 내림차순. 같은 평점이면 나중에 쓴 리뷰가 먼저
+    @Query(SELECT_DTO + "FROM Review r JOIN r.user u WHERE r.book.id = :bookId " + AFTER_RATING)
+    List<ReviewResponseDto> findTopRatedByBookId(@Param("bookId") Long bookId, @Param("rating") Float rating,
+                                                 @Param("id") Long id, Limit limit);
+
+    @Query(SELECT_DTO + "FROM Review r JOIN r.user u JOIN r.book b WHERE b.isbn = :isbn " + AFTER_RATING)
+    List<ReviewResponseDto> findTopRatedByBookIsbn(@Param("isbn") String isbn, @Param("rating") Float rating,
+                                                   @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,256 @@
+package com.example.BookProject.search;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.BookDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * books 테이블의 제목/저자/출판사/설명을 대상으로 한 메모리 역색인(inverted index)입니다.
+ * 토큰화는 {@link KoreanBigramTokenizer}를 사용하고, 점수는 BM25로 계산합니다.
+ *
+ * 책은 ISBN 기준으로 한 번만 색인되며 추가만 가능합니다. 읽기는 동시에 여러 스레드가 할 수 있고,
+ * 추가는 쓰기 락을 잡고 postings 배열 끝에 덧붙입니다.
+ */
+public class BookSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // 필드별 가중치: 제목에 나온 단어가 설명에 나온 단어보다 더 중요합니다.
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int PUBLISHER_WEIGHT = 1;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> docIdByIsbn = new HashMap<>();
+    private final List<BookDto.BookSearchResponse> documents = new ArrayList<>();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private int[] documentLengths = new int[1024];
+    private long totalLength;
+
+    /**
+     * 아직 색인되지 않은 책만 추가하고, 새로 추가된 개수를 반환합니다.
+     */
+    public int addAll(Collection<Book> books) {
+        lock.writeLock().lock();
+        try {
+            int added = 0;
+            for (Book book : books) {
+                if (book.getIsbn() == null || docIdByIsbn.containsKey(book.getIsbn())) {
+                    continue;
+                }
+                addDocument(new BookDto.BookSearchResponse(book));
+                added++;
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의어를 토큰화하여 BM25 점수가 높은 순서로 최대 size개의 결과를 반환합니다.
+     */
+    public List<Hit> search(String query, int size) {
+        return search(query, size, false);
+    }
+
+    /**
+     * matchedAllTermsOnly가 true면 질의어의 모든 토큰이 나온 책만 상위 size개를 고르는 대상으로 삼습니다.
+     * (일부 토큰만 나온 책이 점수가 더 높아도 자리를 차지하지 않음)
+     */
+    public List<Hit> search(String query, int size, boolean matchedAllTermsOnly) {
+        Set<String> queryTerms = new LinkedHashSet<>(KoreanBigramTokenizer.tokenize(query));
+        if (queryTerms.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLength / documentCount;
+
+            // 질의어 토큰의 postings에 나온 문서만 점수를 누적 (전체 문서 수만큼의 배열을 만들거나 훑지 않음)
+            List<Postings> termPostings = new ArrayList<>(queryTerms.size());
+            int postingCount = 0;
+            for (String term : queryTerms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings != null) {
+                    termPostings.add(postings);
+                    postingCount += postings.size;
+                }
+            }
+            // postings가 없는 토큰이 있으면 모든 토큰이 나온 책도 없음
+            if (termPostings.isEmpty() || (matchedAllTermsOnly && termPostings.size() < queryTerms.size())) {
+                return List.of();
+            }
+            ScoreAccumulator accumulator = new ScoreAccumulator(postingCount);
+            for (Postings postings : termPostings) {
+                float idf = (float) Math.log(1 + (documentCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int docId = postings.docIds[i];
+                    int tf = postings.frequencies[i];
+                    float norm = K1 * (1 - B + B * documentLengths[docId] / averageLength);
+                    accumulator.add(docId, idf * (tf * (K1 + 1)) / (tf + norm));
+                }
+            }
+
+            // 점수 상위 size개만 최소 힙으로 유지 (힙에는 누적기의 슬롯 번호를 넣음)
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(size, accumulator.size) + 1,
+                    (a, b) -> Float.compare(accumulator.scores[a], accumulator.scores[b]));
+            for (int i = 0; i < accumulator.size; i++) {
+                int slot = accumulator.usedSlots[i];
+                if (accumulator.scores[slot] <= 0
+                        || (matchedAllTermsOnly && accumulator.matchedTerms[slot] < queryTerms.size())) {
+                    continue;
+                }
+                if (top.size() < size) {
+                    top.offer(slot);
+                } else if (accumulator.scores[slot] > accumulator.scores[top.peek()]) {
+                    top.poll();
+                    top.offer(slot);
+                }
+            }
+
+            Hit[] hits = new Hit[top.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                int slot = top.poll();
+                hits[i] = new Hit(documents.get(accumulator.docIds[slot]), accumulator.scores[slot],
+                        accumulator.matchedTerms[slot] >= queryTerms.size());
+            }
+            return Arrays.asList(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(BookDto.BookSearchResponse book) {
+        int docId = documents.size();
+        documents.add(book);
+        docIdByIsbn.put(book.getIsbn(), docId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        length += countTerms(book.getTitle(), TITLE_WEIGHT, frequencies);
+        length += countTerms(book.getAuthor(), AUTHOR_WEIGHT, frequencies);
+        length += countTerms(book.getPublisher(), PUBLISHER_WEIGHT, frequencies);
+        length += countTerms(book.getDescription(), DESCRIPTION_WEIGHT, frequencies);
+
+        if (docId == documentLengths.length) {
+            documentLengths = Arrays.copyOf(documentLengths, docId * 2);
+        }
+        documentLengths[docId] = length;
+        totalLength += length;
+
+        frequencies.forEach((term, frequency) ->
+                postingsByTerm.computeIfAbsent(term, key -> new Postings()).add(docId, frequency));
+    }
+
+    private int countTerms(String text, int weight, Map<String, Integer> frequencies) {
+        List<String> tokens = KoreanBigramTokenizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * 검색 결과 한 건. matchedAllTerms는 질의어의 모든 토큰이 이 책에 나왔는지 여부입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private BookDto.BookSearchResponse book;
+        private float score;
+        private boolean matchedAllTerms;
+    }
+
+    /**
+     * 검색 한 번 동안 문서 번호별 점수와 일치한 토큰 수를 모으는 open addressing 해시 테이블입니다.
+     * 크기는 질의어 토큰의 postings 길이 합에 비례하고, 값이 들어간 슬롯은 usedSlots에 순서대로 기록합니다.
+     */
+    private static class ScoreAccumulator {
+        private static final int EMPTY = -1;
+
+        private final int[] docIds;
+        private final float[] scores;
+        private final byte[] matchedTerms;
+        private final int[] usedSlots;
+        private final int mask;
+        private final int shift;
+        private int size;
+
+        private ScoreAccumulator(int maxDocuments) {
+            // 채움 비율이 절반을 넘지 않도록 2의 거듭제곱으로 잡음
+            int capacity = Integer.highestOneBit(Math.max(maxDocuments, 1) * 2 - 1) << 1;
+            docIds = new int[capacity];
+            Arrays.fill(docIds, EMPTY);
+            scores = new float[capacity];
+            matchedTerms = new byte[capacity];
+            usedSlots = new int[maxDocuments];
+            mask = capacity - 1;
+            shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        }
+
+        private void add(int docId, float score) {
+            // 곱셈 해시의 상위 비트를 슬롯 번호로 사용 (연속된 문서 번호도 고르게 흩어짐)
+            int slot = (docId * 0x9E3779B9) >>> shift;
+            while (docIds[slot] != EMPTY && docIds[slot] != docId) {
+                slot = (slot + 1) & mask;
+            }
+            if (docIds[slot] == EMPTY) {
+                docIds[slot] = docId;
+                usedSlots[size++] = slot;
+            }
+            scores[slot] += score;
+            if (matchedTerms[slot] < Byte.MAX_VALUE) {
+                matchedTerms[slot]++;
+            }
+        }
+    }
+
+    /**
+     * 토큰 하나에 대한 (문서 번호, 가중 빈도) 목록. 박싱을 피하려고 기본형 배열로 보관합니다.
+     */
+    private static class Postings {
+        private int[] docIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int docId, int frequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docIds[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+}
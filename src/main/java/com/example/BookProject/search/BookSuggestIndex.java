@@ -0,0 +1,329 @@
+package com.example.BookProject.search;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.BookDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 책 제목/저자의 접두어로 자동완성 후보를 찾는 메모리 색인입니다.
+ *
+ * 검색 키(공백과 기호를 뺀 소문자 문자열)를 정렬된 배열에 담아 두고 이진 탐색으로 접두어 구간을 찾습니다.
+ * 제목은 앞쪽 몇 단어마다 시작하는 키를 따로 만들어 "마법사" 같은 중간 단어로도 찾을 수 있고,
+ * 한글이 들어간 키는 초성 키("ㅎㄹㅍㅌ")도 함께 만들어 초성만 입력해도 찾을 수 있습니다.
+ *
+ * 한두 글자 접두어는 해당하는 키가 너무 많으므로 인기순 상위 후보를 미리 계산해 둡니다.
+ * 새 책의 키는 작은 보조 트리(pending)에 먼저 넣고, 일정 개수가 쌓이면 정렬 배열과 한 번에 병합합니다.
+ * 인기도는 서재에 담은 사용자 수이며 점수가 같으면 먼저 색인된 책이 앞에 옵니다.
+ */
+public class BookSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int SHORT_PREFIX_LENGTH = 2;
+    private static final int MAX_KEY_LENGTH = 30;
+    private static final int MAX_WORD_STARTS = 4;
+    private static final int PENDING_MERGE_THRESHOLD = 10_000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> docIdByIsbn = new HashMap<>();
+    private final List<BookDto.BookSuggestResponse> documents = new ArrayList<>();
+    // 아직 색인되지 않은 책의 인기도 (인기도를 책보다 먼저 불러오는 경우)
+    private final Map<String, Integer> popularityByIsbn = new HashMap<>();
+    private int[] popularity = new int[1024];
+    private final PrefixTable textTable = new PrefixTable();
+    private final PrefixTable chosungTable = new PrefixTable();
+
+    /**
+     * 아직 색인되지 않은 책만 추가하고, 새로 추가된 개수를 반환합니다.
+     */
+    public int addAll(Collection<Book> books) {
+        lock.writeLock().lock();
+        try {
+            int added = 0;
+            for (Book book : books) {
+                if (book.getIsbn() == null || book.getTitle() == null || docIdByIsbn.containsKey(book.getIsbn())) {
+                    continue;
+                }
+                addDocument(new BookDto.BookSuggestResponse(book));
+                added++;
+            }
+            textTable.mergeIfNeeded();
+            chosungTable.mergeIfNeeded();
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 책의 인기도를 delta만큼 올립니다. 아직 색인되지 않은 책이면 색인될 때 반영됩니다.
+     */
+    public void increasePopularity(String isbn, int delta) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdByIsbn.get(isbn);
+            if (docId == null) {
+                popularityByIsbn.merge(isbn, delta, Integer::sum);
+                return;
+            }
+            popularity[docId] += delta;
+            // 미리 계산해 둔 짧은 접두어 후보 순위도 갱신
+            for (String key : textKeys(documents.get(docId))) {
+                textTable.offerShortPrefixes(key, docId);
+                if (HangulUtils.containsHangulSyllable(key)) {
+                    chosungTable.offerShortPrefixes(HangulUtils.toChosung(key), docId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력한 접두어로 시작하는 제목/저자를 가진 책을 인기순으로 최대 size개 반환합니다.
+     * 자음(ㄱ~ㅎ)이 섞여 있으면 초성 검색으로 처리합니다.
+     */
+    public List<BookDto.BookSuggestResponse> suggest(String query, int size) {
+        String prefix = normalizeKey(query);
+        int limit = Math.min(size, MAX_SUGGESTIONS);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] docIds = HangulUtils.containsJamoConsonant(prefix)
+                    ? chosungTable.find(HangulUtils.toChosung(prefix), limit)
+                    : textTable.find(prefix, limit);
+            List<BookDto.BookSuggestResponse> suggestions = new ArrayList<>(docIds.length);
+            for (int docId : docIds) {
+                suggestions.add(documents.get(docId));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(BookDto.BookSuggestResponse book) {
+        int docId = documents.size();
+        documents.add(book);
+        docIdByIsbn.put(book.getIsbn(), docId);
+        if (docId == popularity.length) {
+            popularity = Arrays.copyOf(popularity, docId * 2);
+        }
+        Integer knownPopularity = popularityByIsbn.remove(book.getIsbn());
+        popularity[docId] = knownPopularity != null ? knownPopularity : 0;
+
+        for (String key : textKeys(book)) {
+            textTable.add(key, docId);
+            if (HangulUtils.containsHangulSyllable(key)) {
+                chosungTable.add(HangulUtils.toChosung(key), docId);
+            }
+        }
+    }
+
+    /**
+     * 제목의 앞쪽 MAX_WORD_STARTS개 단어 각각에서 시작하는 키와, 대표 저자 이름 키를 만듭니다.
+     * 예) "해리 포터와 마법사의 돌" -> [해리포터와마법사의돌, 포터와마법사의돌, 마법사의돌, 돌]
+     */
+    private static Set<String> textKeys(BookDto.BookSuggestResponse book) {
+        Set<String> keys = new HashSet<>();
+        List<String> words = splitWords(book.getTitle());
+        for (int start = 0; start < Math.min(words.size(), MAX_WORD_STARTS); start++) {
+            keys.add(truncate(String.join("", words.subList(start, words.size()))));
+        }
+        String author = mainAuthor(book.getAuthor());
+        if (!author.isEmpty()) {
+            keys.add(truncate(author));
+        }
+        return keys;
+    }
+
+    static String normalizeKey(String text) {
+        return truncate(String.join("", splitWords(text)));
+    }
+
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    // 알라딘 저자 표기 "조앤 K. 롤링 (지은이), 강동혁 (옮긴이)"에서 첫 번째 저자 이름만 사용
+    private static String mainAuthor(String author) {
+        if (author == null) {
+            return "";
+        }
+        int end = author.length();
+        int parenthesis = author.indexOf('(');
+        int comma = author.indexOf(',');
+        if (parenthesis >= 0) end = Math.min(end, parenthesis);
+        if (comma >= 0) end = Math.min(end, comma);
+        return normalizeKey(author.substring(0, end));
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    // 인기도가 높은 순, 같으면 먼저 색인된 순
+    private int compareRank(int a, int b) {
+        int byPopularity = Integer.compare(popularity[b], popularity[a]);
+        return byPopularity != 0 ? byPopularity : Integer.compare(a, b);
+    }
+
+    /**
+     * 키 -> 문서 번호 목록. 정렬된 배열(keys, keyDocs) + 아직 병합하지 않은 새 키(pending)로 구성됩니다.
+     */
+    private class PrefixTable {
+        private String[] keys = new String[0];
+        private int[] keyDocs = new int[0];
+        // "키 + \0 + 문서 번호" -> 문서 번호 (같은 키를 가진 다른 책과 구분)
+        private final TreeMap<String, Integer> pending = new TreeMap<>();
+        private final Map<String, int[]> topByShortPrefix = new HashMap<>();
+
+        private void add(String key, int docId) {
+            pending.put(key + '\0' + docId, docId);
+            offerShortPrefixes(key, docId);
+        }
+
+        private void offerShortPrefixes(String key, int docId) {
+            for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, key.length()); length++) {
+                topByShortPrefix.merge(key.substring(0, length), new int[]{docId}, (top, added) -> offer(top, docId));
+            }
+        }
+
+        // 순위대로 정렬된 상위 후보 목록에 docId를 넣거나 순위를 다시 맞춘 새 배열을 반환
+        private int[] offer(int[] top, int docId) {
+            int[] others = Arrays.stream(top).filter(id -> id != docId).toArray();
+            int position = 0;
+            while (position < others.length && compareRank(others[position], docId) < 0) {
+                position++;
+            }
+            if (position >= MAX_SUGGESTIONS) {
+                return others;
+            }
+            int[] ranked = new int[Math.min(others.length + 1, MAX_SUGGESTIONS)];
+            System.arraycopy(others, 0, ranked, 0, position);
+            ranked[position] = docId;
+            System.arraycopy(others, position, ranked, position + 1, ranked.length - position - 1);
+            return ranked;
+        }
+
+        private int[] find(String prefix, int limit) {
+            if (prefix.length() <= SHORT_PREFIX_LENGTH) {
+                int[] top = topByShortPrefix.get(prefix);
+                return top == null ? new int[0] : Arrays.copyOf(top, Math.min(limit, top.length));
+            }
+
+            // 점수가 가장 낮은 후보가 맨 앞에 오는 힙으로 상위 limit개만 유지
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, (a, b) -> compareRank(b, a));
+            Set<Integer> seen = new HashSet<>();
+            String upperBound = prefix + Character.MAX_VALUE;
+            for (int i = lowerBound(prefix), end = lowerBound(upperBound); i < end; i++) {
+                consider(keyDocs[i], best, seen, limit);
+            }
+            for (int docId : pending.subMap(prefix, upperBound).values()) {
+                consider(docId, best, seen, limit);
+            }
+
+            int[] docIds = new int[best.size()];
+            for (int i = docIds.length - 1; i >= 0; i--) {
+                docIds[i] = best.poll();
+            }
+            return docIds;
+        }
+
+        private void consider(int docId, PriorityQueue<Integer> best, Set<Integer> seen, int limit) {
+            if (!seen.add(docId)) {
+                return;
+            }
+            best.offer(docId);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void mergeIfNeeded() {
+            if (pending.size() < PENDING_MERGE_THRESHOLD) {
+                return;
+            }
+            // 둘 다 정렬되어 있으므로 한 번 훑으면서 병합
+            int total = keys.length + pending.size();
+            String[] mergedKeys = new String[total];
+            int[] mergedDocs = new int[total];
+            int i = 0;
+            int n = 0;
+            for (Map.Entry<String, Integer> entry : pending.entrySet()) {
+                String key = entry.getKey().substring(0, entry.getKey().lastIndexOf('\0'));
+                while (i < keys.length && keys[i].compareTo(key) <= 0) {
+                    mergedKeys[n] = keys[i];
+                    mergedDocs[n++] = keyDocs[i++];
+                }
+                mergedKeys[n] = key;
+                mergedDocs[n++] = entry.getValue();
+            }
+            while (i < keys.length) {
+                mergedKeys[n] = keys[i];
+                mergedDocs[n++] = keyDocs[i++];
+            }
+            keys = mergedKeys;
+            keyDocs = mergedDocs;
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.BookProject.search;
+
+/**
+ * 한글 초성 검색에 필요한 변환을 모아둔 유틸리티입니다.
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;   // 중성 21개 × 종성 28개
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 한글 음절은 초성 자모로 바꾸고 나머지 글자는 그대로 둡니다. 예) "해리포터2" -> "ㅎㄹㅍㅌ2"
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(KoreanBigramTokenizer.isHangulSyllable(c) ? CHOSUNG[(c - SYLLABLE_BASE) / SYLLABLES_PER_CHOSUNG] : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 호환용 자음(ㄱ~ㅎ)이 하나라도 들어 있는지. 초성으로 검색하려는 입력인지 판단할 때 씁니다.
+     */
+    public static boolean containsJamoConsonant(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean containsHangulSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (KoreanBigramTokenizer.isHangulSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.BookProject.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어 책 정보를 색인하기 위한 토크나이저입니다.
+ *
+ * 형태소 분석기 없이도 띄어쓰기나 조사에 덜 민감하도록 한글 음절 구간은 두 글자씩 겹쳐 자르고(bigram),
+ * 영문/숫자 구간은 단어 단위로 소문자 토큰을 만듭니다. 그 밖의 문자는 구분자로 취급합니다.
+ * 공백으로만 떨어진 한글 구간 사이에도 bigram을 하나 더 만들어 "해리 포터"와 "해리포터"가 같은 토큰을 갖게 합니다.
+ * 예) "해리 포터와 마법사의 돌" -> [해리, 리포, 포터, 터와, 와마, 마법, 법사, 사의, 의돌, 돌]
+ */
+public final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int length = normalized.length();
+        int i = 0;
+        // 직전 한글 구간의 마지막 글자 (사이에 공백만 있었을 때만 유지)
+        char previousHangul = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangulSyllable(c)) {
+                int end = i;
+                while (end < length && isHangulSyllable(normalized.charAt(end))) {
+                    end++;
+                }
+                if (previousHangul != 0) {
+                    tokens.add(String.valueOf(new char[]{previousHangul, c}));
+                }
+                addHangulBigrams(normalized, i, end, tokens);
+                previousHangul = normalized.charAt(end - 1);
+                i = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i;
+                while (end < length && Character.isLetterOrDigit(normalized.charAt(end)) && !isHangulSyllable(normalized.charAt(end))) {
+                    end++;
+                }
+                tokens.add(normalized.substring(i, end));
+                previousHangul = 0;
+                i = end;
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    previousHangul = 0;
+                }
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static void addHangulBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.BookProject.search;
+
+import com.example.BookProject.domain.Library;
+import com.example.BookProject.dto.LibraryDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntConsumer;
+
+/**
+ * 도서관 좌표를 위한 읽기 전용 격자(grid) 색인입니다.
+ *
+ * 위도/경도를 CELL_DEGREES 크기의 칸으로 나누고, 도서관을 칸 번호 순으로 정렬해 기본형 배열(double[])에 담습니다.
+ * 칸 번호 배열(cellKeys)과 각 칸의 시작 위치(cellStarts)만 있으면 이진 탐색으로 칸 안의 도서관을 바로 찾을 수 있습니다.
+ * 한 번 만들면 바뀌지 않으므로 여러 스레드가 락 없이 읽을 수 있고, 데이터가 바뀌면 새로 만들어 통째로 교체합니다.
+ */
+public class LibrarySpatialIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+    // 위도 1도의 거리 (2πR / 360)
+    public static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180;
+
+    // 약 5.5km(위도 기준) 크기의 칸
+    private static final double CELL_DEGREES = 0.05;
+    private static final int LON_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final int MAX_ROW = (int) Math.floor(180 / CELL_DEGREES);
+
+    public static final LibrarySpatialIndex EMPTY = new LibrarySpatialIndex(List.of());
+
+    private final LibraryDto.Response[] libraries;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final long[] cellKeys;
+    private final int[] cellStarts;
+
+    public LibrarySpatialIndex(Collection<Library> source) {
+        List<Library> located = source.stream()
+                .filter(library -> library.getLatitude() != null && library.getLongitude() != null)
+                .sorted(Comparator.comparingLong(library -> cellKey(library.getLatitude(), library.getLongitude())))
+                .toList();
+
+        int size = located.size();
+        this.libraries = new LibraryDto.Response[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        long[] keys = new long[size];
+        int[] starts = new int[size + 1];
+        int cells = 0;
+        for (int i = 0; i < size; i++) {
+            Library library = located.get(i);
+            libraries[i] = new LibraryDto.Response(library);
+            latitudes[i] = library.getLatitude();
+            longitudes[i] = library.getLongitude();
+            long key = cellKey(latitudes[i], longitudes[i]);
+            if (cells == 0 || keys[cells - 1] != key) {
+                keys[cells] = key;
+                starts[cells++] = i;
+            }
+        }
+        starts[cells] = size;
+        this.cellKeys = Arrays.copyOf(keys, cells);
+        this.cellStarts = Arrays.copyOf(starts, cells + 1);
+    }
+
+    public int size() {
+        return libraries.length;
+    }
+
+    /**
+     * 중심에서 radiusKm 안에 있는 도서관을 가까운 순으로 반환합니다.
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm) {
+        List<Hit> hits = new ArrayList<>();
+        if (libraries.length == 0 || radiusKm < 0) {
+            return hits;
+        }
+
+        // 위도 1도는 어디서나 약 111km지만, 경도 1도는 위도가 높을수록 cos(위도)만큼 짧아짐
+        double deltaLat = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double deltaLon = cosLat < 1e-6 ? 180 : Math.min(180, deltaLat / cosLat);
+        double minLat = latitude - deltaLat;
+        double maxLat = latitude + deltaLat;
+
+        int minCol = lonCol(longitude - deltaLon);
+        int maxCol = lonCol(longitude + deltaLon);
+        for (int row = latRow(minLat); row <= latRow(maxLat); row++) {
+            forEachCell(row, minCol, maxCol, cell -> {
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    if (latitudes[i] < minLat || latitudes[i] > maxLat) {
+                        continue;
+                    }
+                    double distance = distanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(libraries[i], distance));
+                    }
+                }
+            });
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+        return hits;
+    }
+
+    /**
+     * 중심에서 가장 가까운 도서관 k곳을 가까운 순으로 반환합니다. maxRadiusKm보다 먼 도서관은 제외합니다.
+     *
+     * 중심 칸에서 시작해 한 겹씩 바깥 칸으로 넓혀 가며(best-first) 후보를 최대 힙에 모으고,
+     * 다음 겹까지의 최소 거리가 지금까지 찾은 k번째 거리보다 멀어지면 멈춥니다.
+     * 빈 칸은 칸 번호 배열에서 행 단위 구간 탐색으로 건너뛰므로, 주변이 한산해도 탐색 비용이 크게 늘지 않습니다.
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, double maxRadiusKm) {
+        if (libraries.length == 0 || k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Hit> best = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Hit::getDistanceKm).reversed());
+        boolean[] visited = new boolean[cellKeys.length];
+        int[] visitedCount = {0};
+        IntConsumer visit = cell -> {
+            if (visited[cell]) {
+                return;
+            }
+            visited[cell] = true;
+            visitedCount[0]++;
+            for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                double distance = distanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+                if (distance > maxRadiusKm) {
+                    continue;
+                }
+                if (best.size() < k) {
+                    best.offer(new Hit(libraries[i], distance));
+                } else if (distance < best.peek().getDistanceKm()) {
+                    best.poll();
+                    best.offer(new Hit(libraries[i], distance));
+                }
+            }
+        };
+
+        int centerRow = latRow(latitude);
+        int centerCol = lonCol(longitude);
+        for (int ring = 0; visitedCount[0] < cellKeys.length; ring++) {
+            double ringDistance = ringLowerBoundKm(latitude, longitude, centerRow, centerCol, ring);
+            if (ringDistance > maxRadiusKm || (best.size() == k && ringDistance > best.peek().getDistanceKm())) {
+                break;
+            }
+            int top = centerRow + ring;
+            int bottom = centerRow - ring;
+            if (bottom < 0 && top > MAX_ROW && 2 * ring + 1 >= LON_CELLS) {
+                break;
+            }
+            for (int row = Math.max(0, bottom); row <= Math.min(MAX_ROW, top); row++) {
+                if (row == top || row == bottom) {
+                    forEachCell(row, centerCol - ring, centerCol + ring, visit);
+                } else {
+                    forEachCell(row, centerCol - ring, centerCol - ring, visit);
+                    forEachCell(row, centerCol + ring, centerCol + ring, visit);
+                }
+            }
+        }
+
+        Hit[] hits = new Hit[best.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            hits[i] = best.poll();
+        }
+        return Arrays.asList(hits);
+    }
+
+    /**
+     * 두 지점 간의 거리를 계산하는 Haversine formula
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * row 행에서 fromCol ~ toCol 열(경도 180도를 넘어가면 반대편으로 이어짐) 중 도서관이 있는 칸만 방문합니다.
+     */
+    private void forEachCell(int row, int fromCol, int toCol, IntConsumer action) {
+        if (toCol - fromCol + 1 >= LON_CELLS) {
+            scanRow(row, 0, LON_CELLS - 1, action);
+            return;
+        }
+        int from = Math.floorMod(fromCol, LON_CELLS);
+        int to = Math.floorMod(toCol, LON_CELLS);
+        if (from <= to) {
+            scanRow(row, from, to, action);
+        } else {
+            scanRow(row, from, LON_CELLS - 1, action);
+            scanRow(row, 0, to, action);
+        }
+    }
+
+    private void scanRow(int row, int fromCol, int toCol, IntConsumer action) {
+        long lastKey = (long) row * LON_CELLS + toCol;
+        for (int cell = lowerBound((long) row * LON_CELLS + fromCol); cell < cellKeys.length && cellKeys[cell] <= lastKey; cell++) {
+            action.accept(cell);
+        }
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = cellKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellKeys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 중심 칸에서 ring 겹 떨어진 칸들까지의 최소 거리(km). 중심에서 그 겹의 안쪽 경계선까지의 거리 중 가장 짧은 값입니다.
+     */
+    private static double ringLowerBoundKm(double latitude, double longitude, int centerRow, int centerCol, int ring) {
+        if (ring == 0) {
+            return 0;
+        }
+        double north = ((centerRow + ring) * CELL_DEGREES - 90) - latitude;
+        double south = latitude - ((centerRow - ring + 1) * CELL_DEGREES - 90);
+        double east = ((centerCol + ring) * CELL_DEGREES - 180) - longitude;
+        double west = longitude - ((centerCol - ring + 1) * CELL_DEGREES - 180);
+        double latBound = Math.min(north, south) * KM_PER_DEGREE;
+        // 점에서 경선(대원)까지의 거리: R * asin(cos(위도) * sin(경도 차))
+        double lonDegrees = Math.min(90, Math.min(east, west));
+        double lonBound = EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.cos(Math.toRadians(latitude)) * Math.sin(Math.toRadians(lonDegrees))));
+        return Math.max(0, Math.min(latBound, lonBound));
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return (long) latRow(latitude) * LON_CELLS + Math.floorMod(lonCol(longitude), LON_CELLS);
+    }
+
+    private static int latRow(double latitude) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / CELL_DEGREES);
+    }
+
+    private static int lonCol(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    /**
+     * 검색 결과 한 건과 중심으로부터의 거리(km)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private LibraryDto.Response library;
+        private double distanceKm;
+
+        /**
+         * 색인의 응답 객체는 공유되므로, 거리를 담은 새 응답 객체를 만들어 반환합니다.
+         */
+        public LibraryDto.Response toResponse() {
+            return new LibraryDto.Response(library, distanceKm);
+        }
+    }
+}
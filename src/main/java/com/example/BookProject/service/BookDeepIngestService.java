@@ -0,0 +1,122 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.cache.BookSearchCache;
+import com.example.BookProject.client.AladinClient;
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.AladinDto;
+import com.example.BookProject.dto.BookDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검색어 하나에 대해 알라딘 ItemSearch를 여러 페이지 가져와 저장하는 '깊은 수집' 모드입니다.
+ *
+ * 1페이지를 먼저 가져와 전체 결과 수(totalResults)로 실제 필요한 페이지 수를 계산하고,
+ * 나머지 페이지는 동시 실행 수가 제한된 전용 스레드 풀에서 병렬로 가져옵니다.
+ * 페이지가 도착하는 순서대로 바로 일괄 저장하므로 전체 결과를 메모리에 모아두지 않습니다.
+ * 요청 스레드가 끝까지 기다렸다가 결과를 돌려주는 동기 호출이라 별도의 작업 상태는 두지 않습니다.
+ */
+@Slf4j
+@Service
+public class BookDeepIngestService {
+
+    private final AladinClient aladinClient;
+    private final BookIngestionService bookIngestionService;
+    private final int pageSize;
+    private final int maxPages;
+    private final ExecutorService fetchExecutor;
+
+    public BookDeepIngestService(AladinClient aladinClient,
+                                 BookIngestionService bookIngestionService,
+                                 @Value("${book.deep-ingest.page-size:50}") int pageSize,
+                                 @Value("${book.deep-ingest.max-pages:10}") int maxPages,
+                                 @Value("${book.deep-ingest.concurrency:4}") int concurrency) {
+        this.aladinClient = aladinClient;
+        this.bookIngestionService = bookIngestionService;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fetchExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "aladin-fetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 최대 requestedPages 페이지까지 검색 결과를 가져와 DB에 없는 책을 저장합니다.
+     * 한 번의 요청이 쓸 수 있는 페이지 수는 book.deep-ingest.max-pages로 제한됩니다.
+     * 가져오지 못한 페이지는 건너뛰고 결과의 failedPages로 알려줍니다.
+     */
+    public BookDto.IngestResult ingest(String query, int requestedPages) {
+        String normalizedQuery = BookSearchCache.normalizeQuery(query);
+        int pageBudget = Math.max(1, Math.min(requestedPages, maxPages));
+
+        // 1. 첫 페이지로 전체 결과 수를 확인
+        AladinDto.AladinResponse firstPage = aladinClient.itemSearch(normalizedQuery, 1, pageSize, Priority.INGEST);
+        if (firstPage == null || firstPage.getItem() == null || firstPage.getItem().isEmpty()) {
+            return new BookDto.IngestResult(0, 0);
+        }
+        int fetchedCount = firstPage.getItem().size();
+        int insertedCount = bookIngestionService.saveNewItems(firstPage.getItem()).size();
+
+        int totalResults = firstPage.getTotalResults() != null ? firstPage.getTotalResults() : fetchedCount;
+        int lastPage = Math.min(pageBudget, (totalResults + pageSize - 1) / pageSize);
+        if (lastPage <= 1) {
+            return new BookDto.IngestResult(fetchedCount, insertedCount);
+        }
+
+        // 2. 나머지 페이지를 병렬로 가져오고, 끝나는 순서대로 저장
+        ExecutorCompletionService<List<AladinDto.Item>> completionService = new ExecutorCompletionService<>(fetchExecutor);
+        List<Future<List<AladinDto.Item>>> pageFetches = new ArrayList<>(lastPage - 1);
+        for (int page = 2; page <= lastPage; page++) {
+            int pageNo = page;
+            pageFetches.add(completionService.submit(() -> {
+                AladinDto.AladinResponse response = aladinClient.itemSearch(normalizedQuery, pageNo, pageSize, Priority.INGEST);
+                return response != null && response.getItem() != null ? response.getItem() : List.of();
+            }));
+        }
+
+        int failedPages = 0;
+        for (int received = 0; received < pageFetches.size(); received++) {
+            try {
+                List<AladinDto.Item> items = completionService.take().get();
+                fetchedCount += items.size();
+                List<Book> inserted = bookIngestionService.saveNewItems(items);
+                insertedCount += inserted.size();
+            } catch (ExecutionException e) {
+                failedPages++;
+                log.warn("검색어 '{}'의 페이지를 가져오지 못했습니다.", normalizedQuery, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 남은 페이지 요청이 알라딘 할당량을 계속 쓰지 않도록 취소하고, 받지 못한 페이지는 실패로 셈
+                pageFetches.forEach(future -> future.cancel(true));
+                failedPages += pageFetches.size() - received;
+                log.warn("검색어 '{}'의 깊은 수집이 중단되었습니다. 남은 {}개 페이지 요청을 취소했습니다.",
+                        normalizedQuery, pageFetches.size() - received);
+                break;
+            }
+        }
+
+        log.info("깊은 수집 완료: 검색어='{}', 페이지={}, 실패 페이지={}, 조회 {}권, 신규 저장 {}권",
+                normalizedQuery, lastPage, failedPages, fetchedCount, insertedCount);
+        return new BookDto.IngestResult(fetchedCount, insertedCount, failedPages);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.cache.IsbnLookupMissCache;
+import com.example.BookProject.client.AladinClient;
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.client.TokenBucket;
+import com.example.BookProject.dto.AladinDto;
+import com.example.BookProject.dto.BookDto;
+import com.example.BookProject.util.IsbnUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * ISBN 목록을 받아 알라딘에서 조회하고 DB에 일괄 저장하는 비동기 작업을 관리합니다.
+ *
+ * 1. 요청 스레드에서 형식 검사, 중복 제거, DB에 이미 있는 ISBN 확인(청크 IN 조회)까지 끝내고 작업 ID를 돌려줍니다.
+ * 2. 작업 스레드가 남은 ISBN을 조회 전용 스레드 풀에 나눠 맡깁니다. 조회는 토큰 버킷으로 초당 호출 수가 제한됩니다.
+ * 3. 조회된 책은 batch-size개씩 모아 한 번에 저장합니다.
+ *
+ * 작업은 한 번에 하나씩 실행되고, 끝난 작업의 상태는 job-retention 동안 조회할 수 있습니다.
+ *
+ * JobRunner의 작업으로 돌리지 않는 이유: 작업 파라미터는 job_executions에 JSON으로 저장되는데
+ * 요청 하나에 ISBN이 최대 max-isbns개 담기고, 형식 오류/중복/기존 수는 등록 응답에서 바로 돌려줘야 합니다.
+ * 그래서 진행 상황은 메모리에만 두며, 서버가 재시작되면 작업 상태도 사라집니다.
+ */
+@Slf4j
+@Service
+public class BookImportService {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s,;]+");
+
+    private final AladinClient aladinClient;
+    private final BookIngestionService bookIngestionService;
+    private final IsbnLookupMissCache isbnLookupMissCache;
+    private final TokenBucket lookupRateLimiter;
+    private final int concurrency;
+    private final int batchSize;
+    private final int maxIsbns;
+    private final Cache<String, ImportJob> jobs;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService lookupExecutor;
+
+    public BookImportService(AladinClient aladinClient,
+                             BookIngestionService bookIngestionService,
+                             IsbnLookupMissCache isbnLookupMissCache,
+                             @Value("${book.import.rate-per-second:5}") double ratePerSecond,
+                             @Value("${book.import.burst:5}") int burst,
+                             @Value("${book.import.concurrency:4}") int concurrency,
+                             @Value("${book.import.batch-size:200}") int batchSize,
+                             @Value("${book.import.max-isbns:100000}") int maxIsbns,
+                             @Value("${book.import.job-retention:24h}") Duration jobRetention) {
+        this.aladinClient = aladinClient;
+        this.bookIngestionService = bookIngestionService;
+        this.isbnLookupMissCache = isbnLookupMissCache;
+        this.lookupRateLimiter = new TokenBucket(ratePerSecond, burst);
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.maxIsbns = maxIsbns;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobRetention)
+                .build();
+        this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "book-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.lookupExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "aladin-lookup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 줄바꿈, 공백, 쉼표로 구분된 ISBN 파일을 읽어 작업을 등록합니다.
+     */
+    public BookDto.ImportJobResponse startImport(InputStream isbnFile) throws IOException {
+        List<String> isbns = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(isbnFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (String token : SEPARATORS.split(line)) {
+                    if (!token.isEmpty()) {
+                        isbns.add(token);
+                    }
+                    if (isbns.size() > maxIsbns) {
+                        throw new IllegalArgumentException("한 번에 등록할 수 있는 ISBN은 최대 " + maxIsbns + "개입니다.");
+                    }
+                }
+            }
+        }
+        return startImport(isbns);
+    }
+
+    /**
+     * ISBN 목록을 검사하고 DB에 없는 ISBN만 조회하는 작업을 등록합니다.
+     */
+    public BookDto.ImportJobResponse startImport(Collection<String> rawIsbns) {
+        if (rawIsbns == null || rawIsbns.isEmpty()) {
+            throw new IllegalArgumentException("등록할 ISBN이 없습니다.");
+        }
+        if (rawIsbns.size() > maxIsbns) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 ISBN은 최대 " + maxIsbns + "개입니다.");
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), rawIsbns.size());
+        Set<String> isbns = new LinkedHashSet<>();
+        for (String rawIsbn : rawIsbns) {
+            Optional<String> isbn13 = IsbnUtils.normalizeIsbn13(rawIsbn);
+            if (isbn13.isEmpty()) {
+                job.invalidCount++;
+            } else if (!isbns.add(isbn13.get())) {
+                job.duplicateCount++;
+            }
+        }
+
+        Set<String> existingIsbns = bookIngestionService.findExistingIsbns(isbns);
+        isbns.removeAll(existingIsbns);
+        job.existingCount = existingIsbns.size();
+        job.toLookUpCount = isbns.size();
+
+        jobs.put(job.id, job);
+        jobExecutor.execute(() -> run(job, List.copyOf(isbns)));
+        log.info("ISBN 일괄 등록 작업 {}을 등록했습니다. (요청 {}개, 형식 오류 {}개, 중복 {}개, 기존 {}개, 조회 대상 {}개)",
+                job.id, job.requestedCount, job.invalidCount, job.duplicateCount, job.existingCount, job.toLookUpCount);
+        return job.toResponse();
+    }
+
+    public BookDto.ImportJobResponse getJob(String jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("해당 ID의 등록 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job, List<String> isbns) {
+        job.start();
+        try {
+            ExecutorCompletionService<Optional<AladinDto.Item>> completionService = new ExecutorCompletionService<>(lookupExecutor);
+            List<AladinDto.Item> batch = new ArrayList<>(batchSize);
+            // 조회 풀에 한꺼번에 수만 개를 넣지 않도록 동시에 맡기는 수를 제한
+            int window = concurrency * 2;
+            int submitted = 0;
+            int completed = 0;
+
+            while (completed < isbns.size()) {
+                while (submitted < isbns.size() && submitted - completed < window) {
+                    String isbn = isbns.get(submitted++);
+                    completionService.submit(() -> lookUp(isbn));
+                }
+                try {
+                    Optional<AladinDto.Item> item = completionService.take().get();
+                    if (item.isPresent()) {
+                        batch.add(item.get());
+                    } else {
+                        job.notFoundCount.incrementAndGet();
+                    }
+                } catch (ExecutionException e) {
+                    job.failedCount.incrementAndGet();
+                    log.debug("ISBN 조회 실패: {}", e.getCause().getMessage());
+                }
+                completed++;
+                job.lookedUpCount.incrementAndGet();
+
+                if (batch.size() >= batchSize) {
+                    flush(job, batch);
+                }
+            }
+            flush(job, batch);
+            job.finish("COMPLETED");
+            log.info("ISBN 일괄 등록 작업 {} 완료: 조회 {}개, 신규 저장 {}권, 없음 {}개, 실패 {}개",
+                    job.id, job.lookedUpCount.get(), job.insertedCount.get(), job.notFoundCount.get(), job.failedCount.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish("FAILED");
+            log.warn("ISBN 일괄 등록 작업 {}이 중단되었습니다.", job.id);
+        } catch (RuntimeException e) {
+            job.finish("FAILED");
+            log.error("ISBN 일괄 등록 작업 {}이 실패했습니다.", job.id, e);
+        }
+    }
+
+    private Optional<AladinDto.Item> lookUp(String isbn13) throws InterruptedException {
+        if (isbnLookupMissCache.isKnownMiss(isbn13)) {
+            return Optional.empty();
+        }
+        lookupRateLimiter.acquire();
+        AladinDto.AladinResponse response = aladinClient.itemLookUp(isbn13, Priority.INGEST);
+        if (response == null || response.getItem() == null || response.getItem().isEmpty()) {
+            isbnLookupMissCache.recordMiss(isbn13);
+            return Optional.empty();
+        }
+        return Optional.of(response.getItem().get(0));
+    }
+
+    private void flush(ImportJob job, List<AladinDto.Item> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        job.insertedCount.addAndGet(bookIngestionService.saveNewItems(batch).size());
+        batch.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        lookupExecutor.shutdownNow();
+    }
+
+    /**
+     * 작업 하나의 진행 상황. 요청 스레드에서 채우는 값은 등록 전에 확정되고,
+     * 진행 중에 바뀌는 값은 작업 스레드가 쓰고 조회 요청 스레드가 읽으므로 원자 변수로 둡니다.
+     */
+    private static class ImportJob {
+        private final String id;
+        private final int requestedCount;
+        private int invalidCount;
+        private int duplicateCount;
+        private int existingCount;
+        private int toLookUpCount;
+        private final AtomicInteger lookedUpCount = new AtomicInteger();
+        private final AtomicInteger notFoundCount = new AtomicInteger();
+        private final AtomicInteger failedCount = new AtomicInteger();
+        private final AtomicInteger insertedCount = new AtomicInteger();
+        private volatile String status = "QUEUED";
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+
+        private ImportJob(String id, int requestedCount) {
+            this.id = id;
+            this.requestedCount = requestedCount;
+        }
+
+        private void start() {
+            startedNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            status = "RUNNING";
+        }
+
+        private void finish(String finalStatus) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private BookDto.ImportJobResponse toResponse() {
+            double throughput = 0;
+            if (startedAt != null) {
+                long endNanos = finishedAt != null ? finishedNanos : System.nanoTime();
+                double seconds = (endNanos - startedNanos) / 1_000_000_000.0;
+                throughput = seconds > 0 ? lookedUpCount.get() / seconds : 0;
+            }
+            return BookDto.ImportJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .requestedCount(requestedCount)
+                    .invalidCount(invalidCount)
+                    .duplicateCount(duplicateCount)
+                    .existingCount(existingCount)
+                    .toLookUpCount(toLookUpCount)
+                    .lookedUpCount(lookedUpCount.get())
+                    .notFoundCount(notFoundCount.get())
+                    .failedCount(failedCount.get())
+                    .insertedCount(insertedCount.get())
+                    .throughputPerSecond(Math.round(throughput * 10) / 10.0)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
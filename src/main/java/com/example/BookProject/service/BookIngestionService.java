@@ -0,0 +1,123 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.AladinDto;
+import com.example.BookProject.repository.BookBulkRepository;
+import com.example.BookProject.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 외부 API에서 받아온 책들을 DB에 한꺼번에 저장하는 경로입니다.
+ * 책마다 findByIsbn + save를 반복하던 2N번의 왕복을 IN 조회 1번 + INSERT 1번으로 줄입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookIngestionService {
+
+    // IN 조회와 INSERT 문 하나에 담을 최대 개수 (행당 9개 파라미터 × 1000 < PostgreSQL 한도 32767)
+    private static final int CHUNK_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookBulkRepository bookBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 알라딘 응답의 책 목록 중 DB에 없는 책만 저장합니다.
+     */
+    @Transactional
+    public List<Book> saveNewItems(Collection<AladinDto.Item> items) {
+        List<Book> books = items.stream()
+                .map(this::toBook)
+                .toList();
+        return saveNewBooks(books);
+    }
+
+    /**
+     * DB에 없는 책만 저장하고, 이번 호출로 새로 저장된 책 목록을 book_id를 채워서 반환합니다.
+     * ISBN이 없는 책과 같은 목록 안의 중복 ISBN은 건너뜁니다.
+     */
+    @Transactional
+    public List<Book> saveNewBooks(Collection<Book> books) {
+        Map<String, Book> booksByIsbn = new LinkedHashMap<>();
+        for (Book book : books) {
+            if (book.getIsbn() == null || book.getIsbn().isEmpty()) {
+                continue;
+            }
+            booksByIsbn.putIfAbsent(book.getIsbn(), book);
+        }
+        if (booksByIsbn.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 이미 저장된 ISBN을 한 번의 IN 쿼리로 확인
+        Set<String> existingIsbns = findExistingIsbns(booksByIsbn.keySet());
+
+        List<Book> missingBooks = booksByIsbn.values().stream()
+                .filter(book -> !existingIsbns.contains(book.getIsbn()))
+                .toList();
+        if (missingBooks.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 없는 책만 INSERT ... ON CONFLICT DO NOTHING 으로 저장 (동시에 같은 책이 들어와도 안전)
+        Map<String, Long> insertedIds = new HashMap<>();
+        for (int from = 0; from < missingBooks.size(); from += CHUNK_SIZE) {
+            List<Book> chunk = missingBooks.subList(from, Math.min(from + CHUNK_SIZE, missingBooks.size()));
+            insertedIds.putAll(bookBulkRepository.insertIgnoringDuplicates(chunk));
+        }
+        log.info("신규 도서 {}권을 저장했습니다. (요청 {}권, 기존 {}권)", insertedIds.size(), booksByIsbn.size(), existingIsbns.size());
+
+        // 3. DB가 매긴 book_id를 채워서 반환 (이벤트를 받는 색인들도 ID로 책을 구분함)
+        List<Book> insertedBooks = new ArrayList<>();
+        for (Book book : missingBooks) {
+            Long id = insertedIds.get(book.getIsbn());
+            if (id != null) {
+                book.assignGeneratedId(id);
+                insertedBooks.add(book);
+            }
+        }
+        if (!insertedBooks.isEmpty()) {
+            eventPublisher.publishEvent(new BooksSavedEvent(insertedBooks));
+        }
+        return insertedBooks;
+    }
+
+    /**
+     * 주어진 ISBN 중 이미 DB에 있는 ISBN을 반환합니다. (CHUNK_SIZE개씩 IN 조회)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIsbns(Collection<String> isbns) {
+        Set<String> existingIsbns = new HashSet<>();
+        List<String> isbnList = new ArrayList<>(isbns);
+        for (int from = 0; from < isbnList.size(); from += CHUNK_SIZE) {
+            existingIsbns.addAll(bookRepository.findExistingIsbns(isbnList.subList(from, Math.min(from + CHUNK_SIZE, isbnList.size()))));
+        }
+        return existingIsbns;
+    }
+
+    private Book toBook(AladinDto.Item item) {
+        return Book.builder()
+                .title(item.getTitle())
+                .author(item.getAuthor())
+                .publisher(item.getPublisher())
+                .isbn(item.getIsbn13())
+                .bookImg(item.getCover())
+                .publishedAt(item.getPubDate())
+                .description(item.getDescription())
+                .build();
+    }
+}
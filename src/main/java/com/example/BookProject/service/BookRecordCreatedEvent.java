@@ -0,0 +1,14 @@
+package com.example.BookProject.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자가 책을 서재에 담았음을 알리는 이벤트입니다.
+ * 자동완성 순위처럼 메모리에 있는 값은 트랜잭션이 커밋된 뒤에 이 이벤트를 받아 바꿉니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookRecordCreatedEvent {
+    private final String isbn;
+}
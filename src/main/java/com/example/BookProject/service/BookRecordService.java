@@ -12,6 +12,7 @@ import com.example.BookProject.repository.BookRepository;
 import com.example.BookProject.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +26,7 @@ public class BookRecordService {
     private final BookRecordRepository bookRecordRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 1. 생성 (Create)
     public BookRecordResponseDto createBookRecord(BookRecordCreateRequestDto requestDto, Long userId) {
@@ -43,6 +45,8 @@ public class BookRecordService {
                 .build();
 
         BookRecord savedRecord = bookRecordRepository.save(newRecord);
+        // 자동완성 순위는 커밋된 뒤에만 올림 (롤백되면 그대로)
+        eventPublisher.publishEvent(new BookRecordCreatedEvent(book.getIsbn()));
         return new BookRecordResponseDto(savedRecord);
     }
 
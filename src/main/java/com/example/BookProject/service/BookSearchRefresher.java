@@ -0,0 +1,97 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.cache.BookSearchCache;
+import com.example.BookProject.client.AladinClient;
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.dto.AladinDto;
+import com.example.BookProject.dto.BookDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 알라딘 검색 결과를 가져와 {@link BookSearchCache}에 넣습니다.
+ *
+ * 캐시 항목이 오래되었을 때는 요청 스레드가 기다리지 않도록 오래된 결과를 먼저 돌려주고,
+ * 이 클래스의 전용 스레드에서 갱신합니다. 같은 검색어의 갱신은 동시에 하나만 실행됩니다.
+ */
+@Slf4j
+@Component
+public class BookSearchRefresher {
+
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_CAPACITY = 100;
+
+    private final AladinClient aladinClient;
+    private final BookSearchCache bookSearchCache;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor;
+
+    public BookSearchRefresher(AladinClient aladinClient, BookSearchCache bookSearchCache) {
+        this.aladinClient = aladinClient;
+        this.bookSearchCache = bookSearchCache;
+        // 갱신이 밀리면 큐를 무한히 늘리지 않고 버림 (오래된 결과는 그대로 계속 제공됨)
+        this.refreshExecutor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(REFRESH_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "aladin-search-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 알라딘 ItemSearch API를 호출하고, 결과를 캐시에 넣은 뒤 반환합니다.
+     */
+    public List<BookDto.BookSearchResponse> fetchAndCache(String normalizedQuery, Priority priority) {
+        log.info("알라딘 API를 호출합니다: {}", normalizedQuery);
+
+        AladinDto.AladinResponse response = aladinClient.itemSearch(normalizedQuery, 1, 10, priority);
+        log.info("알라딘 API 응답 수신. item 개수: {}", (response != null && response.getItem() != null) ? response.getItem().size() : "null 또는 0개");
+
+        List<BookDto.BookSearchResponse> results = List.of();
+        if (response != null && response.getItem() != null) {
+            results = response.getItem().stream()
+                    .map(BookDto.BookSearchResponse::new) // AladinDto.Item을 BookDto.BookSearchResponse로 변환
+                    .collect(Collectors.toList());
+        }
+        bookSearchCache.put(normalizedQuery, results);
+        return results;
+    }
+
+    /**
+     * 같은 검색어의 갱신이 진행 중이 아니고 알라딘을 호출할 수 있는 상태일 때만 백그라운드 갱신을 예약합니다.
+     */
+    public void refreshInBackground(String normalizedQuery) {
+        if (!aladinClient.isAvailable() || !refreshing.add(normalizedQuery)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    fetchAndCache(normalizedQuery, Priority.BACKGROUND);
+                } catch (RuntimeException e) {
+                    log.warn("검색어 '{}'의 캐시 갱신에 실패했습니다: {}", normalizedQuery, e.getMessage());
+                } finally {
+                    refreshing.remove(normalizedQuery);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(normalizedQuery);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -1,25 +1,32 @@
 package com.example.BookProject.service;
 
+import com.example.BookProject.cache.BookSearchCache;
+import com.example.BookProject.cache.IsbnLookupMissCache;
+import com.example.BookProject.client.AladinClient;
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.client.ExternalApiUnavailableException;
 import com.example.BookProject.dto.AladinDto;
 import com.example.BookProject.domain.Book;
 import com.example.BookProject.dto.BookDto;
 import com.example.BookProject.repository.BookRepository;
-import jakarta.annotation.PostConstruct;
+import com.example.BookProject.util.IsbnUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
 
-import java.net.URI;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -27,195 +34,194 @@ import java.util.stream.Collectors;
 public class BookService {
     // final 키워드를 붙여서 의존성 주입 (생성자에서 초기화 보장)
     private final BookRepository bookRepository;
-    private final RestTemplate restTemplate;
-
-    private final Map<String, LocalDateTime> searchCache = new ConcurrentHashMap<>();
-
-    private static final String ALADIN_API_URL = "http://www.aladin.co.kr/ttb/api/ItemSearch.aspx";
-     // 사용자 인증키
-     @Value("${external.api.aladin}")
-     private String TTB_KEY;
+    private final AladinClient aladinClient;
+    private final BookSearchCache bookSearchCache;
+    private final BookSearchRefresher bookSearchRefresher;
+    private final IsbnLookupMissCache isbnLookupMissCache;
+    private final BookIngestionService bookIngestionService;
+    private final LocalBookSearchService localBookSearchService;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${book.page.default-size:20}")
+    private int defaultPageSize;
+    @Value("${book.page.max-size:100}")
+    private int maxPageSize;
 
     @Transactional
-    public void searchAndSaveBooks(String query){
-        // 1. URI 만들기
-        // UriComponentsBuilder를 사용하면 파라미터를 안전하고 쉽게 추가할 수 있음
-
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-
-        if (searchCache.containsKey(query) && searchCache.get(query).isAfter(oneHourAgo)) {
-            log.info("캐시된 검색어입니다. API 호출을 생략합니다: {}", query);
-            return;
+    public BookDto.IngestResult searchAndSaveBooks(String query){
+        String normalizedQuery = BookSearchCache.normalizeQuery(query);
+
+        // 1. 같은 검색어의 신선한 결과가 캐시에 있으면 API 호출 없이 그 결과로 저장만 진행
+        Optional<BookSearchCache.CachedSearch> cached = bookSearchCache.get(normalizedQuery);
+        if (cached.isPresent() && cached.get().isFresh()) {
+            log.info("캐시된 검색어입니다. API 호출을 생략합니다: {}", normalizedQuery);
+            return saveSearchResults(cached.get().getResults());
         }
 
-        log.info("알라딘 API를 호출합니다: {}", query);
-
-        URI uri = UriComponentsBuilder.fromUriString(ALADIN_API_URL)
-                .queryParam("ttbkey", TTB_KEY)
-                .queryParam("Query", query)                     // 검색어
-                .queryParam("QueryType", "Keyword")     // 검색어 종류
-                .queryParam("MaxResults", 10)           // 최대 검색 결과 수
-                .queryParam("start", 1)                 // 검색 시작 위치
-                .queryParam("SearchTarget", "Book")     // 검색 대상
-                .queryParam("output", "js")             // 출력 포맷 (JSON)
-                .queryParam("Version", "20131101")
-                .encode(StandardCharsets.UTF_8)// API 버전
-                .build()                            // 한글 검색어가 깨지지 않도록 인코딩
-                .toUri();
-
-        // 2. RestTemplate으로 API 호출하기
-        // getForObject 메소드는 GET 요청을 보내고, 응답받은 JSON을 우리가 만든 DTO 객체로 변환해줌
-        AladinDto.AladinResponse response = restTemplate.getForObject(uri, AladinDto.AladinResponse.class);
-
-        // ======================= 디버깅용 로그 추가 =======================
-        // 실제로 알라딘에서 어떤 응답을 받았는지 확인하기 위해 추가합니다.
-        log.info("알라딘 API 응답 수신. item 개수: {}", (response != null && response.getItem() != null) ? response.getItem().size() : "null 또는 0개");
-        // ===============================================================
-
-        // 3. API 호출이 성공하면, 캐시를 업데이트합니다.
-        // 현재 검색어와 현재 시간을 캐시에 기록합니다.
-        searchCache.put(query, LocalDateTime.now());
-
-
-        // 3. 응답 결과 처리 및 DB 저장
-        // API 응답이 null이 아니고, 책(item) 목록이 비어있지 않은 경우에만 처리
-        if(response != null && response.getItem() != null && !response.getItem().isEmpty()){
-
-            // 응답으로 받은 책 목록을 하나씩 순회
-            for(AladinDto.Item item : response.getItem()){
-
-                // isbn13 필드가 있는지 확인 (필수 값)
-                if(item.getIsbn13() == null || item.getIsbn13().isEmpty()){
-                    continue;
-                }
-
-                // ISBN을 기준으로 우리 DB에 이미 책이 저장되어 있는지 확인
-                // findByIsbn의 결과가 비어있을 때 (즉, DB에 없을 때)만 저장 로직 실행
-                if(bookRepository.findByIsbn(item.getIsbn13()).isEmpty()){
-
-                    // DTO(item)에서 받은 정보로 Book 엔티티 생성
-                    Book newBook = Book.builder()
-                            .title(item.getTitle())
-                            .author(item.getAuthor())
-                            .publisher(item.getPublisher())
-                            .isbn(item.getIsbn13())
-                            .bookImg(item.getCover())
-                            .publishedAt(item.getPubDate())
-                            .description(item.getDescription())
-                            .build();
-
-                    // Repository를 통해 DB에 저장
-                    bookRepository.save(newBook);
-                }
-            }
-        }
+        // 2. 알라딘 API 호출 후 결과를 캐시에 저장 (실패하면 오래된 캐시 결과로 대신함)
+        List<BookDto.BookSearchResponse> results = fetchOrServeStale(normalizedQuery, cached);
+
+        // 3. 응답 결과 중 DB에 없는 책만 저장
+        return saveSearchResults(results);
     }
 
+    /**
+     * book_id 기준 커서(keyset) 페이지 조회. OFFSET 없이 인덱스로 바로 다음 위치를 찾습니다.
+     */
     @Transactional(readOnly = true)
-    public List<BookDto.BookResponse> findAllBooks(){
-        List<Book> books = bookRepository.findAll();
-        return books.stream()
+    public BookDto.BookPageResponse findBooks(Long cursor, Integer size){
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<Book> books = bookRepository.findByIdGreaterThanOrderByIdAsc(cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+        boolean hasNext = books.size() > pageSize;
+        List<BookDto.BookResponse> content = books.stream()
+                .limit(pageSize)
                 .map(BookDto.BookResponse::new)
                 .collect(Collectors.toList());
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getBookId() : null;
+
+        return new BookDto.BookPageResponse(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 전체 책을 id 순서로 하나씩 넘겨줍니다. 목록 전체를 메모리에 만들지 않도록
+     * DB 커서로 읽고, 넘겨준 엔티티는 바로 영속성 컨텍스트에서 분리합니다.
+     */
+    @Transactional(readOnly = true)
+    public void forEachBook(Consumer<BookDto.BookResponse> consumer){
+        try (Stream<Book> books = bookRepository.streamAllOrderById()) {
+            books.forEach(book -> {
+                consumer.accept(new BookDto.BookResponse(book));
+                entityManager.detach(book);
+            });
+        }
     }
 
     @Transactional(readOnly = true)
     public List<BookDto.BookSearchResponse> searchBooks(String query){
-        URI uri = UriComponentsBuilder.fromUriString(ALADIN_API_URL)
-                .queryParam("ttbkey", TTB_KEY)
-                .queryParam("Query", query)
-                .queryParam("QueryType", "Keyword")
-                .queryParam("MaxResults", 10)
-                .queryParam("start", 1)
-                .queryParam("SearchTarget", "Book")
-                .queryParam("output", "js")
-                .queryParam("Version", "20131101")
-                .encode(StandardCharsets.UTF_8)
-                .build()
-                .toUri();
-
-        AladinDto.AladinResponse response = restTemplate.getForObject(uri, AladinDto.AladinResponse.class);
-
-        if(response != null && response.getItem() != null){
-            return response.getItem().stream()
-                    .map(BookDto.BookSearchResponse::new) // AladinDto.Item을 BookDto.BookSearchResponse로 변환
-                    .collect(Collectors.toList());
+        String normalizedQuery = BookSearchCache.normalizeQuery(query);
+
+        Optional<BookSearchCache.CachedSearch> cached = bookSearchCache.get(normalizedQuery);
+        if (cached.isPresent()) {
+            // 오래된 결과는 바로 돌려주고 갱신은 백그라운드에서 진행
+            if (!cached.get().isFresh()) {
+                bookSearchRefresher.refreshInBackground(normalizedQuery);
+            }
+            return cached.get().getResults();
         }
 
-        return List.of();
+        // 로컬 DB에 충분히 일치하는 책이 있으면 알라딘을 호출하지 않음
+        Optional<List<BookDto.BookSearchResponse>> localResults = localBookSearchService.searchIfEnough(normalizedQuery, 10);
+        if (localResults.isPresent()) {
+            return localResults.get();
+        }
+
+        return fetchOrServeStale(normalizedQuery, cached);
     }
 
+    /**
+     * 알라딘에서 검색 결과를 가져옵니다. 알라딘이 장애이거나 서킷이 열려 있으면
+     * 오래된 캐시 결과가 있을 때 그것을 대신 반환하고, 없으면 503으로 응답하도록 예외를 던집니다.
+     */
+    private List<BookDto.BookSearchResponse> fetchOrServeStale(String normalizedQuery, Optional<BookSearchCache.CachedSearch> stale) {
+        try {
+            return bookSearchRefresher.fetchAndCache(normalizedQuery, Priority.INTERACTIVE);
+        } catch (RestClientException | ExternalApiUnavailableException e) {
+            if (stale.isPresent()) {
+                log.warn("알라딘 호출 실패로 오래된 캐시 결과를 반환합니다: {} ({})", normalizedQuery, e.getMessage());
+                meterRegistry.counter("aladin.search.stale.served").increment();
+                return stale.get().getResults();
+            }
+            if (e instanceof ExternalApiUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw new ExternalApiUnavailableException("알라딘 검색 API 호출에 실패했습니다.", e);
+        }
+    }
+
+    private BookDto.IngestResult saveSearchResults(List<BookDto.BookSearchResponse> results) {
+        // DB에 없는 책만 한 번에 저장 (ISBN이 없는 항목은 건너뜀)
+        List<Book> books = results.stream()
+                .map(this::toBook)
+                .collect(Collectors.toList());
+        return new BookDto.IngestResult(results.size(), bookIngestionService.saveNewBooks(books).size());
+    }
+
+    private Book toBook(BookDto.BookSearchResponse result) {
+        return Book.builder()
+                .title(result.getTitle())
+                .author(result.getAuthor())
+                .publisher(result.getPublisher())
+                .isbn(result.getIsbn())
+                .bookImg(result.getBookImg())
+                .publishedAt(result.getPublishedAt())
+                .description(result.getDescription())
+                .build();
+    }
+
+    /**
+     * ISBN으로 알라딘에서 책을 조회해 DB에 저장합니다.
+     * 형식이 잘못된 ISBN과 최근에 알라딘에 없다고 확인된 ISBN은 네트워크 호출 없이 바로 거절합니다.
+     */
     @Transactional
     public void saveBookByIsbn(String isbn){
-        if(bookRepository.findByIsbn(isbn).isPresent()){
-            log.info("이미 DB에 존재하는 책입니다. ISBN: {}", isbn);
+        String isbn13 = IsbnUtils.normalizeIsbn13(isbn)
+                .orElseThrow(() -> new IllegalArgumentException("올바른 ISBN 형식이 아닙니다: " + isbn));
+
+        if(bookRepository.findByIsbn(isbn13).isPresent()){
+            log.info("이미 DB에 존재하는 책입니다. ISBN: {}", isbn13);
             return;
         }
+        if(isbnLookupMissCache.isKnownMiss(isbn13)){
+            throw new EntityNotFoundException("알라딘에서 찾을 수 없는 ISBN입니다: " + isbn13);
+        }
+
+        AladinDto.AladinResponse response = aladinClient.itemLookUp(isbn13, Priority.INTERACTIVE);
+        if(response == null || response.getItem() == null || response.getItem().isEmpty()){
+            isbnLookupMissCache.recordMiss(isbn13);
+            throw new EntityNotFoundException("알라딘에서 찾을 수 없는 ISBN입니다: " + isbn13);
+        }
+
+        AladinDto.Item item = response.getItem().get(0);
+        // 동시에 같은 ISBN이 저장되어도 unique 제약 예외가 나지 않도록 일괄 저장 경로를 사용
+        bookIngestionService.saveNewItems(List.of(item));
+        log.info("새로운 책이 DB에 저장되었습니다: {}", item.getTitle());
+    }
 
-        URI uri = UriComponentsBuilder.fromUriString("http://www.aladin.co.kr/ttb/api/ItemLookUp.aspx")
-                .queryParam("ttbkey", TTB_KEY)
-                .queryParam("itemId", isbn)
-                .queryParam("itemIdType", "ISBN13")
-                .queryParam("output", "js")
-                .queryParam("Version", "20131101")
-                .queryParam("Cover", "Big")
-                .encode(StandardCharsets.UTF_8)
-                .build()
-                .toUri();
-
-        AladinDto.AladinResponse response = restTemplate.getForObject(uri, AladinDto.AladinResponse.class);
-        if(response != null && response.getItem() != null && !response.getItem().isEmpty()){
-            AladinDto.Item item = response.getItem().get(0);
-            Book newBook = Book.builder()
-                    .title(item.getTitle())
-                    .author(item.getAuthor())
-                    .publisher(item.getPublisher())
-                    .isbn(item.getIsbn13())
-                    .bookImg(item.getCover())
-                    .publishedAt(item.getPubDate())
-                    .description(item.getDescription())
-                    .build();
-            bookRepository.save(newBook);
-            log.info("새로운 책이 DB에 저장되었습니다: {}", item.getTitle());
+    /**
+     * 검색, 베스트셀러, 일괄 등록 등 어느 경로로든 책이 저장되면 그 ISBN은 더 이상 '알라딘에 없는 ISBN'이 아니므로
+     * 부정 캐시에서 지웁니다. (롤백된 저장은 반영하지 않도록 커밋 뒤에 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksSaved(BooksSavedEvent event){
+        for (Book book : event.getBooks()) {
+            isbnLookupMissCache.invalidate(book.getIsbn());
         }
     }
 
-    @PostConstruct
+    /**
+     * 알라딘 베스트셀러 목록을 가져와 DB에 없는 책을 저장합니다.
+     * 애플리케이션 시작을 막지 않도록 BestsellerRefreshJob이 작업 스레드에서 주기적으로 호출합니다.
+     */
     @Transactional
-    public void updateBestsellers() {
+    public BookDto.IngestResult updateBestsellers() {
         log.info("베스트셀러 목록 업데이트를 시작합니다.");
 
-        // 'ItemSearch.aspx' 대신 'ItemList.aspx'를 사용하고, QueryType을 'Bestseller'로 설정
-        URI uri = UriComponentsBuilder.fromUriString("http://www.aladin.co.kr/ttb/api/ItemList.aspx")
-                .queryParam("ttbkey", TTB_KEY)
-                .queryParam("QueryType", "Bestseller") // <- 이 부분이 핵심
-                .queryParam("MaxResults", 20)          // 베스트셀러 20개
-                .queryParam("start", 1)
-                .queryParam("SearchTarget", "Book")
-                .queryParam("output", "js")
-                .queryParam("Version", "20131101")
-                .encode(StandardCharsets.UTF_8)
-                .build()
-                .toUri();
-
-        AladinDto.AladinResponse response = restTemplate.getForObject(uri, AladinDto.AladinResponse.class);
-
-        // 이하 로직은 searchAndSaveBooks와 동일 (DB에 없으면 저장)
-        if (response != null && response.getItem() != null && !response.getItem().isEmpty()) {
-            for (AladinDto.Item item : response.getItem()) {
-                if (bookRepository.findByIsbn(item.getIsbn13()).isEmpty()) {
-                    Book newBook = Book.builder()
-                            .title(item.getTitle())
-                            .author(item.getAuthor())
-                            .publisher(item.getPublisher())
-                            .isbn(item.getIsbn13())
-                            .bookImg(item.getCover())
-                            .build();
-                    bookRepository.save(newBook);
-                }
-            }
+        // 'ItemSearch.aspx' 대신 'ItemList.aspx'를 사용하고, QueryType을 'Bestseller'로 설정 (베스트셀러 20개)
+        AladinDto.AladinResponse response = aladinClient.itemList("Bestseller", 1, 20, Priority.BACKGROUND);
+
+        // 이하 로직은 searchAndSaveBooks와 동일 (DB에 없는 책만 한 번에 저장)
+        if (response == null || response.getItem() == null || response.getItem().isEmpty()) {
+            log.info("베스트셀러 응답이 비어 있어 저장할 책이 없습니다.");
+            return new BookDto.IngestResult(0, 0);
         }
-        log.info("베스트셀러 목록 업데이트를 완료했습니다.");
+
+        List<Book> insertedBooks = bookIngestionService.saveNewItems(response.getItem());
+
+        log.info("베스트셀러 목록 업데이트를 완료했습니다. (조회 {}권, 신규 저장 {}권)", response.getItem().size(), insertedBooks.size());
+        return new BookDto.IngestResult(response.getItem().size(), insertedBooks.size());
     }
 
 }
@@ -0,0 +1,75 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.BookDto;
+import com.example.BookProject.repository.BookRecordRepository;
+import com.example.BookProject.repository.BookRepository;
+import com.example.BookProject.search.BookSuggestIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 책 제목/저자 자동완성을 담당합니다. (초성 검색 포함)
+ * 애플리케이션이 뜬 뒤 books 테이블 전체와 책별 독자 수로 색인을 만들고, 이후에는 새로 저장된 책만 추가합니다.
+ */
+@Slf4j
+@Service
+public class BookSuggestService {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookRecordRepository bookRecordRepository;
+    private final BookSuggestIndex bookSuggestIndex = new BookSuggestIndex();
+
+    public BookSuggestService(BookRepository bookRepository, BookRecordRepository bookRecordRepository) {
+        this.bookRepository = bookRepository;
+        this.bookRecordRepository = bookRecordRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long startedAt = System.currentTimeMillis();
+        // 인기도를 먼저 넣어두면 책을 색인할 때 바로 반영됨
+        for (BookRecordRepository.ReaderCount count : bookRecordRepository.countReadersByIsbn()) {
+            bookSuggestIndex.increasePopularity(count.getIsbn(), (int) count.getReaders());
+        }
+
+        long cursor = 0L;
+        List<Book> page;
+        do {
+            page = bookRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(LOAD_PAGE_SIZE));
+            bookSuggestIndex.addAll(page);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        log.info("자동완성 색인을 만들었습니다. 책 {}권, {}ms", bookSuggestIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksSaved(BooksSavedEvent event) {
+        bookSuggestIndex.addAll(event.getBooks());
+    }
+
+    /**
+     * 사용자가 책을 서재에 담으면 자동완성 순위에서 그 책을 한 단계 올립니다.
+     * 서재 저장 트랜잭션이 커밋된 뒤에만 반영하므로, 롤백된 기록은 순위에 영향을 주지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookRecordCreated(BookRecordCreatedEvent event) {
+        if (event.getIsbn() != null) {
+            bookSuggestIndex.increasePopularity(event.getIsbn(), 1);
+        }
+    }
+
+    public List<BookDto.BookSuggestResponse> suggest(String query, int size) {
+        return bookSuggestIndex.suggest(query, size);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.domain.Book;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 새 책이 books 테이블에 저장되었음을 알리는 이벤트입니다.
+ * 메모리 색인들은 트랜잭션이 커밋된 뒤에 이 이벤트를 받아 책을 추가합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BooksSavedEvent {
+    private final List<Book> books;
+}
@@ -0,0 +1,8 @@
+package com.example.BookProject.service;
+
+/**
+ * libraries 테이블의 내용이 바뀌었음을 알리는 이벤트입니다.
+ * 도서관 위치 색인은 트랜잭션이 커밋된 뒤 이 이벤트를 받아 색인을 다시 만듭니다.
+ */
+public class LibrariesUpdatedEvent {
+}
@@ -0,0 +1,122 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.cache.LibraryAvailabilityCache;
+import com.example.BookProject.cache.LibraryAvailabilityCache.CachedAvailability;
+import com.example.BookProject.dto.LibraryDto;
+import com.example.BookProject.util.IsbnUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 도서관 정보나루의 도서 소장/대출 가능 여부 조회를 담당합니다.
+ *
+ * 조회는 {@link LibraryAvailabilityCache}를 거치므로 같은 (도서관, ISBN)을 짧은 시간 안에 다시 조회하거나
+ * 동시에 조회하면 정보나루를 한 번만 호출합니다. 요청 하나가 기다리는 시간은 deadline으로 제한하고,
+ * 제한 시간 안에 끝나지 않은 칸은 TIMEOUT으로 표시합니다. 이때 진행 중인 호출은 취소하지 않으므로
+ * 결과가 도착하면 캐시에 남아 다음 조회에 쓰입니다.
+ */
+@Slf4j
+@Service
+public class LibraryAvailabilityService {
+
+    private final LibraryAvailabilityCache availabilityCache;
+    private final long deadlineNanos;
+    private final int maxCells;
+
+    public LibraryAvailabilityService(LibraryAvailabilityCache availabilityCache,
+                                      @Value("${library.availability.deadline:3s}") Duration deadline,
+                                      @Value("${library.availability.max-cells:200}") int maxCells) {
+        this.availabilityCache = availabilityCache;
+        this.deadlineNanos = deadline.toNanos();
+        this.maxCells = maxCells;
+    }
+
+    /**
+     * 도서 소장 여부 및 대출 가능 여부 조회 (실시간)
+     * 이 기능은 '도서관 정보나루' API를 실시간 호출해야만 알 수 있습니다.
+     */
+    public LibraryDto.AvailabilityResponse checkBookAvailability(Long d4lLibCode, String isbn) {
+        String isbn13 = toIsbn13(isbn);
+        CompletableFuture<CachedAvailability> future = availabilityCache.get(d4lLibCode, isbn13);
+        return await(d4lLibCode, isbn13, future, System.nanoTime() + deadlineNanos);
+    }
+
+    /**
+     * 도서관 목록 × ISBN 목록의 모든 조합을 병렬로 조회합니다.
+     */
+    public LibraryDto.AvailabilityMatrixResponse checkAvailabilityMatrix(List<Long> libCodes, List<String> isbns) {
+        Set<Long> uniqueLibCodes = new LinkedHashSet<>(libCodes);
+        Set<String> uniqueIsbns = new LinkedHashSet<>();
+        for (String isbn : isbns) {
+            uniqueIsbns.add(toIsbn13(isbn));
+        }
+        if (uniqueLibCodes.size() * uniqueIsbns.size() > maxCells) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 도서관 × ISBN 조합은 최대 " + maxCells + "개입니다.");
+        }
+
+        long deadline = System.nanoTime() + deadlineNanos;
+        List<Long> cellLibCodes = new ArrayList<>();
+        List<String> cellIsbns = new ArrayList<>();
+        List<CompletableFuture<CachedAvailability>> futures = new ArrayList<>();
+        for (Long libCode : uniqueLibCodes) {
+            for (String isbn13 : uniqueIsbns) {
+                cellLibCodes.add(libCode);
+                cellIsbns.add(isbn13);
+                futures.add(availabilityCache.get(libCode, isbn13));
+            }
+        }
+
+        List<LibraryDto.AvailabilityResponse> cells = new ArrayList<>(futures.size());
+        int okCount = 0;
+        int timeoutCount = 0;
+        int errorCount = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            LibraryDto.AvailabilityResponse cell = await(cellLibCodes.get(i), cellIsbns.get(i), futures.get(i), deadline);
+            switch (cell.getStatus()) {
+                case OK -> okCount++;
+                case TIMEOUT -> timeoutCount++;
+                case ERROR -> errorCount++;
+            }
+            cells.add(cell);
+        }
+        return new LibraryDto.AvailabilityMatrixResponse(cells, okCount, timeoutCount, errorCount);
+    }
+
+    private LibraryDto.AvailabilityResponse await(Long d4lLibCode, String isbn13,
+                                                  CompletableFuture<CachedAvailability> future, long deadline) {
+        LibraryDto.AvailabilityStatus status;
+        CachedAvailability availability = null;
+        try {
+            // 다른 요청과 공유하는 Future이므로 시간이 지나도 취소하지 않음
+            availability = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            status = availability.getStatus();
+        } catch (TimeoutException e) {
+            status = LibraryDto.AvailabilityStatus.TIMEOUT;
+        } catch (ExecutionException e) {
+            log.warn("정보나루 대출 정보 조회 실패: libCode={}, isbn={}", d4lLibCode, isbn13, e.getCause());
+            status = LibraryDto.AvailabilityStatus.ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = LibraryDto.AvailabilityStatus.TIMEOUT;
+        }
+        boolean ok = status == LibraryDto.AvailabilityStatus.OK;
+        return new LibraryDto.AvailabilityResponse(d4lLibCode, isbn13, status,
+                ok ? availability.getHasBook() : null, ok ? availability.getLoanAvailable() : null);
+    }
+
+    private String toIsbn13(String isbn) {
+        return IsbnUtils.normalizeIsbn13(isbn)
+                .orElseThrow(() -> new IllegalArgumentException("올바른 ISBN 형식이 아닙니다: " + isbn));
+    }
+}
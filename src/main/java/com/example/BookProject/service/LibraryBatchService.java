@@ -2,121 +2,387 @@
 
 package com.example.BookProject.service;
 
+import com.example.BookProject.client.Data4LibraryClient;
 import com.example.BookProject.domain.Library;
+import com.example.BookProject.domain.LibrarySyncPage;
+import com.example.BookProject.domain.LibrarySyncRun;
 import com.example.BookProject.dto.LibraryDto;
+import com.example.BookProject.repository.LibraryBulkRepository;
 import com.example.BookProject.repository.LibraryRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper; // ObjectMapper import
-import lombok.RequiredArgsConstructor;
+import com.example.BookProject.repository.LibrarySyncPageRepository;
+import com.example.BookProject.repository.LibrarySyncRunRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
 
+/**
+ * 정보나루 도서관 목록(libSrch) 전체를 DB에 동기화합니다.
+ *
+ * - 페이지는 전용 스레드 풀에서 병렬로 가져오되, 동시에 받아 둔 페이지 수를 concurrency개로 제한합니다.
+ * - 응답은 문자열로 버퍼링하지 않고 스트리밍 파서로 바로 읽습니다. ({@link Data4LibraryClient#libSrch})
+ * - 도서관마다 내용 해시를 저장해 두고, 새 도서관은 추가하고 해시가 바뀐 도서관만 갱신합니다.
+ *   바뀐 것이 없으면 쓰기도 없습니다.
+ * - 저장은 batch-size개씩 JDBC 배치로 하고 청크마다 커밋합니다. 청크 저장이 실패하면 그 청크만 건너뛰고
+ *   해당 페이지를 실패로 세어 체크포인트를 남기지 않으므로, 다음 실행에서 그 페이지를 다시 처리합니다.
+ * - 페이지 처리를 마칠 때마다 체크포인트({@link LibrarySyncPage})를 남기므로, 중간에 실패하거나 프로세스가 죽어도
+ *   다음 실행은 같은 회차의 남은 페이지만 이어서 처리합니다. 페이지 저장은 다시 실행해도 결과가 같아 안전합니다.
+ * - 모든 페이지를 처리한 회차에서 한 번도 나오지 않은 도서관은 폐관 처리(soft delete)합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LibraryBatchService {
 
     private final LibraryRepository libraryRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final LibraryBulkRepository libraryBulkRepository;
+    private final LibrarySyncRunRepository syncRunRepository;
+    private final LibrarySyncPageRepository syncPageRepository;
+    private final Data4LibraryClient data4LibraryClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int pageSize;
+    private final int concurrency;
+    private final int batchSize;
+    private final double maxDeleteRatio;
+    private final ExecutorService fetchExecutor;
 
-    // ObjectMapper는 여러 번 생성할 필요 없이 재사용 가능하므로 필드로 선언합니다.
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    public LibraryBatchService(LibraryRepository libraryRepository,
+                               LibraryBulkRepository libraryBulkRepository,
+                               LibrarySyncRunRepository syncRunRepository,
+                               LibrarySyncPageRepository syncPageRepository,
+                               Data4LibraryClient data4LibraryClient,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${library.sync.page-size:1000}") int pageSize,
+                               @Value("${library.sync.concurrency:4}") int concurrency,
+                               @Value("${library.sync.batch-size:500}") int batchSize,
+                               @Value("${library.sync.max-delete-ratio:0.1}") double maxDeleteRatio) {
+        this.libraryRepository = libraryRepository;
+        this.libraryBulkRepository = libraryBulkRepository;
+        this.syncRunRepository = syncRunRepository;
+        this.syncPageRepository = syncPageRepository;
+        this.data4LibraryClient = data4LibraryClient;
+        this.eventPublisher = eventPublisher;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.maxDeleteRatio = maxDeleteRatio;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fetchExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "d4l-libsrch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-    @Value("${external.api.data4library}")
-    private String data4LibApiKey;
+    /**
+     * 페이지 하나를 처리할 때마다 처리한 페이지 수와 전체 페이지 수(모르면 null)를 알려줍니다.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onPage(int donePages, Integer totalPages);
+    }
 
-    @Transactional
-    public void fetchAndSaveAllLibrariesFromData4Lib() {
-        log.info("정보나루 API를 이용한 도서관 데이터 배치 작업을 시작합니다. (ObjectMapper 방식)");
+    public LibraryDto.SyncResult fetchAndSaveAllLibrariesFromData4Lib() {
+        return fetchAndSaveAllLibrariesFromData4Lib((donePages, totalPages) -> { });
+    }
 
-        Set<Long> existingLibCodes = libraryRepository.findAll().stream()
-                .map(Library::getD4lLibCode)
-                .collect(Collectors.toSet());
-        log.info("DB에서 {}개의 기존 도서관 코드를 메모리에 로드했습니다.", existingLibCodes.size());
+    /**
+     * 동기화를 실행합니다. 실행 스레드가 interrupt되면 남은 페이지를 가져오지 않고 멈추며, 다음 실행에서 이어서 진행합니다.
+     */
+    public synchronized LibraryDto.SyncResult fetchAndSaveAllLibrariesFromData4Lib(ProgressListener progressListener) {
+        SyncContext context = startOrResume();
+        context.progressListener = progressListener;
+        log.info("정보나루 도서관 동기화를 시작합니다. 회차={}, 이미 처리한 페이지 {}개, 기존 도서관 {}개",
+                context.run.getId(), context.donePages.size(), context.knownHashes.size());
 
-        int pageNo = 1;
-        final int pageSize = 1000;
+        int failedPages = 0;
 
-        while (true) {
-            String url = String.format(
-                    "http://data4library.kr/api/libSrch?authKey=%s&pageNo=%d&pageSize=%d&format=json",
-                    data4LibApiKey, pageNo, pageSize
-            );
+        // 1. 첫 페이지로 전체 도서관 수를 확인 (이어서 진행하는 회차는 저장된 값을 사용)
+        if (!context.donePages.contains(1)) {
+            Data4LibraryClient.LibSrchPage firstPage;
+            try {
+                firstPage = data4LibraryClient.libSrch(1, pageSize);
+            } catch (RuntimeException e) {
+                log.error("정보나루 도서관 목록 첫 페이지를 가져오지 못했습니다. 다음 실행에서 이어서 진행합니다.", e);
+                return finish(context, 1);
+            }
+            if (firstPage.getNumFound() >= 0) {
+                context.run.setTotalPages(Math.max(1, (firstPage.getNumFound() + pageSize - 1) / pageSize));
+                syncRunRepository.save(context.run);
+            }
+            if (!processPage(context, 1, firstPage.getLibs())) {
+                failedPages++;
+            }
+        }
 
+        // 2. 남은 페이지를 병렬로 가져오고, 도착하는 순서대로 저장
+        // 전체 페이지 수를 모르면 마지막 페이지(pageSize보다 적게 온 페이지)를 만날 때까지 가져옴
+        int lastPage = context.run.getTotalPages() != null ? context.run.getTotalPages() : Integer.MAX_VALUE;
+        ExecutorCompletionService<FetchedPage> completionService = new ExecutorCompletionService<>(fetchExecutor);
+        int nextPage = 2;
+        int inFlight = 0;
+        while (true) {
+            while (!context.reachedEnd && inFlight < concurrency && nextPage <= lastPage) {
+                int pageNo = nextPage++;
+                if (context.donePages.contains(pageNo)) {
+                    continue;
+                }
+                completionService.submit(() -> new FetchedPage(pageNo, data4LibraryClient.libSrch(pageNo, pageSize).getLibs()));
+                inFlight++;
+            }
+            if (inFlight == 0) {
+                break;
+            }
             try {
-                // 1. API로부터 응답을 순수 String 형태로 받습니다.
-                String jsonResponse = restTemplate.getForObject(url, String.class);
+                FetchedPage page = completionService.take().get();
+                inFlight--;
+                if (!processPage(context, page.pageNo, page.libs)) {
+                    failedPages++;
+                }
+            } catch (ExecutionException e) {
+                inFlight--;
+                failedPages++;
+                log.warn("정보나루 도서관 목록 페이지를 가져오지 못했습니다. 다음 실행에서 다시 시도합니다.", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("도서관 데이터 배치 작업이 중단되었습니다.");
+                failedPages++;
+                break;
+            }
+        }
+        return finish(context, failedPages);
+    }
 
-                // 2. 받아온 String을 ObjectMapper를 사용해 DTO 객체로 변환합니다.
-                LibraryDto.Data4LibResponse responseDto = objectMapper.readValue(jsonResponse, LibraryDto.Data4LibResponse.class);
+    /**
+     * 진행 중인 회차가 있으면 체크포인트에서 처리한 페이지와 그 페이지들에서 본 도서관 코드를 복원하고,
+     * 없으면 새 회차를 시작합니다.
+     */
+    private SyncContext startOrResume() {
+        LibrarySyncRun run = syncRunRepository.findFirstByStatusOrderByIdDesc(LibrarySyncRun.Status.RUNNING)
+                .filter(running -> running.getPageSize() == pageSize)
+                .orElseGet(() -> syncRunRepository.save(new LibrarySyncRun(pageSize)));
 
-                // --- 이하 로직은 기존과 동일 --- //
+        SyncContext context = new SyncContext(run);
+        for (LibrarySyncPage page : syncPageRepository.findByRun(run)) {
+            context.donePages.add(page.getPageNo());
+            context.seenCodes.addAll(page.getLibCodeList());
+        }
+        for (LibraryRepository.LibrarySyncState state : libraryRepository.findAllSyncStates()) {
+            context.knownHashes.put(state.getD4lLibCode(), state.getContentHash());
+            if (state.getDeletedAt() != null) {
+                context.deletedCodes.add(state.getD4lLibCode());
+            }
+        }
+        return context;
+    }
 
-                if (responseDto == null || responseDto.getResponse() == null || responseDto.getResponse().getLibs() == null || responseDto.getResponse().getLibs().isEmpty()) {
-                    log.info("페이지 {}에서 더 이상 가져올 도서관 데이터가 없어 작업을 종료합니다.", pageNo);
-                    break;
-                }
+    /**
+     * 페이지 하나를 반영하고 체크포인트를 남깁니다.
+     * 새 도서관은 추가하고, 내용 해시가 다르거나 폐관 처리됐던 도서관만 갱신합니다.
+     * 저장에 실패한 청크가 있으면 체크포인트를 남기지 않고 false를 반환합니다. (저장된 청크는 그대로 둠)
+     */
+    private boolean processPage(SyncContext context, int pageNo, List<LibraryDto.Data4LibResponse.LibData> libDataList) {
+        List<Long> pageCodes = new ArrayList<>(libDataList.size());
+        List<Library> librariesToInsert = new ArrayList<>();
+        List<Library> librariesToUpdate = new ArrayList<>();
+        for (LibraryDto.Data4LibResponse.LibData libData : libDataList) {
+            if (libData.getLibCode() == null) {
+                continue;
+            }
+            // 좌표가 잘못된 항목도 목록에는 있으므로 폐관 판정에서는 본 것으로 취급
+            pageCodes.add(libData.getLibCode());
+            Library library = toLibrary(libData);
+            if (library == null) {
+                continue;
+            }
+            Long knownHash = context.knownHashes.get(libData.getLibCode());
+            if (!context.knownHashes.containsKey(libData.getLibCode())) {
+                librariesToInsert.add(library);
+            } else if (!Objects.equals(knownHash, library.computeContentHash()) || context.deletedCodes.contains(libData.getLibCode())) {
+                librariesToUpdate.add(library);
+            }
+        }
 
-                List<LibraryDto.Data4LibResponse.LibData> libDataList = responseDto.getResponse().getLibs().stream()
-                        .map(LibraryDto.Data4LibResponse.Lib::getLib)
-                        .collect(Collectors.toList());
-
-                List<Library> librariesToSave = new ArrayList<>();
-
-                for (LibraryDto.Data4LibResponse.LibData libData : libDataList) {
-                    if (existingLibCodes.contains(libData.getLibCode())) {
-                        continue;
-                    }
-                    if (libData.getLatitude() == null || libData.getLongitude() == null || libData.getLatitude().isEmpty() || libData.getLongitude().isEmpty()) {
-                        log.warn("좌표 정보가 없는 도서관 데이터는 건너뜁니다: libCode={}, libName={}", libData.getLibCode(), libData.getLibName());
-                        continue;
-                    }
-
-                    try {
-                        Library newLibrary = Library.builder()
-                                .d4lLibCode(libData.getLibCode())
-                                .libName(libData.getLibName())
-                                .address(libData.getAddress())
-                                .tel(libData.getTel())
-                                .homepage(libData.getHomepage())
-                                .latitude(Double.parseDouble(libData.getLatitude()))
-                                .longitude(Double.parseDouble(libData.getLongitude()))
-                                .build();
-                        librariesToSave.add(newLibrary);
-                    } catch (NumberFormatException e) {
-                        log.error("좌표 정보 파싱 실패: libCode={}, libName={}, lat={}, lon={}",
-                                libData.getLibCode(), libData.getLibName(), libData.getLatitude(), libData.getLongitude());
-                    }
-                }
+        List<Library> failedLibraries = new ArrayList<>();
+        int inserted = writeInChunks(librariesToInsert, libraryBulkRepository::insertIgnoringDuplicates, failedLibraries);
+        int updated = writeInChunks(librariesToUpdate, libraryBulkRepository::updateChanged, failedLibraries);
+        // 저장하지 못한 도서관은 알고 있는 해시에 넣지 않아야 다시 처리할 때 신규/변경으로 판정됨
+        Set<Library> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        failed.addAll(failedLibraries);
+        for (Library library : librariesToInsert) {
+            if (!failed.contains(library)) {
+                context.knownHashes.put(library.getD4lLibCode(), library.computeContentHash());
+            }
+        }
+        for (Library library : librariesToUpdate) {
+            if (!failed.contains(library)) {
+                context.knownHashes.put(library.getD4lLibCode(), library.computeContentHash());
+                context.deletedCodes.remove(library.getD4lLibCode());
+            }
+        }
 
-                if (!librariesToSave.isEmpty()) {
-                    libraryRepository.saveAll(librariesToSave);
-                    log.info("페이지 {}에서 {}개의 신규 도서관을 DB에 저장했습니다.", pageNo, librariesToSave.size());
-                }
+        context.fetchedCount += libDataList.size();
+        context.insertedCount += inserted;
+        context.updatedCount += updated;
+        if (libDataList.size() < pageSize) {
+            context.reachedEnd = true;
+            if (context.run.getTotalPages() == null) {
+                context.run.setTotalPages(pageNo);
+            }
+        }
+        context.run.addChanges(inserted, updated);
+        syncRunRepository.save(context.run);
+        if (!failedLibraries.isEmpty()) {
+            log.warn("페이지 {}의 도서관 {}개를 저장하지 못했습니다. 다음 실행에서 이 페이지를 다시 처리합니다.", pageNo, failedLibraries.size());
+            return false;
+        }
+        context.seenCodes.addAll(pageCodes);
+        context.donePages.add(pageNo);
+        context.pageCount++;
+        syncPageRepository.save(new LibrarySyncPage(context.run, pageNo, pageCodes));
+        context.progressListener.onPage(context.donePages.size(), context.run.getTotalPages());
+        log.info("페이지 {} 처리: 조회 {}개, 신규 {}개, 변경 {}개", pageNo, libDataList.size(), inserted, updated);
+        return true;
+    }
 
-                if (libDataList.size() < pageSize) {
-                    log.info("마지막 페이지입니다. 총 {} 페이지를 처리했습니다.", pageNo);
-                    break;
-                }
+    /**
+     * 모든 페이지를 처리했으면 목록에서 사라진 도서관을 폐관 처리하고 회차를 완료합니다.
+     * 실패한 페이지가 있으면 회차를 RUNNING으로 남겨 다음 실행에서 이어서 진행합니다.
+     */
+    private LibraryDto.SyncResult finish(SyncContext context, int failedPages) {
+        int deletedCount = 0;
+        Integer totalPages = context.run.getTotalPages();
+        boolean fullPass = failedPages == 0 && totalPages != null && context.donePages.size() >= totalPages;
+        if (fullPass) {
+            deletedCount = softDeleteMissing(context);
+            context.run.complete(deletedCount);
+            syncRunRepository.save(context.run);
+        }
+
+        if (context.insertedCount > 0 || context.updatedCount > 0 || deletedCount > 0) {
+            eventPublisher.publishEvent(new LibrariesUpdatedEvent());
+        }
+        log.info("도서관 데이터 배치 작업을 {}. 회차={}, 페이지={}, 실패 페이지={}, 조회 {}개, 신규 {}개, 변경 {}개, 폐관 {}개",
+                fullPass ? "완료했습니다" : "중단했습니다 (다음 실행에서 이어서 진행)", context.run.getId(),
+                context.pageCount, failedPages, context.fetchedCount, context.insertedCount, context.updatedCount, deletedCount);
+        return new LibraryDto.SyncResult(context.pageCount, failedPages, context.fetchedCount,
+                context.insertedCount, context.updatedCount, deletedCount);
+    }
+
+    private int softDeleteMissing(SyncContext context) {
+        List<Long> missingCodes = new ArrayList<>();
+        int activeCount = 0;
+        for (Long code : context.knownHashes.keySet()) {
+            if (context.deletedCodes.contains(code)) {
+                continue;
+            }
+            activeCount++;
+            if (!context.seenCodes.contains(code)) {
+                missingCodes.add(code);
+            }
+        }
+        if (missingCodes.isEmpty()) {
+            return 0;
+        }
+        // 정보나루가 일부만 응답하는 등의 이상 상황에서 운영 중인 도서관을 대량으로 지우지 않도록 보호
+        if (missingCodes.size() > activeCount * maxDeleteRatio) {
+            log.warn("목록에서 사라진 도서관이 {}개로 기준({}%)을 넘어 폐관 처리를 건너뜁니다.",
+                    missingCodes.size(), Math.round(maxDeleteRatio * 100));
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 폐관 처리하지 못한 도서관은 다음 회차에서도 목록에 없으면 다시 처리됨
+        return writeInChunks(missingCodes, chunk -> libraryBulkRepository.softDelete(chunk, now), new ArrayList<>());
+    }
 
-            } catch (JsonProcessingException e) {
-                log.error("JSON 파싱 중 에러가 발생했습니다. 페이지: {}", pageNo, e);
-                break; // 파싱 실패 시 루프 중단
-            } catch (Exception e) {
-                log.error("API 호출 중 에러가 발생했습니다. 페이지: {}", pageNo, e);
-                break; // 기타 에러 발생 시 루프 중단
+    /**
+     * rows를 batch-size개씩 나눠 저장하고 저장된 행 수를 반환합니다.
+     * 청크 하나가 실패하면 그 청크의 행을 failedRows에 담고 다음 청크를 계속 저장합니다.
+     */
+    private <T> int writeInChunks(List<T> rows, ToIntFunction<List<T>> writer, List<T> failedRows) {
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<T> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            try {
+                written += writer.applyAsInt(chunk);
+            } catch (RuntimeException e) {
+                log.error("도서관 {}개 저장에 실패했습니다.", chunk.size(), e);
+                failedRows.addAll(chunk);
             }
+        }
+        return written;
+    }
+
+    private Library toLibrary(LibraryDto.Data4LibResponse.LibData libData) {
+        if (libData.getLatitude() == null || libData.getLongitude() == null || libData.getLatitude().isEmpty() || libData.getLongitude().isEmpty()) {
+            log.warn("좌표 정보가 없는 도서관 데이터는 건너뜁니다: libCode={}, libName={}", libData.getLibCode(), libData.getLibName());
+            return null;
+        }
+        try {
+            return Library.builder()
+                    .d4lLibCode(libData.getLibCode())
+                    .libName(libData.getLibName())
+                    .address(libData.getAddress())
+                    .tel(libData.getTel())
+                    .homepage(libData.getHomepage())
+                    .latitude(Double.parseDouble(libData.getLatitude()))
+                    .longitude(Double.parseDouble(libData.getLongitude()))
+                    .build();
+        } catch (NumberFormatException e) {
+            log.error("좌표 정보 파싱 실패: libCode={}, libName={}, lat={}, lon={}",
+                    libData.getLibCode(), libData.getLibName(), libData.getLatitude(), libData.getLongitude());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    @AllArgsConstructor
+    private static class FetchedPage {
+        private final int pageNo;
+        private final List<LibraryDto.Data4LibResponse.LibData> libs;
+    }
+
+    /**
+     * 한 번의 실행 동안 유지하는 상태. 조정 스레드(이 메서드를 호출한 스레드)에서만 읽고 씁니다.
+     */
+    private static class SyncContext {
+        private final LibrarySyncRun run;
+        private final Set<Integer> donePages = new HashSet<>();
+        private final Set<Long> seenCodes = new HashSet<>();
+        // 정보나루 코드 -> 내용 해시 (이전 버전에서 저장된 도서관은 null)
+        private final Map<Long, Long> knownHashes = new HashMap<>();
+        private final Set<Long> deletedCodes = new HashSet<>();
+        private ProgressListener progressListener;
+        private boolean reachedEnd;
+        private int pageCount;
+        private int fetchedCount;
+        private int insertedCount;
+        private int updatedCount;
 
-            pageNo++;
+        private SyncContext(LibrarySyncRun run) {
+            this.run = run;
         }
-        log.info("도서관 데이터 배치 작업을 완료했습니다.");
     }
-}
\ No newline at end of file
+}
@@ -7,16 +7,20 @@ import com.example.BookProject.dto.LibraryDto;
 import com.example.BookProject.repository.LibraryRepository;
 import com.example.BookProject.repository.UserLibraryRepository;
 import com.example.BookProject.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Value;
+import com.example.BookProject.search.LibrarySpatialIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LibraryService {
@@ -25,10 +29,8 @@ public class LibraryService {
     private final UserLibraryRepository userLibraryRepository;
     private final UserRepository userRepository; // User 조회용
 
-    @Value("${external.api.data4library}")
-    private String DATA4L_API_KEY;
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 읽기 전용 색인을 통째로 교체하므로 읽는 쪽은 락이 필요 없음
+    private final AtomicReference<LibrarySpatialIndex> spatialIndex = new AtomicReference<>(LibrarySpatialIndex.EMPTY);
 
 
 //    @Transactional
@@ -88,84 +90,55 @@ public class LibraryService {
 //    }
 
     /**
-     * [대대적 수정!]
+     * 애플리케이션이 뜬 뒤 전체 도서관으로 위치 색인을 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSpatialIndex() {
+        reloadSpatialIndex();
+    }
+
+    /**
+     * 배치 작업 등으로 도서관 데이터가 바뀌면 새 색인을 만들어 통째로 교체합니다.
+     * 교체 전까지는 기존 색인으로 계속 응답합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLibrariesUpdated(LibrariesUpdatedEvent event) {
+        reloadSpatialIndex();
+    }
+
+    private void reloadSpatialIndex() {
+        long startedAt = System.currentTimeMillis();
+        LibrarySpatialIndex index = new LibrarySpatialIndex(libraryRepository.findAllByDeletedAtIsNull());
+        spatialIndex.set(index);
+        log.info("도서관 위치 색인을 만들었습니다. 도서관 {}곳, {}ms", index.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
      * 사용자의 현재 위치(위도, 경도)와 검색 반경(distanceKm)을 기준으로,
-     * 우리 DB에 저장된 도서관 목록을 검색하여 반환합니다.
-     * 더 이상 외부 API를 실시간으로 호출하지 않습니다.
+     * 메모리의 도서관 위치 색인에서 반경 안의 도서관을 찾아 반환합니다. (DB를 조회하지 않음)
      *
      * @param latitude   사용자 현재 위치의 위도
      * @param longitude  사용자 현재 위치의 경도
      * @param distanceKm 검색 반경 (km)
-     * @return 근처 도서관 목록
+     * @return 근처 도서관 목록 (가까운 순, 거리 포함)
      */
-    @Transactional(readOnly = true)
     public List<LibraryDto.Response> searchNearbyLibraries(double latitude, double longitude, double distanceKm) {
-        // 1. 검색할 위도, 경도의 최소/최대 범위 계산
-        //    지구 둘레, 위도 1도당 거리 등을 이용한 근사치 계산법입니다.
-        final double EARTH_RADIUS_KM = 6371.0;
-        double latRadian = Math.toRadians(latitude);
-        double latDegree = 1 / (EARTH_RADIUS_KM * Math.cos(latRadian) * Math.PI / 180);
-        double lonDegree = 1 / (EARTH_RADIUS_KM * Math.PI / 180);
-
-        double minLat = latitude - (distanceKm / latDegree);
-        double maxLat = latitude + (distanceKm / latDegree);
-        double minLon = longitude - (distanceKm / lonDegree);
-        double maxLon = longitude + (distanceKm / lonDegree);
-
-        // 2. Repository에 새로 만든 메서드를 호출하여 사각형 범위 내의 도서관을 1차로 필터링
-        List<Library> librariesInBounds = libraryRepository.findByLocationBounds(minLat, maxLat, minLon, maxLon);
-
-        // 3. (선택적: 정확도 향상) 1차 필터링된 결과에 대해 실제 거리를 계산하여 반경 내의 도서관만 최종 선택
-        return librariesInBounds.stream()
-                .filter(library -> calculateDistance(latitude, longitude, library.getLatitude(), library.getLongitude()) <= distanceKm)
-                .map(LibraryDto.Response::new) // Library 객체를 LibraryDto.Response 객체로 변환
+        return spatialIndex.get().withinRadius(latitude, longitude, distanceKm).stream()
+                .map(LibrarySpatialIndex.Hit::toResponse)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 두 지점 간의 거리를 계산하는 Haversine formula
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final double EARTH_RADIUS_KM = 6371.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return EARTH_RADIUS_KM * c;
-    }
-
-    /**
-     * 도서 소장 여부 및 대출 가능 여부 조회 (실시간)
-     * 이 기능은 '도서관 정보나루' API를 실시간 호출해야만 알 수 있으므로 그대로 유지합니다.
-     * 단, d4l_lib_code가 있는 도서관에 대해서만 호출 가능합니다.
+     * 사용자 위치에서 가장 가까운 도서관 k곳을 가까운 순으로 반환합니다.
+     * 반경 검색과 달리 주변에 도서관이 드문 지역에서도 결과가 비지 않습니다.
+     *
+     * @param maxDistanceKm 이 거리보다 먼 도서관은 제외 (null이면 제한 없음)
      */
-    @Transactional(readOnly = true)
-    public LibraryDto.AvailabilityResponse checkBookAvailability(Long d4lLibCode, String isbn13) {
-        // d4l_lib_code가 없는 도서관에 대한 예외처리
-        libraryRepository.findByD4lLibCode(d4lLibCode)
-                .orElseThrow(() -> new IllegalArgumentException("대출 정보 조회 기능이 지원되지 않는 도서관입니다."));
-
-        String url = "http://data4library.kr/api/bookExist?authKey=" + DATA4L_API_KEY
-                + "&libCode=" + d4lLibCode + "&isbn13=" + isbn13 + "&format=json";
-
-        try {
-            String jsonResponse = restTemplate.getForObject(url, String.class);
-            LibraryDto.Data4LibBookExistResponse response = objectMapper.readValue(jsonResponse, LibraryDto.Data4LibBookExistResponse.class);
-
-            if (response == null || response.getResponse() == null || response.getResponse().getResult() == null) {
-                return new LibraryDto.AvailabilityResponse(d4lLibCode, isbn13, false, false);
-            }
-
-            boolean hasBook = "Y".equals(response.getResponse().getResult().getHasBook());
-            boolean loanAvailable = "Y".equals(response.getResponse().getResult().getLoanAvailable());
-            return new LibraryDto.AvailabilityResponse(d4lLibCode, isbn13, hasBook, loanAvailable);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return new LibraryDto.AvailabilityResponse(d4lLibCode, isbn13, false, false);
-        }
+    public List<LibraryDto.Response> findNearestLibraries(double latitude, double longitude, int k, Double maxDistanceKm) {
+        double maxRadius = maxDistanceKm != null ? maxDistanceKm : Double.POSITIVE_INFINITY;
+        return spatialIndex.get().nearest(latitude, longitude, k, maxRadius).stream()
+                .map(LibrarySpatialIndex.Hit::toResponse)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -185,6 +158,9 @@ public class LibraryService {
 
         Library library = libraryRepository.findById(libraryId)
                 .orElseThrow(()-> new IllegalArgumentException("도서관을 찾을 수 없습니다. Lib id: " + libraryId));
+        if (library.isDeleted()) {
+            throw new IllegalArgumentException("운영하지 않는 도서관입니다. Lib id: " + libraryId);
+        }
 
         if(userLibraryRepository.existsByUserAndLibrary_Id(user, libraryId)){
             throw new IllegalStateException("이미 추가된 도서관입니다.");
@@ -0,0 +1,87 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.BookDto;
+import com.example.BookProject.repository.BookRepository;
+import com.example.BookProject.search.BookSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB에 저장된 책을 대상으로 한 로컬 검색을 담당합니다.
+ * 애플리케이션이 뜬 뒤 books 테이블 전체로 색인을 만들고, 이후에는 새로 저장된 책만 추가로 색인합니다.
+ */
+@Slf4j
+@Service
+public class LocalBookSearchService {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex = new BookSearchIndex();
+    private final boolean localFirst;
+    private final int minHits;
+
+    public LocalBookSearchService(BookRepository bookRepository,
+                                  @Value("${book.local-search.local-first:true}") boolean localFirst,
+                                  @Value("${book.local-search.min-hits:10}") int minHits) {
+        this.bookRepository = bookRepository;
+        this.localFirst = localFirst;
+        this.minHits = minHits;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long startedAt = System.currentTimeMillis();
+        long cursor = 0L;
+        List<Book> page;
+        do {
+            page = bookRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(LOAD_PAGE_SIZE));
+            bookSearchIndex.addAll(page);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        log.info("로컬 도서 검색 색인을 만들었습니다. 책 {}권, {}ms", bookSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 새로 저장된 책을 색인에 추가합니다. 트랜잭션이 커밋된 뒤에 추가하여,
+     * 롤백된 책이 검색되지 않도록 합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksSaved(BooksSavedEvent event) {
+        bookSearchIndex.addAll(event.getBooks());
+    }
+
+    public List<BookDto.BookSearchResponse> search(String query, int size) {
+        return bookSearchIndex.search(query, size).stream()
+                .map(BookSearchIndex.Hit::getBook)
+                .toList();
+    }
+
+    /**
+     * 질의어의 모든 토큰이 들어간 책이 로컬에 충분히(min-hits 이상) 있으면 그 결과를 반환합니다.
+     * 결과가 부족하면 빈 값을 반환하고, 호출하는 쪽은 알라딘 API를 사용합니다.
+     */
+    public Optional<List<BookDto.BookSearchResponse>> searchIfEnough(String query, int size) {
+        if (!localFirst) {
+            return Optional.empty();
+        }
+        List<BookDto.BookSearchResponse> fullMatches = bookSearchIndex.search(query, Math.max(size, minHits), true).stream()
+                .map(BookSearchIndex.Hit::getBook)
+                .toList();
+        if (fullMatches.size() < minHits) {
+            return Optional.empty();
+        }
+        return Optional.of(fullMatches.subList(0, Math.min(size, fullMatches.size())));
+    }
+}
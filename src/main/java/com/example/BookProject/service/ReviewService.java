@@ -1,18 +1,26 @@
 package com.example.BookProject.service;
 
 import com.example.BookProject.domain.*;
+import com.example.BookProject.dto.ReviewPageResponseDto;
 import com.example.BookProject.dto.ReviewRequestDto;
 import com.example.BookProject.dto.ReviewResponseDto;
+import com.example.BookProject.dto.ReviewSort;
 import com.example.BookProject.repository.BookRepository;
 import com.example.BookProject.repository.ReviewRepository;
 import com.example.BookProject.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +30,15 @@ public class ReviewService {
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
 
+    private static final String CURSOR_DELIMITER = "|";
+    // 첫 페이지의 최신순 커서: 어떤 리뷰의 작성 시각보다도 뒤
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Value("${review.page.default-size:20}")
+    private int defaultPageSize;
+    @Value("${review.page.max-size:100}")
+    private int maxPageSize;
+
     @Transactional
     public ReviewResponseDto createReview(ReviewRequestDto reviewRequestDto, Long userId) {
         User user = userRepository.findById(userId)
@@ -41,14 +58,20 @@ public class ReviewService {
         return new ReviewResponseDto(savedReview);
     }
 
-    @Transactional
-    public List<ReviewResponseDto> getReviewsByBookId(Long bookId) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 bookId의 책을 찾을 수 없습니다."));
-
-        return reviewRepository.findById(book.getId()).stream()
-                .map(ReviewResponseDto::new)
-                .collect(Collectors.toList());
+    /**
+     * 책의 리뷰를 (정렬 기준, review_id) 커서(keyset) 방식으로 페이지 조회합니다.
+     * 작성자 이름까지 DTO로 바로 받아오므로 페이지 하나에 쿼리 한 번이면 됩니다.
+     * 첫 페이지가 비었을 때만 책이 있는지 확인해, 없는 책이면 EntityNotFoundException을 던집니다.
+     */
+    public ReviewPageResponseDto getReviewsByBookId(Long bookId, ReviewSort sort, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<ReviewResponseDto> reviews = sort == ReviewSort.RATING
+                ? reviewRepository.findTopRatedByBookId(bookId, ratingOf(cursor), idOf(cursor), Limit.of(pageSize + 1))
+                : reviewRepository.findNewestByBookId(bookId, createdAtOf(cursor), idOf(cursor), Limit.of(pageSize + 1));
+        if (reviews.isEmpty() && cursor == null && !bookRepository.existsById(bookId)) {
+            throw new EntityNotFoundException("해당 bookId의 책을 찾을 수 없습니다.");
+        }
+        return toPage(reviews, sort, pageSize);
     }
 
     @Transactional
@@ -59,12 +82,18 @@ public class ReviewService {
         return new ReviewResponseDto(review);
     }
 
-    @Transactional(readOnly = true)
-    public List<ReviewResponseDto> getReviewsByBookIsbn(String isbn) {
-        List<Review> reviews = reviewRepository.findByBookIsbn(isbn);
-        return reviews.stream()
-                .map(ReviewResponseDto::new)
-                .collect(Collectors.toList());
+    /**
+     * {@link #getReviewsByBookId}와 같고, 책을 ISBN으로 찾습니다.
+     */
+    public ReviewPageResponseDto getReviewsByBookIsbn(String isbn, ReviewSort sort, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<ReviewResponseDto> reviews = sort == ReviewSort.RATING
+                ? reviewRepository.findTopRatedByBookIsbn(isbn, ratingOf(cursor), idOf(cursor), Limit.of(pageSize + 1))
+                : reviewRepository.findNewestByBookIsbn(isbn, createdAtOf(cursor), idOf(cursor), Limit.of(pageSize + 1));
+        if (reviews.isEmpty() && cursor == null && bookRepository.findByIsbn(isbn).isEmpty()) {
+            throw new EntityNotFoundException("해당 ISBN의 책을 찾을 수 없습니다: " + isbn);
+        }
+        return toPage(reviews, sort, pageSize);
     }
 
     @Transactional
@@ -102,4 +131,74 @@ public class ReviewService {
 
         reviewRepository.delete(review);
     }
+
+    private int pageSize(Integer size) {
+        return (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+    }
+
+    // 다음 페이지가 있는지 알기 위해 하나 더 조회한 결과를 잘라 페이지로 만듦
+    private static ReviewPageResponseDto toPage(List<ReviewResponseDto> reviews, ReviewSort sort, int pageSize) {
+        boolean hasNext = reviews.size() > pageSize;
+        List<ReviewResponseDto> content = hasNext ? List.copyOf(reviews.subList(0, pageSize)) : reviews;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1), sort) : null;
+        return new ReviewPageResponseDto(content, nextCursor, hasNext);
+    }
+
+    /*
+     * 커서는 마지막 리뷰의 "정렬 기준 값|review_id"를 Base64(URL-safe)로 감싼 문자열입니다.
+     * 클라이언트는 내용을 해석하지 않고 nextCursor를 그대로 돌려주기만 하면 됩니다.
+     * 커서가 없으면(첫 페이지) 어떤 리뷰보다도 뒤에 오는 값을 넘깁니다.
+     */
+    static String encodeCursor(ReviewResponseDto last, ReviewSort sort) {
+        String value = sort == ReviewSort.RATING ? String.valueOf(last.getRating()) : last.getCreatedAt().toString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((value + CURSOR_DELIMITER + last.getReviewId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        String[] parts = decoded.split(Pattern.quote(CURSOR_DELIMITER), -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        return parts;
+    }
+
+    private static Long idOf(String cursor) {
+        if (cursor == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(decodeCursor(cursor)[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    private static LocalDateTime createdAtOf(String cursor) {
+        if (cursor == null) {
+            return FIRST_PAGE_CREATED_AT;
+        }
+        try {
+            return LocalDateTime.parse(decodeCursor(cursor)[0]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("최신순 정렬의 커서가 아닙니다: " + cursor);
+        }
+    }
+
+    private static Float ratingOf(String cursor) {
+        if (cursor == null) {
+            return Float.MAX_VALUE;
+        }
+        try {
+            return Float.valueOf(decodeCursor(cursor)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("평점순 정렬의 커서가 아닙니다: " + cursor);
+        }
+    }
 }
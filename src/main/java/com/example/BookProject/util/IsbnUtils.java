@@ -0,0 +1,81 @@
+package com.example.BookProject.util;
+
+import java.util.Optional;
+
+/**
+ * ISBN 형식 검사와 정규화를 담당합니다.
+ * 하이픈/공백을 제거하고, ISBN-10은 978 접두어를 붙인 ISBN-13으로 변환한 뒤 체크섬을 검증합니다.
+ */
+public final class IsbnUtils {
+
+    private IsbnUtils() {
+    }
+
+    /**
+     * 올바른 ISBN이면 ISBN-13 형태로, 아니면 빈 값을 반환합니다.
+     */
+    public static Optional<String> normalizeIsbn13(String isbn) {
+        if (isbn == null) {
+            return Optional.empty();
+        }
+        StringBuilder digits = new StringBuilder(13);
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            if (digits.length() == 13) {
+                return Optional.empty();
+            }
+            digits.append(c == 'x' ? 'X' : c);
+        }
+
+        if (digits.length() == 13) {
+            return isValidIsbn13(digits) ? Optional.of(digits.toString()) : Optional.empty();
+        }
+        if (digits.length() == 10 && isValidIsbn10(digits)) {
+            String isbn13 = "978" + digits.substring(0, 9);
+            return Optional.of(isbn13 + isbn13CheckDigit(isbn13));
+        }
+        return Optional.empty();
+    }
+
+    static boolean isValidIsbn13(CharSequence isbn) {
+        for (int i = 0; i < 13; i++) {
+            if (!isDigit(isbn.charAt(i))) {
+                return false;
+            }
+        }
+        return isbn13CheckDigit(isbn) == isbn.charAt(12);
+    }
+
+    static boolean isValidIsbn10(CharSequence isbn) {
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = isbn.charAt(i);
+            int value;
+            if (isDigit(c)) {
+                value = c - '0';
+            } else if (c == 'X' && i == 9) {
+                value = 10;
+            } else {
+                return false;
+            }
+            sum += (10 - i) * value;
+        }
+        return sum % 11 == 0;
+    }
+
+    // 앞 12자리에 1, 3을 번갈아 곱해 더한 값으로 13번째 자리를 계산
+    private static char isbn13CheckDigit(CharSequence isbn) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (isbn.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.BookProject;
+
+import com.example.BookProject.domain.Library;
+import com.example.BookProject.dto.LibraryDto;
+import com.example.BookProject.repository.LibraryBulkRepository;
+import com.example.BookProject.repository.LibraryRepository;
+import com.example.BookProject.service.LibrariesUpdatedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExcelDataProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private LibraryRepository libraryRepository;
+    @Mock
+    private LibraryBulkRepository libraryBulkRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Captor
+    private ArgumentCaptor<List<Library>> inserted;
+    @Captor
+    private ArgumentCaptor<List<LibraryBulkRepository.MissingFields>> merged;
+
+    private ExcelDataProcessor processor;
+    private Path xlsx;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        processor = new ExcelDataProcessor(libraryRepository, libraryBulkRepository, eventPublisher);
+
+        // 기존 도서관: 전화번호가 비어 있는 못골도서관, 모든 값이 있는 자곡도서관
+        Library mokgol = library(1L, "강남구립못골도서관", "서울특별시 강남구 자곡동 123", null);
+        Library jagok = library(2L, "자곡작은도서관", "서울특별시 강남구 자곡동 45", "02-000-0000");
+        when(libraryRepository.findAll()).thenReturn(List.of(mokgol, jagok));
+
+        xlsx = tempDir.resolve("libraries.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(xlsx)) {
+            Sheet sheet = workbook.createSheet();
+            writeRow(sheet, 0, "도서관명", "주소", "전화번호", "위도", "경도");
+            writeRow(sheet, 1, "강남구립못골도서관(본관)", "서울특별시 강남구 자곡동 123", "02-123-4567", "37.47", "127.10");
+            writeRow(sheet, 2, "자곡작은도서관", "서울특별시 강남구 자곡동 45", "02-999-9999", null, null);
+            writeRow(sheet, 3, "해오름작은도서관", "부산광역시 해운대구 우동 1", "051-111-1111", "35.16", "129.16");
+            writeRow(sheet, 4, "푸른마을도서관", "대구광역시 중구 동인동 2", null, null, null);
+            writeRow(sheet, 5, "도서관", "광주광역시 북구 용봉동", null, null, null);
+            workbook.write(out);
+        }
+    }
+
+    @DisplayName("dry run은 DB를 바꾸지 않고 행마다 판정 결과를 NDJSON 보고서로 쓴다")
+    @Test
+    void importLibraries_dryRun() throws Exception {
+        // GIVEN
+        Path report = tempDir.resolve("reports/match.ndjson");
+
+        // WHEN
+        LibraryDto.ExcelImportResult result = processor.importLibraries(xlsx, report, false);
+
+        // THEN
+        assertThat(result.isApplied()).isFalse();
+        assertThat(result.getDuplicateCount()).isEqualTo(2);
+        assertThat(result.getNewCount()).isEqualTo(2);
+        assertThat(result.getSkippedCount()).isEqualTo(2); // 좌표 없는 신규 1 + 이름이 빈 행 1
+        assertThat(result.getInsertedCount()).isZero();
+        assertThat(result.getMergedCount()).isZero();
+        verify(libraryBulkRepository, never()).insertWithoutCode(anyList());
+        verify(libraryBulkRepository, never()).fillMissingFields(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+
+        List<JsonNode> lines = readReport(report);
+        assertThat(lines).extracting(line -> line.get("action").asText())
+                .containsExactly("MERGE", "UNCHANGED", "INSERT", "SKIPPED_NO_COORDINATES", "SKIPPED_EMPTY_NAME");
+        assertThat(lines.get(0).get("libraryId").asLong()).isEqualTo(1L);
+        assertThat(lines.get(0).get("candidates")).hasSize(1);
+    }
+
+    @DisplayName("apply면 신규 도서관은 배치로 저장하고, 같은 도서관은 비어 있는 필드만 채운다")
+    @Test
+    void importLibraries_apply() throws Exception {
+        // GIVEN
+        when(libraryBulkRepository.insertWithoutCode(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        when(libraryBulkRepository.fillMissingFields(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // WHEN
+        LibraryDto.ExcelImportResult result = processor.importLibraries(xlsx, tempDir.resolve("match.ndjson"), true);
+
+        // THEN
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        assertThat(result.getMergedCount()).isEqualTo(1);
+
+        verify(libraryBulkRepository).insertWithoutCode(inserted.capture());
+        assertThat(inserted.getValue()).singleElement().satisfies(library -> {
+            assertThat(library.getLibName()).isEqualTo("해오름작은도서관");
+            assertThat(library.getTel()).isEqualTo("051-111-1111");
+            assertThat(library.getLatitude()).isEqualTo(35.16);
+        });
+
+        verify(libraryBulkRepository).fillMissingFields(merged.capture());
+        assertThat(merged.getValue()).singleElement().satisfies(patch -> {
+            assertThat(patch.getLibraryId()).isEqualTo(1L);
+            assertThat(patch.getTel()).isEqualTo("02-123-4567");
+            // 기존 좌표가 있으므로 좌표는 채우지 않음
+            assertThat(patch.getLatitude()).isNull();
+            assertThat(patch.getLongitude()).isNull();
+        });
+        verify(eventPublisher).publishEvent(any(LibrariesUpdatedEvent.class));
+    }
+
+    @DisplayName("파일 안에 같은 신규 도서관이 여러 번 나오면 처음 한 번만 저장한다")
+    @Test
+    void importLibraries_repeatedRowInsertedOnce() throws Exception {
+        // GIVEN: 같은 배치 안에서 한 번, 다음 배치(2,000행 뒤)에서 한 번 더 반복
+        Path repeated = tempDir.resolve("repeated.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(repeated)) {
+            Sheet sheet = workbook.createSheet();
+            writeRow(sheet, 0, "도서관명", "주소", "전화번호", "위도", "경도");
+            writeRow(sheet, 1, "해오름작은도서관", "부산광역시 해운대구 우동 1", "051-111-1111", "35.16", "129.16");
+            writeRow(sheet, 2, "해오름 작은도서관", "부산광역시 해운대구 우동 1", null, "35.16", "129.16");
+            for (int i = 3; i <= 2_000; i++) {
+                writeRow(sheet, i, "", "제주특별자치도 제주시 이도동", null, null, null);
+            }
+            writeRow(sheet, 2_001, "해오름작은도서관", "부산광역시 해운대구 우동 1", "051-111-1111", "35.16", "129.16");
+            workbook.write(out);
+        }
+        when(libraryBulkRepository.insertWithoutCode(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        Path report = tempDir.resolve("repeated.ndjson");
+
+        // WHEN
+        LibraryDto.ExcelImportResult result = processor.importLibraries(repeated, report, true);
+
+        // THEN
+        assertThat(result.getNewCount()).isEqualTo(1);
+        assertThat(result.getDuplicateCount()).isEqualTo(2);
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        verify(libraryBulkRepository).insertWithoutCode(inserted.capture());
+        assertThat(inserted.getValue()).singleElement()
+                .satisfies(library -> assertThat(library.getLibName()).isEqualTo("해오름작은도서관"));
+        assertThat(readReport(report))
+                .filteredOn(line -> line.get("name").asText().startsWith("해오름"))
+                .extracting(line -> line.get("action").asText())
+                .containsExactly("INSERT", "DUPLICATE_IN_FILE", "DUPLICATE_IN_FILE");
+    }
+
+    @DisplayName("주소를 정규화하지 못해 이름만으로 같다고 판정된 행은 기존 도서관에 합치지 않고 검토 대상으로 남긴다")
+    @Test
+    void importLibraries_nameOnlyMatchNotMerged() throws Exception {
+        // GIVEN: 못골도서관과 이름은 같지만 주소로 지역을 알 수 없는 행
+        Path nameOnly = tempDir.resolve("name-only.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(nameOnly)) {
+            Sheet sheet = workbook.createSheet();
+            writeRow(sheet, 0, "도서관명", "주소", "전화번호", "위도", "경도");
+            writeRow(sheet, 1, "강남구립못골도서관", "주소 미상", "031-555-5555", "35.10", "129.03");
+            workbook.write(out);
+        }
+        Path report = tempDir.resolve("name-only.ndjson");
+
+        // WHEN
+        LibraryDto.ExcelImportResult result = processor.importLibraries(nameOnly, report, true);
+
+        // THEN
+        assertThat(result.getDuplicateCount()).isEqualTo(1);
+        assertThat(result.getMergedCount()).isZero();
+        assertThat(result.getInsertedCount()).isZero();
+        verify(libraryBulkRepository, never()).fillMissingFields(anyList());
+        verify(libraryBulkRepository, never()).insertWithoutCode(anyList());
+        assertThat(readReport(report)).singleElement().satisfies(line -> {
+            assertThat(line.get("action").asText()).isEqualTo("REVIEW_NAME_ONLY");
+            assertThat(line.get("block").asText()).isEqualTo("NAME");
+            assertThat(line.get("libraryId").asLong()).isEqualTo(1L);
+        });
+    }
+
+    private static Library library(Long id, String name, String address, String tel) {
+        Library library = Library.builder().libName(name).address(address).tel(tel).latitude(37.5).longitude(127.0).build();
+        ReflectionTestUtils.setField(library, "id", id);
+        return library;
+    }
+
+    // 실제 엑셀처럼 이름은 4번, 주소는 7번 열에 두고, 나머지 열은 그 뒤에 둠
+    private static void writeRow(Sheet sheet, int rowNum, String name, String address, String tel, String latitude, String longitude) {
+        Row row = sheet.createRow(rowNum);
+        row.createCell(4).setCellValue(name);
+        row.createCell(7).setCellValue(address);
+        String[] extras = {tel, latitude, longitude};
+        for (int i = 0; i < extras.length; i++) {
+            if (extras[i] != null) {
+                row.createCell(8 + i).setCellValue(extras[i]);
+            }
+        }
+    }
+
+    private static List<JsonNode> readReport(Path report) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(report)) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
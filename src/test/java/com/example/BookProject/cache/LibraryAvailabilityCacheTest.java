@@ -0,0 +1,93 @@
+package com.example.BookProject.cache;
+
+import com.example.BookProject.cache.LibraryAvailabilityCache.CachedAvailability;
+import com.example.BookProject.client.Data4LibraryClient;
+import com.example.BookProject.client.ExternalApiUnavailableException;
+import com.example.BookProject.dto.LibraryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LibraryAvailabilityCacheTest {
+
+    private static final String ISBN = "9788983927965";
+
+    private final Data4LibraryClient client = mock(Data4LibraryClient.class);
+    private final LibraryAvailabilityCache cache = new LibraryAvailabilityCache(client, 4,
+            Duration.ofMinutes(5), Duration.ofMillis(100), Duration.ofMinutes(4), 1000, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @DisplayName("같은 키를 동시에 조회하면 정보나루를 한 번만 호출하고, 이후 조회는 캐시에서 응답한다")
+    @Test
+    void get_coalescesConcurrentLookups() throws Exception {
+        // GIVEN
+        CountDownLatch release = new CountDownLatch(1);
+        LibraryDto.Data4LibBookExistResponse.ResultData available = result("Y", "Y");
+        when(client.bookExist(1L, ISBN)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return available;
+        });
+
+        // WHEN
+        CompletableFuture<CachedAvailability> first = cache.get(1L, ISBN);
+        CompletableFuture<CachedAvailability> second = cache.get(1L, ISBN);
+        release.countDown();
+        CachedAvailability value = first.get(5, TimeUnit.SECONDS);
+        CachedAvailability cached = cache.get(1L, ISBN).get(5, TimeUnit.SECONDS);
+
+        // THEN
+        assertThat(second).isSameAs(first);
+        assertThat(value.isOk()).isTrue();
+        assertThat(value.getLoanAvailable()).isTrue();
+        assertThat(cached).isSameAs(value);
+        verify(client, times(1)).bookExist(1L, ISBN);
+    }
+
+    @DisplayName("조회 실패는 '소장하지 않음'이 아니라 ERROR 상태로 보관하고, error-ttl이 지나면 다시 조회한다")
+    @Test
+    void get_cachesErrorsSeparatelyWithShortTtl() throws Exception {
+        // GIVEN
+        LibraryDto.Data4LibBookExistResponse.ResultData onShelf = result("Y", "N");
+        when(client.bookExist(1L, ISBN))
+                .thenThrow(new ExternalApiUnavailableException("정보나루 장애"))
+                .thenReturn(onShelf);
+
+        // WHEN
+        CachedAvailability failed = cache.get(1L, ISBN).get(5, TimeUnit.SECONDS);
+        CachedAvailability stillFailed = cache.get(1L, ISBN).get(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+        CachedAvailability recovered = cache.get(1L, ISBN).get(5, TimeUnit.SECONDS);
+
+        // THEN
+        assertThat(failed.getStatus()).isEqualTo(LibraryDto.AvailabilityStatus.ERROR);
+        assertThat(failed.getHasBook()).isNull();
+        assertThat(stillFailed).isSameAs(failed);
+        assertThat(recovered.getStatus()).isEqualTo(LibraryDto.AvailabilityStatus.OK);
+        assertThat(recovered.getHasBook()).isTrue();
+        assertThat(recovered.getLoanAvailable()).isFalse();
+        verify(client, times(2)).bookExist(1L, ISBN);
+    }
+
+    private LibraryDto.Data4LibBookExistResponse.ResultData result(String hasBook, String loanAvailable) {
+        LibraryDto.Data4LibBookExistResponse.ResultData result = mock(LibraryDto.Data4LibBookExistResponse.ResultData.class);
+        when(result.getHasBook()).thenReturn(hasBook);
+        when(result.getLoanAvailable()).thenReturn(loanAvailable);
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.BookProject.client;
+
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.dto.AladinDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AladinClientTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+    private AladinClient newClient(double ratePerSecond, Duration slowCallThreshold) {
+        AladinQuotaScheduler quotaScheduler = new AladinQuotaScheduler(10_000, ratePerSecond, 1, 0.1, 0.3,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(5), new SimpleMeterRegistry());
+        return new AladinClient(restTemplate, quotaScheduler, "ttb-key", 4, 2, 0.5, slowCallThreshold, 0.5,
+                Duration.ofSeconds(30), 1, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("할당량 차례를 기다린 시간은 느린 호출로 기록되지 않아 서킷이 열리지 않는다")
+    @Test
+    void quotaWait_notCountedAsSlowCall() {
+        // Given: 초당 5회로 제한되어 호출마다 약 200ms씩 차례를 기다림
+        AladinClient client = newClient(5, Duration.ofMillis(100));
+        when(restTemplate.getForObject(any(URI.class), eq(AladinDto.AladinResponse.class)))
+                .thenReturn(new AladinDto.AladinResponse());
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            client.itemSearch("토지 " + i, 1, 10, Priority.INTERACTIVE);
+        }
+
+        // Then
+        assertThat(client.isAvailable()).isTrue();
+    }
+
+    @DisplayName("우선순위가 다른 같은 요청은 합치지 않아, INTERACTIVE 호출이 BACKGROUND 호출을 기다리지 않는다")
+    @Test
+    void differentPriorities_notCoalesced() throws Exception {
+        // Given: 첫 호출(BACKGROUND)은 release 전까지 응답하지 않음
+        AladinClient client = newClient(10_000, Duration.ofSeconds(3));
+        CountDownLatch backgroundStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.getForObject(any(URI.class), eq(AladinDto.AladinResponse.class)))
+                .thenAnswer(invocation -> {
+                    if (backgroundStarted.getCount() > 0) {
+                        backgroundStarted.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    return new AladinDto.AladinResponse();
+                });
+        CompletableFuture<AladinDto.AladinResponse> background =
+                CompletableFuture.supplyAsync(() -> client.itemLookUp("9788936434120", Priority.BACKGROUND));
+        assertThat(backgroundStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        AladinDto.AladinResponse interactive = client.itemLookUp("9788936434120", Priority.INTERACTIVE);
+
+        // Then
+        assertThat(interactive).isNotNull();
+        assertThat(client.coalescedCount()).isZero();
+        release.countDown();
+        background.get(5, TimeUnit.SECONDS);
+        verify(restTemplate, times(2)).getForObject(any(URI.class), eq(AladinDto.AladinResponse.class));
+    }
+}
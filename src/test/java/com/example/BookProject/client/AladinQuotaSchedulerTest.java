@@ -0,0 +1,63 @@
+package com.example.BookProject.client;
+
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AladinQuotaSchedulerTest {
+
+    private AladinQuotaScheduler newScheduler(long dailyLimit) {
+        // 속도 제한은 테스트에 영향을 주지 않도록 충분히 크게 잡음
+        return new AladinQuotaScheduler(dailyLimit, 10_000, 10_000, 0.1, 0.3,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1), new SimpleMeterRegistry());
+    }
+
+    @DisplayName("남은 할당량이 줄어들면 BACKGROUND, INGEST 순서로 호출을 거절한다")
+    @Test
+    void shedsLowerPriorityFirst() {
+        // Given
+        AladinQuotaScheduler scheduler = newScheduler(10);
+
+        // When: 남은 할당량이 3(30%)이 될 때까지 BACKGROUND 호출
+        for (int i = 0; i < 7; i++) {
+            scheduler.execute(Priority.BACKGROUND, () -> "ok");
+        }
+
+        // Then
+        assertThatThrownBy(() -> scheduler.execute(Priority.BACKGROUND, () -> "ok"))
+                .isInstanceOf(AladinQuotaExceededException.class);
+        scheduler.execute(Priority.INGEST, () -> "ok");
+        scheduler.execute(Priority.INGEST, () -> "ok");
+        assertThatThrownBy(() -> scheduler.execute(Priority.INGEST, () -> "ok"))
+                .isInstanceOf(AladinQuotaExceededException.class);
+        scheduler.execute(Priority.INTERACTIVE, () -> "ok");
+        assertThat(scheduler.remainingToday()).isZero();
+        assertThatThrownBy(() -> scheduler.execute(Priority.INTERACTIVE, () -> "ok"))
+                .isInstanceOf(AladinQuotaExceededException.class);
+    }
+
+    @DisplayName("할당량 초과로 거절된 호출은 서킷 브레이커에 실패로 기록되지 않는다")
+    @Test
+    void quotaRejectionDoesNotTripCircuit() {
+        // Given
+        AladinQuotaScheduler scheduler = newScheduler(1);
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 2, 0.5, Duration.ofSeconds(1), 0.8,
+                Duration.ofSeconds(30), 1);
+        scheduler.execute(Priority.INTERACTIVE, () -> "ok");
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> scheduler.execute(Priority.INTERACTIVE, () -> "ok")))
+                    .isInstanceOf(AladinQuotaExceededException.class);
+        }
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
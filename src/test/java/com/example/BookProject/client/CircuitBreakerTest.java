@@ -0,0 +1,119 @@
+package com.example.BookProject.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CircuitBreaker newBreaker() {
+        // 최근 10번 중 최소 4번 이상 기록되면 판단, 실패율 50%, 1초 이상은 느린 호출, 30초 뒤 시험 호출 2번
+        return new CircuitBreaker("test", 10, 4, 0.5, Duration.ofSeconds(1), 0.8,
+                Duration.ofSeconds(30), 2, clock::get);
+    }
+
+    @DisplayName("실패율이 임계값을 넘으면 서킷이 열리고 호출을 보내지 않는다")
+    @Test
+    void opensWhenFailureRateExceeded() {
+        // Given
+        CircuitBreaker breaker = newBreaker();
+
+        // When
+        succeed(breaker);
+        succeed(breaker);
+        fail(breaker);
+        fail(breaker);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.execute(() -> "never"))
+                .isInstanceOf(ExternalApiUnavailableException.class);
+    }
+
+    @DisplayName("최소 호출 수가 쌓이기 전에는 실패가 있어도 서킷이 닫혀 있다")
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        // Given
+        CircuitBreaker breaker = newBreaker();
+
+        // When
+        fail(breaker);
+        fail(breaker);
+        fail(breaker);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("느린 호출 비율이 임계값을 넘으면 서킷이 열린다")
+    @Test
+    void opensWhenSlowCallRateExceeded() {
+        // Given
+        CircuitBreaker breaker = newBreaker();
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> clock.addAndGet(Duration.ofSeconds(2).toNanos()));
+        }
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @DisplayName("열린 시간이 지나면 시험 호출을 허용하고, 모두 성공하면 서킷이 닫힌다")
+    @Test
+    void closesAfterSuccessfulProbes() {
+        // Given
+        CircuitBreaker breaker = openedBreaker();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(breaker.isCallPermitted()).isTrue();
+
+        // When
+        succeed(breaker);
+        succeed(breaker);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("시험 호출이 실패하면 서킷이 다시 열린다")
+    @Test
+    void reopensWhenProbeFails() {
+        // Given
+        CircuitBreaker breaker = openedBreaker();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        fail(breaker);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+    }
+
+    private CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = newBreaker();
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void succeed(CircuitBreaker breaker) {
+        breaker.execute(() -> "ok");
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.BookProject.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Data4LibraryClientTest {
+
+    private final Data4LibraryClient client = new Data4LibraryClient(null, new ObjectMapper(), "test-key");
+
+    @DisplayName("libSrch 응답 스트림에서 전체 건수와 도서관 목록만 읽고 나머지 필드는 건너뛴다")
+    @Test
+    void readLibSrchPage() throws Exception {
+        // GIVEN
+        String json = """
+                {"response": {
+                  "request": {"pageNo": 1, "pageSize": 2},
+                  "pageNo": 1,
+                  "numFound": 1234,
+                  "libs": [
+                    {"lib": {"libCode": 111003, "libName": "강남구립못골도서관", "latitude": "37.4748", "longitude": "127.0952", "operatingTime": "09:00~18:00"}},
+                    {"lib": {"libCode": 111004, "libName": "개포하늘꿈도서관", "latitude": "37.4881", "longitude": "127.0654"}, "extra": [1, 2]}
+                  ],
+                  "resultNum": 2
+                }}
+                """;
+
+        // WHEN
+        Data4LibraryClient.LibSrchPage page =
+                client.readLibSrchPage(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // THEN
+        assertThat(page.getNumFound()).isEqualTo(1234);
+        assertThat(page.getLibs()).hasSize(2);
+        assertThat(page.getLibs().get(0).getLibCode()).isEqualTo(111003L);
+        assertThat(page.getLibs().get(1).getLibName()).isEqualTo("개포하늘꿈도서관");
+        assertThat(page.getLibs().get(1).getLatitude()).isEqualTo("37.4881");
+    }
+
+    @DisplayName("numFound가 문자열이거나 없어도 도서관 목록은 읽는다")
+    @Test
+    void readLibSrchPage_withoutNumFound() throws Exception {
+        String json = "{\"response\": {\"libs\": [{\"lib\": {\"libCode\": 1}}]}}";
+
+        Data4LibraryClient.LibSrchPage page =
+                client.readLibSrchPage(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(page.getNumFound()).isEqualTo(-1);
+        assertThat(page.getLibs()).hasSize(1);
+
+        String withStringCount = "{\"response\": {\"numFound\": \"7\", \"libs\": []}}";
+        assertThat(client.readLibSrchPage(new ByteArrayInputStream(withStringCount.getBytes(StandardCharsets.UTF_8)))
+                .getNumFound()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.BookProject.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @DisplayName("같은 키로 동시에 들어온 호출은 한 번만 실행되고 결과를 공유한다")
+    @Test
+    void execute_coalescesConcurrentCalls() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> singleFlight.execute("해리포터", () -> {
+                invocations.incrementAndGet();
+                await(release);
+                return "result";
+            })));
+        }
+        // 모든 호출이 leader의 작업에 합류할 때까지 기다린 뒤 leader를 끝냅니다.
+        while (singleFlight.coalescedCount() < callers - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(singleFlight.coalescedCount()).isEqualTo(callers - 1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        executor.shutdownNow();
+    }
+
+    @DisplayName("leader의 예외는 기다리던 호출에도 그대로 전달된다")
+    @Test
+    void execute_propagatesLeaderFailure() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        while (singleFlight.inFlightCount() == 0) {
+            Thread.sleep(5);
+        }
+        Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "never"));
+        while (singleFlight.coalescedCount() == 0) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("upstream down");
+        executor.shutdownNow();
+    }
+
+    @DisplayName("작업이 끝난 뒤 같은 키로 다시 호출하면 새로 실행한다")
+    @Test
+    void execute_runsAgainAfterCompletion() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger invocations = new AtomicInteger();
+
+        singleFlight.execute("key", invocations::incrementAndGet);
+        Integer second = singleFlight.execute("key", invocations::incrementAndGet);
+
+        assertThat(second).isEqualTo(2);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.BookProject.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @DisplayName("burst만큼은 바로 통과하고, 그 뒤로는 초당 속도만큼만 채워진다")
+    @Test
+    void tryAcquire_limitsRate() {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(2, 3, clock::get);
+
+        // When & Then
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @DisplayName("오래 쉬어도 burst 이상으로 토큰이 쌓이지 않는다")
+    @Test
+    void tokens_cappedAtBurst() {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(2, 3, clock::get);
+
+        // When
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        // Then
+        assertThat(bucket.availableTokens()).isEqualTo(3.0);
+    }
+}
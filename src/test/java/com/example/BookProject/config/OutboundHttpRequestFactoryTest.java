@@ -0,0 +1,95 @@
+package com.example.BookProject.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpRequestFactoryTest {
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // 헤더는 바로 보내고 본문은 조금씩 느리게 보내는 서버
+        server.createContext("/slow", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < 50; i++) {
+                    out.write('x');
+                    out.flush();
+                    Thread.sleep(100);
+                }
+            } catch (Exception ignored) {
+                // 클라이언트가 연결을 끊음
+            }
+        });
+        server.start();
+        httpClient = HttpClients.createDefault();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @DisplayName("응답을 다 읽고 닫으면 예약해 둔 cancel()이 대기열에 남지 않는다")
+    @Test
+    void completedRequests_releaseDeadline() throws Exception {
+        // Given
+        OutboundHttpRequestFactory factory = new OutboundHttpRequestFactory(httpClient, Duration.ofSeconds(10));
+        RestTemplate restTemplate = new RestTemplate(factory);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+        }
+
+        // Then
+        assertThat(factory.pendingDeadlineCount()).isZero();
+        factory.destroy();
+    }
+
+    @DisplayName("전체 시간 상한이 지나면 본문을 느리게 보내는 요청을 끊는다")
+    @Test
+    void slowResponse_cancelledAfterTotalTimeout() throws Exception {
+        // Given
+        OutboundHttpRequestFactory factory = new OutboundHttpRequestFactory(httpClient, Duration.ofMillis(300));
+        RestTemplate restTemplate = new RestTemplate(factory);
+
+        // When & Then: 서버는 5초 동안 본문을 보내지만 상한(300ms) 직후 끊김
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/slow"), String.class))
+                .isInstanceOf(RestClientException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(3));
+        assertThat(factory.pendingDeadlineCount()).isZero();
+        factory.destroy();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.BookProject.controller;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.BookDto;
+import com.example.BookProject.service.BookDeepIngestService;
+import com.example.BookProject.service.BookService;
+import com.example.BookProject.service.BookSuggestService;
+import com.example.BookProject.service.LocalBookSearchService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class BookControllerTest {
+
+    // 플러시 주기(500건)를 두 번 넘기고 남는 건수
+    private static final int BOOK_COUNT = 1_201;
+
+    @Mock
+    private BookService bookService;
+    @Mock
+    private BookDeepIngestService bookDeepIngestService;
+    @Mock
+    private LocalBookSearchService localBookSearchService;
+    @Mock
+    private BookSuggestService bookSuggestService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BookController bookController;
+
+    @BeforeEach
+    void setUp() {
+        bookController = new BookController(bookService, objectMapper, bookDeepIngestService,
+                localBookSearchService, bookSuggestService);
+        doAnswer(invocation -> {
+            Consumer<BookDto.BookResponse> consumer = invocation.getArgument(0);
+            for (int i = 1; i <= BOOK_COUNT; i++) {
+                Book book = Book.builder().title("책 " + i).author("저자").isbn(String.valueOf(i)).build();
+                book.assignGeneratedId((long) i);
+                consumer.accept(new BookDto.BookResponse(book));
+            }
+            return null;
+        }).when(bookService).forEachBook(any());
+    }
+
+    @DisplayName("ndjson 스트림은 모든 책을 한 줄에 하나씩 쓴다")
+    @Test
+    void streamAllBooks_ndjsonWritesEveryRow() throws Exception {
+        // WHEN
+        ResponseEntity<StreamingResponseBody> response = bookController.streamAllBooks("ndjson");
+        String body = write(response.getBody());
+
+        // THEN
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(BOOK_COUNT);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(objectMapper.readTree(lines[i]).get("bookId").asLong()).isEqualTo(i + 1);
+        }
+    }
+
+    @DisplayName("json 스트림은 모든 책을 하나의 JSON 배열로 쓴다")
+    @Test
+    void streamAllBooks_jsonArrayWritesEveryRow() throws Exception {
+        // WHEN
+        ResponseEntity<StreamingResponseBody> response = bookController.streamAllBooks("json");
+        JsonNode array = objectMapper.readTree(write(response.getBody()));
+
+        // THEN
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(array.isArray()).isTrue();
+        assertThat(array).hasSize(BOOK_COUNT);
+        assertThat(array.get(BOOK_COUNT - 1).get("bookId").asLong()).isEqualTo(BOOK_COUNT);
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
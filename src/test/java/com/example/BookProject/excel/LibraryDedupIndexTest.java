@@ -0,0 +1,59 @@
+package com.example.BookProject.excel;
+
+import com.example.BookProject.domain.Library;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LibraryDedupIndexTest {
+
+    @DisplayName("주소 블록은 주소 키가 같은 도서관만 돌려준다")
+    @Test
+    void addressBlock() {
+        // GIVEN
+        LibraryDedupIndex index = new LibraryDedupIndex(0.5);
+        index.add(library("강남구립못골도서관"), "강남못골", "서울특별시강남구자곡동");
+        index.add(library("개포하늘꿈도서관"), "개포하늘꿈", "서울특별시강남구개포동");
+        index.add(library("자곡작은도서관"), "자곡", "서울특별시강남구자곡동");
+
+        // WHEN
+        List<LibraryDedupIndex.Entry> block = index.addressBlock("서울특별시강남구자곡동");
+
+        // THEN
+        assertThat(block).extracting(LibraryDedupIndex.Entry::getNameKey).containsExactly("강남못골", "자곡");
+        assertThat(index.addressBlock("부산광역시해운대구")).isEmpty();
+        assertThat(index.addressBlockCount()).isEqualTo(2);
+    }
+
+    @DisplayName("이름 블록은 이름 bigram을 기준 비율 이상 공유하는 도서관만 돌려준다")
+    @Test
+    void nameBlock() {
+        // GIVEN
+        LibraryDedupIndex index = new LibraryDedupIndex(0.5);
+        index.add(library("강남구립못골도서관"), "강남못골", "");
+        index.add(library("못골한옥어린이도서관"), "못골한옥어린이", "서울특별시강남구");
+        index.add(library("해운대도서관"), "해운대", "부산광역시해운대구");
+
+        // WHEN: "강남못골" -> [강남, 남못, 못골], 2개 이상 공유해야 함
+        List<LibraryDedupIndex.Entry> block = index.nameBlock("강남못골");
+
+        // THEN
+        assertThat(block).extracting(LibraryDedupIndex.Entry::getNameKey).containsExactly("강남못골");
+        assertThat(index.nameBlock("해운")).extracting(LibraryDedupIndex.Entry::getNameKey).containsExactly("해운대");
+        assertThat(index.nameBlock("")).isEmpty();
+    }
+
+    @DisplayName("이름 bigram은 겹치게 자르고 한 글자 이름은 그대로 쓴다")
+    @Test
+    void nameGrams() {
+        assertThat(LibraryDedupIndex.nameGrams("해운대")).containsExactly("해운", "운대");
+        assertThat(LibraryDedupIndex.nameGrams("솔")).containsExactly("솔");
+    }
+
+    private static Library library(String name) {
+        return Library.builder().libName(name).latitude(37.5).longitude(127.0).build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.BookProject.excel;
+
+import com.example.BookProject.domain.Library;
+import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LibraryMatcherTest {
+
+    @DisplayName("거리 제한 Levenshtein은 제한 안에서는 정확한 거리를, 넘으면 -1을 반환한다")
+    @Test
+    void boundedLevenshtein_matchesFullDistance() {
+        // GIVEN
+        Random random = new Random(42);
+        LevenshteinDistance full = LevenshteinDistance.getDefaultInstance();
+        String alphabet = "가나다라마바";
+
+        for (int trial = 0; trial < 2_000; trial++) {
+            String left = randomString(random, alphabet, random.nextInt(10));
+            String right = randomString(random, alphabet, random.nextInt(10));
+            int maxDistance = random.nextInt(6);
+
+            // WHEN
+            int bounded = LibraryMatcher.boundedLevenshtein(left, right, maxDistance);
+
+            // THEN
+            int expected = full.apply(left, right);
+            assertThat(bounded).as("%s / %s / %d", left, right, maxDistance)
+                    .isEqualTo(expected <= maxDistance ? expected : -1);
+        }
+    }
+
+    @DisplayName("유사도는 Jaro-Winkler와 Levenshtein 유사도의 평균이다")
+    @Test
+    void similarity() {
+        try (LibraryMatcher matcher = new LibraryMatcher(List.of(), 0.9, 1)) {
+            String left = "강남못골";
+            String right = "강남못골한옥";
+            double expected = (new JaroWinklerSimilarity().apply(left, right)
+                    + 1.0 - (double) new LevenshteinDistance().apply(left, right) / right.length()) / 2.0;
+
+            assertThat(matcher.similarity(left, right)).isCloseTo(expected, within(1e-9));
+            assertThat(matcher.similarity("", "")).isEqualTo(1.0);
+        }
+    }
+
+    @DisplayName("같은 주소 블록에서 임계값을 넘는 도서관이 있으면 점수 순으로 중복 판정한다")
+    @Test
+    void decide_duplicate() {
+        // GIVEN
+        Library mokgol = library("강남구립못골도서관", "서울특별시 강남구 자곡동 123");
+        Library other = library("자곡작은도서관", "서울특별시 강남구 자곡동 45");
+        Library elsewhere = library("강남구립못골도서관", "부산광역시 해운대구 우동");
+        try (LibraryMatcher matcher = new LibraryMatcher(List.of(mokgol, other, elsewhere), 0.9, 2)) {
+
+            // WHEN
+            List<LibraryMatcher.MatchDecision> decisions = matcher.decideAll(List.of(
+                    new ExcelLibraryRow(1, "강남구립 못골도서관(본관)", "서울특별시 강남구 자곡동 1-1"),
+                    new ExcelLibraryRow(2, "자곡동어린이도서관", "서울특별시 강남구 자곡동 9"),
+                    new ExcelLibraryRow(3, "도서관", "서울특별시 강남구 자곡동")));
+
+            // THEN
+            assertThat(decisions).extracting(LibraryMatcher.MatchDecision::getType).containsExactly(
+                    LibraryMatcher.MatchDecision.Type.DUPLICATE,
+                    LibraryMatcher.MatchDecision.Type.NEW,
+                    LibraryMatcher.MatchDecision.Type.SKIPPED);
+            assertThat(decisions.get(0).getRanked()).hasSize(1);
+            assertThat(decisions.get(0).getBestCandidate().getLibrary()).isSameAs(mokgol);
+            assertThat(decisions.get(0).getBestCandidate().getScore()).isEqualTo(1.0);
+            assertThat(decisions.get(1).getBestCandidate().getLibrary()).isSameAs(other);
+            assertThat(decisions.get(1).getBestCandidate().getScore()).isLessThan(0.9);
+        }
+    }
+
+    @DisplayName("주소를 정규화하지 못한 행은 이름 bigram 블록에서 후보를 찾는다")
+    @Test
+    void decide_fallsBackToNameBlock() {
+        Library haeundae = library("해운대도서관", "부산광역시 해운대구 우동");
+        try (LibraryMatcher matcher = new LibraryMatcher(List.of(haeundae), 0.9, 1)) {
+            LibraryMatcher.MatchDecision decision = matcher.decide(new ExcelLibraryRow(1, "해운대 도서관", "주소 미상"));
+
+            assertThat(decision.getType()).isEqualTo(LibraryMatcher.MatchDecision.Type.DUPLICATE);
+            assertThat(matcher.extractCoreAddress("주소 미상")).isNull();
+            assertThat(matcher.normalizeAddress("서울특별시 강남구 자곡동 123")).isEqualTo("서울특별시강남구자곡동");
+        }
+    }
+
+    private static Library library(String name, String address) {
+        return Library.builder().libName(name).address(address).latitude(37.5).longitude(127.0).build();
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
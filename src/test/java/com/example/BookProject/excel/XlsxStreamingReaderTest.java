@@ -0,0 +1,65 @@
+package com.example.BookProject.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxStreamingReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("첫 시트의 행을 순서대로 읽고, 필요한 열만 넘기며, 빈 셀은 null로 둔다")
+    @Test
+    void read_streamsRows() throws Exception {
+        // GIVEN
+        Path file = tempDir.resolve("libraries.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("이름");
+            header.createCell(1).setCellValue("주소");
+            Row first = sheet.createRow(1);
+            first.createCell(0).setCellValue("강남구립못골도서관");
+            first.createCell(1).setCellValue("서울특별시 강남구 자곡동");
+            first.createCell(5).setCellValue("버려지는 열");
+            Row second = sheet.createRow(3); // 중간 행이 비어 있음
+            second.createCell(1).setCellValue(12345);
+            workbook.write(out);
+        }
+        List<String> rows = new ArrayList<>();
+        List<Long> progress = new ArrayList<>();
+
+        // WHEN
+        long rowCount = new XlsxStreamingReader(2, 2).read(file,
+                (rowNum, cells) -> rows.add(rowNum + ":" + cells.length + ":" + cells[0] + "|" + cells[1]),
+                (count, rowsPerSecond) -> progress.add(count));
+
+        // THEN
+        assertThat(rowCount).isEqualTo(3);
+        assertThat(rows).containsExactly(
+                "0:2:이름|주소",
+                "1:2:강남구립못골도서관|서울특별시 강남구 자곡동",
+                "3:2:null|12345");
+        assertThat(progress).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("셀 주소에서 열 번호를 구한다")
+    @Test
+    void columnIndex() {
+        assertThat(XlsxStreamingReader.columnIndex("A1")).isZero();
+        assertThat(XlsxStreamingReader.columnIndex("H20")).isEqualTo(7);
+        assertThat(XlsxStreamingReader.columnIndex("AA3")).isEqualTo(26);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.BookProject.job;
+
+import com.example.BookProject.domain.JobExecution;
+import com.example.BookProject.repository.JobExecutionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobRunnerTest {
+
+    private final JobExecutionRepository repository = mock(JobExecutionRepository.class);
+    private final AtomicLong ids = new AtomicLong();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private JobRunner jobRunner;
+
+    @BeforeEach
+    void setUp() {
+        // save는 처음 저장할 때 ID를 매기고 같은 객체를 돌려줌
+        when(repository.save(any(JobExecution.class))).thenAnswer(invocation -> {
+            JobExecution execution = invocation.getArgument(0);
+            if (execution.getId() == null) {
+                ReflectionTestUtils.setField(execution, "id", ids.incrementAndGet());
+            }
+            return execution;
+        });
+
+        Job blocking = job("blocking", context -> {
+            context.reportProgress(1, 2L);
+            started.countDown();
+            // 취소되면 interrupt로 깨어남
+            release.await();
+            context.reportProgress(2, 2L);
+            return "끝";
+        });
+        Job failing = job("failing", context -> {
+            throw new IllegalStateException("정보나루 응답 없음");
+        });
+        jobRunner = new JobRunner(List.of(blocking, failing), repository, new ObjectMapper(), 2, 1, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRunner.shutdown();
+    }
+
+    @DisplayName("작업을 실행하고 결과, 진행 상황, 소요 시간을 기록한다")
+    @Test
+    void start_completes() throws Exception {
+        // WHEN
+        JobExecution execution = jobRunner.start("blocking", JobExecution.Trigger.MANUAL, "admin@test.com", Map.of("apply", "true"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        // THEN
+        awaitFinished(execution);
+        assertThat(execution.getStatus()).isEqualTo(JobExecution.Status.COMPLETED);
+        assertThat(execution.getMessage()).isEqualTo("끝");
+        assertThat(execution.getProgressCurrent()).isEqualTo(2);
+        assertThat(execution.getProgressTotal()).isEqualTo(2L);
+        assertThat(execution.getParameters()).isEqualTo("{\"apply\":\"true\"}");
+        assertThat(execution.getDurationMillis()).isNotNull();
+        assertThat(jobRunner.activeExecutionId("blocking")).isNull();
+    }
+
+    @DisplayName("같은 작업이 실행 중이면 새 실행을 거절하고, 끝난 뒤에는 다시 실행할 수 있다")
+    @Test
+    void start_singleRun() throws Exception {
+        // GIVEN
+        JobExecution first = jobRunner.start("blocking", JobExecution.Trigger.MANUAL, "admin@test.com", Map.of());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // WHEN & THEN
+        assertThat(jobRunner.activeExecutionId("blocking")).isEqualTo(first.getId());
+        assertThatThrownBy(() -> jobRunner.start("blocking", JobExecution.Trigger.SCHEDULED, null, Map.of()))
+                .isInstanceOf(IllegalStateException.class);
+
+        release.countDown();
+        awaitFinished(first);
+        JobExecution second = jobRunner.start("blocking", JobExecution.Trigger.SCHEDULED, null, Map.of());
+        awaitFinished(second);
+        assertThat(second.getStatus()).isEqualTo(JobExecution.Status.COMPLETED);
+    }
+
+    @DisplayName("실행 중인 작업을 취소하면 작업 스레드를 interrupt하고 CANCELLED로 기록한다")
+    @Test
+    void cancel_interruptsRunningJob() throws Exception {
+        // GIVEN
+        JobExecution execution = jobRunner.start("blocking", JobExecution.Trigger.MANUAL, "admin@test.com", Map.of());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        when(repository.findById(execution.getId())).thenReturn(Optional.of(execution));
+
+        // WHEN
+        jobRunner.cancel(execution.getId());
+
+        // THEN
+        awaitFinished(execution);
+        assertThat(execution.getStatus()).isEqualTo(JobExecution.Status.CANCELLED);
+        assertThat(execution.isCancelRequested()).isTrue();
+        assertThat(execution.getProgressCurrent()).isEqualTo(1);
+    }
+
+    @DisplayName("작업이 예외를 던지면 FAILED와 에러 메시지를 기록한다")
+    @Test
+    void start_fails() throws Exception {
+        // WHEN
+        JobExecution execution = jobRunner.start("failing", JobExecution.Trigger.SCHEDULED, null, Map.of());
+
+        // THEN
+        awaitFinished(execution);
+        assertThat(execution.getStatus()).isEqualTo(JobExecution.Status.FAILED);
+        assertThat(execution.getMessage()).contains("정보나루 응답 없음");
+    }
+
+    @DisplayName("주인이 없는 실행 기록을 취소하면 바로 CANCELLED로 정리하고, 끝난 실행은 취소할 수 없다")
+    @Test
+    void cancel_orphanedExecution() {
+        // GIVEN
+        JobExecution orphaned = new JobExecution("blocking", JobExecution.Trigger.MANUAL, null, null);
+        ReflectionTestUtils.setField(orphaned, "id", 99L);
+        when(repository.findById(99L)).thenReturn(Optional.of(orphaned));
+
+        // WHEN
+        jobRunner.cancel(99L);
+
+        // THEN
+        assertThat(orphaned.getStatus()).isEqualTo(JobExecution.Status.CANCELLED);
+        assertThatThrownBy(() -> jobRunner.cancel(99L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("진행 상황은 progressInterval마다 한 번만 기록한다")
+    @Test
+    void reportProgress_throttled() {
+        // GIVEN
+        long[] now = {0};
+        List<Long> saved = new ArrayList<>();
+        JobContext context = new JobContext(1L, Map.of(), (id, current, total) -> saved.add(current),
+                Duration.ofSeconds(1).toNanos(), () -> now[0]);
+
+        // WHEN
+        context.reportProgress(1, null);
+        now[0] = Duration.ofMillis(500).toNanos();
+        context.reportProgress(2, null);
+        now[0] = Duration.ofMillis(1_100).toNanos();
+        context.reportProgress(3, null);
+
+        // THEN
+        assertThat(saved).containsExactly(3L);
+        assertThat(context.getCurrent()).isEqualTo(3);
+    }
+
+    // 실행 기록이 끝나고 같은 작업을 다시 실행할 수 있을 때까지 기다림
+    private void awaitFinished(JobExecution execution) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((!execution.getStatus().isFinished() || jobRunner.activeExecutionId(execution.getJobName()) != null)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(execution.getStatus().isFinished()).as("작업이 5초 안에 끝나야 함").isTrue();
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        String run(JobContext context) throws Exception;
+    }
+
+    private static Job job(String name, Body body) {
+        return new Job() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String run(JobContext context) throws Exception {
+                return body.run(context);
+            }
+        };
+    }
+}
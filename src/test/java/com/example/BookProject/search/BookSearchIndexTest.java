@@ -0,0 +1,120 @@
+package com.example.BookProject.search;
+
+import com.example.BookProject.domain.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTest {
+
+    @DisplayName("한글은 두 글자씩, 영문과 숫자는 단어 단위로 토큰화한다")
+    @Test
+    void tokenize_koreanBigramsAndWords() {
+        List<String> tokens = KoreanBigramTokenizer.tokenize("해리 포터와 Java 21");
+
+        assertThat(tokens).containsExactly("해리", "리포", "포터", "터와", "java", "21");
+    }
+
+    @DisplayName("띄어쓰기가 달라도 같은 토큰이 나온다")
+    @Test
+    void tokenize_ignoresSpacingBetweenHangul() {
+        assertThat(KoreanBigramTokenizer.tokenize("해리 포터"))
+                .containsExactlyElementsOf(KoreanBigramTokenizer.tokenize("해리포터"));
+    }
+
+    @DisplayName("제목이 일치하는 책이 설명만 일치하는 책보다 먼저 검색된다")
+    @Test
+    void search_ranksTitleMatchesFirst() {
+        // Given
+        BookSearchIndex index = new BookSearchIndex();
+        index.addAll(List.of(
+                book("9780000000001", "마법 이야기", "해리 포터를 좋아하는 사람들을 위한 책"),
+                book("9780000000002", "해리 포터와 마법사의 돌", "호그와트 입학"),
+                book("9780000000003", "자바의 정석", "프로그래밍 입문서")
+        ));
+
+        // When
+        List<BookSearchIndex.Hit> hits = index.search("해리포터", 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.getBook().getIsbn())
+                .containsExactly("9780000000002", "9780000000001");
+        assertThat(hits.get(0).isMatchedAllTerms()).isTrue();
+    }
+
+    @DisplayName("질의어가 나온 책 중 점수 상위 size개만 점수 순으로 반환한다")
+    @Test
+    void search_returnsTopScoringMatchesOnly() {
+        // Given: 1,000권 중 '토지'가 제목에 나오는 책은 10권, 설명에 나오는 책은 5권
+        BookSearchIndex index = new BookSearchIndex();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String title = i % 100 == 0 ? "토지 " + i + "권" : "자바의 정석 " + i;
+            String description = i % 200 == 50 ? "박경리의 토지를 읽고" : "프로그래밍 입문서";
+            books.add(book(String.format("978%010d", i), title, description));
+        }
+        index.addAll(books);
+
+        // When
+        List<BookSearchIndex.Hit> hits = index.search("토지", 12);
+
+        // Then
+        assertThat(hits).hasSize(12);
+        assertThat(hits.subList(0, 10)).allSatisfy(hit -> assertThat(hit.getBook().getTitle()).startsWith("토지"));
+        assertThat(hits.subList(10, 12)).allSatisfy(hit -> assertThat(hit.getBook().getTitle()).startsWith("자바의 정석"));
+        assertThat(hits).isSortedAccordingTo((a, b) -> Float.compare(b.getScore(), a.getScore()));
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.isMatchedAllTerms()).isTrue());
+        assertThat(index.search("없는단어", 10)).isEmpty();
+    }
+
+    @DisplayName("모든 토큰이 나온 책만 고르면, 점수가 더 높은 부분 일치 책에 밀리지 않고 상위 size개를 채운다")
+    @Test
+    void search_matchedAllTermsOnlyBeforeTopK() {
+        // Given: '포터' 토큰만 빠졌지만 나머지 토큰이 여러 번 나와 점수가 높은 책 5권,
+        //        설명이 길어 점수는 낮지만 모든 토큰이 나오는 책 3권, '포터'만 나오는 책 20권
+        BookSearchIndex index = new BookSearchIndex();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            books.add(book(String.format("978%010d", i), "해리 리포 해리 리포 해리 리포", null));
+        }
+        for (int i = 5; i < 8; i++) {
+            books.add(book(String.format("978%010d", i), "해리 포터 " + i,
+                    "호그와트 마법 학교에 입학한 소년이 친구들과 함께 어둠의 마법사에 맞서는 긴 모험 이야기"));
+        }
+        for (int i = 8; i < 28; i++) {
+            books.add(book(String.format("978%010d", i), "포터 " + i, null));
+        }
+        index.addAll(books);
+
+        // When
+        List<BookSearchIndex.Hit> all = index.search("해리 포터", 3);
+        List<BookSearchIndex.Hit> fullMatches = index.search("해리 포터", 3, true);
+
+        // Then: 전체 상위 3개에는 부분 일치 책이 끼어 있지만, 모든 토큰 일치 책은 3권 모두 나옴
+        assertThat(all).anySatisfy(hit -> assertThat(hit.isMatchedAllTerms()).isFalse());
+        assertThat(fullMatches).hasSize(3)
+                .allSatisfy(hit -> assertThat(hit.getBook().getTitle()).startsWith("해리 포터"));
+        assertThat(index.search("해리 없는단어", 3, true)).isEmpty();
+    }
+
+    @DisplayName("같은 ISBN의 책은 한 번만 색인된다")
+    @Test
+    void addAll_skipsDuplicateIsbn() {
+        BookSearchIndex index = new BookSearchIndex();
+
+        int first = index.addAll(List.of(book("9780000000001", "자바의 정석", null)));
+        int second = index.addAll(List.of(book("9780000000001", "자바의 정석", null)));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private Book book(String isbn, String title, String description) {
+        return Book.builder().isbn(isbn).title(title).author("작가").description(description).build();
+    }
+}
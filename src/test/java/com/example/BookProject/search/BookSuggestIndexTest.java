@@ -0,0 +1,95 @@
+package com.example.BookProject.search;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.BookDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSuggestIndexTest {
+
+    @DisplayName("제목 앞부분이나 중간 단어, 저자 이름의 접두어로 찾을 수 있다")
+    @Test
+    void suggest_matchesTitleWordsAndAuthor() {
+        // Given
+        BookSuggestIndex index = new BookSuggestIndex();
+        index.addAll(List.of(
+                book("9780000000001", "해리 포터와 마법사의 돌", "J.K. 롤링 (지은이), 김혜원 (옮긴이)"),
+                book("9780000000002", "자바의 정석", "남궁성 (지은이)")
+        ));
+
+        // Then
+        assertThat(isbns(index.suggest("해리 포", 10))).containsExactly("9780000000001");
+        assertThat(isbns(index.suggest("마법사", 10))).containsExactly("9780000000001");
+        assertThat(isbns(index.suggest("남궁", 10))).containsExactly("9780000000002");
+        assertThat(isbns(index.suggest("정석", 10))).containsExactly("9780000000002");
+        assertThat(index.suggest("바의", 10)).isEmpty();
+    }
+
+    @DisplayName("초성만 입력해도 찾을 수 있다")
+    @Test
+    void suggest_matchesChosung() {
+        // Given
+        BookSuggestIndex index = new BookSuggestIndex();
+        index.addAll(List.of(
+                book("9780000000001", "해리 포터와 마법사의 돌", "J.K. 롤링"),
+                book("9780000000002", "자바의 정석", "남궁성")
+        ));
+
+        // Then
+        assertThat(isbns(index.suggest("ㅎㄹㅍㅌ", 10))).containsExactly("9780000000001");
+        assertThat(isbns(index.suggest("ㅈㅂ", 10))).containsExactly("9780000000002");
+        assertThat(isbns(index.suggest("자바ㅇ", 10))).containsExactly("9780000000002");
+    }
+
+    @DisplayName("인기도가 높은 책이 먼저 나오고, 인기도가 바뀌면 순위도 바뀐다")
+    @Test
+    void suggest_ordersByPopularity() {
+        // Given
+        BookSuggestIndex index = new BookSuggestIndex();
+        index.increasePopularity("9780000000002", 3);
+        index.addAll(List.of(
+                book("9780000000001", "데미안", "헤르만 헤세"),
+                book("9780000000002", "데미안 (양장)", "헤르만 헤세"),
+                book("9780000000003", "데미안 (문고판)", "헤르만 헤세")
+        ));
+
+        // Then: 짧은 접두어(미리 계산된 후보)와 긴 접두어(구간 탐색) 모두 같은 순서
+        assertThat(isbns(index.suggest("데", 10))).containsExactly("9780000000002", "9780000000001", "9780000000003");
+        assertThat(isbns(index.suggest("데미안", 10))).containsExactly("9780000000002", "9780000000001", "9780000000003");
+
+        index.increasePopularity("9780000000003", 5);
+        assertThat(isbns(index.suggest("데", 2))).containsExactly("9780000000003", "9780000000002");
+        assertThat(isbns(index.suggest("데미안", 2))).containsExactly("9780000000003", "9780000000002");
+    }
+
+    @DisplayName("정렬 배열로 병합된 키와 새로 추가된 키를 함께 검색한다")
+    @Test
+    void suggest_searchesMergedAndPendingKeys() {
+        // Given: 병합이 일어날 만큼 많은 책을 넣은 뒤 한 권을 더 추가
+        BookSuggestIndex index = new BookSuggestIndex();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 6000; i++) {
+            books.add(book(String.format("979%010d", i), "코스모스 " + i, "칼 세이건"));
+        }
+        index.addAll(books);
+        index.addAll(List.of(book("9789999999999", "코스모스 특별판", "칼 세이건")));
+
+        // Then
+        assertThat(isbns(index.suggest("코스모스특별", 10))).containsExactly("9789999999999");
+        assertThat(isbns(index.suggest("코스모스 5999", 10))).containsExactly("9790000005999");
+        assertThat(index.suggest("코스모스", 10)).hasSize(10);
+    }
+
+    private List<String> isbns(List<BookDto.BookSuggestResponse> suggestions) {
+        return suggestions.stream().map(BookDto.BookSuggestResponse::getIsbn).toList();
+    }
+
+    private Book book(String isbn, String title, String author) {
+        return Book.builder().isbn(isbn).title(title).author(author).build();
+    }
+}
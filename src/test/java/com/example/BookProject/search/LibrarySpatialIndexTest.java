@@ -0,0 +1,132 @@
+package com.example.BookProject.search;
+
+import com.example.BookProject.domain.Library;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LibrarySpatialIndexTest {
+
+    @DisplayName("반경 안의 도서관만 찾고 거리를 함께 계산한다")
+    @Test
+    void withinRadius_filtersByDistance() {
+        // Given: 시청 근처, 약 5km 떨어진 곳, 부산
+        LibrarySpatialIndex index = new LibrarySpatialIndex(List.of(
+                library(1L, "서울도서관", 37.5663, 126.9779),
+                library(2L, "마포중앙도서관", 37.5635, 126.9080),
+                library(3L, "부산도서관", 35.1796, 129.0756)
+        ));
+
+        // When
+        List<LibrarySpatialIndex.Hit> near = index.withinRadius(37.5665, 126.9780, 3);
+        List<LibrarySpatialIndex.Hit> wider = index.withinRadius(37.5665, 126.9780, 10);
+
+        // Then
+        assertThat(near).extracting(hit -> hit.getLibrary().getD4lLibCode()).containsExactly(1L);
+        assertThat(near.get(0).getDistanceKm()).isLessThan(0.1);
+        assertThat(wider).extracting(hit -> hit.getLibrary().getD4lLibCode()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("경도 방향 범위는 위도에 따라 넓어진다 (고위도에서도 동쪽 도서관을 놓치지 않는다)")
+    @Test
+    void withinRadius_widensLongitudeRangeAtHighLatitude() {
+        // Given: 위도 60도에서 경도 0.05도는 약 2.8km
+        LibrarySpatialIndex index = new LibrarySpatialIndex(List.of(
+                library(1L, "동쪽 도서관", 60.0, 25.05)
+        ));
+
+        // When
+        List<LibrarySpatialIndex.Hit> hits = index.withinRadius(60.0, 25.0, 3);
+
+        // Then
+        assertThat(hits).hasSize(1);
+        assertThat(hits.get(0).getDistanceKm()).isBetween(2.7, 2.9);
+    }
+
+    @DisplayName("칸 경계를 넘어도 빠짐없이 찾는다")
+    @Test
+    void withinRadius_searchesNeighbouringCells() {
+        // Given: 0.05도 칸 경계 양쪽에 있는 도서관
+        LibrarySpatialIndex index = new LibrarySpatialIndex(List.of(
+                library(1L, "A", 37.4999, 127.0),
+                library(2L, "B", 37.5001, 127.0)
+        ));
+
+        // Then
+        assertThat(index.withinRadius(37.5, 127.0, 0.5)).hasSize(2);
+    }
+
+    @DisplayName("가장 가까운 k곳을 거리순으로 찾는다")
+    @Test
+    void nearest_returnsClosestInOrder() {
+        // Given
+        LibrarySpatialIndex index = new LibrarySpatialIndex(List.of(
+                library(1L, "서울도서관", 37.5663, 126.9779),
+                library(2L, "마포중앙도서관", 37.5635, 126.9080),
+                library(3L, "부산도서관", 35.1796, 129.0756),
+                library(4L, "인천도서관", 37.4563, 126.7052)
+        ));
+
+        // When
+        List<LibrarySpatialIndex.Hit> hits = index.nearest(37.5665, 126.9780, 3, Double.POSITIVE_INFINITY);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.getLibrary().getD4lLibCode()).containsExactly(1L, 2L, 4L);
+        assertThat(hits).isSortedAccordingTo((a, b) -> Double.compare(a.getDistanceKm(), b.getDistanceKm()));
+    }
+
+    @DisplayName("주변에 도서관이 없어도 멀리 있는 도서관을 찾고, 최대 거리를 넘으면 제외한다")
+    @Test
+    void nearest_findsDistantLibrariesWithinMaxRadius() {
+        // Given: 울릉도 근처에서 검색
+        LibrarySpatialIndex index = new LibrarySpatialIndex(List.of(
+                library(1L, "서울도서관", 37.5663, 126.9779),
+                library(3L, "부산도서관", 35.1796, 129.0756)
+        ));
+
+        // Then
+        assertThat(index.nearest(37.5, 130.9, 1, Double.POSITIVE_INFINITY))
+                .extracting(hit -> hit.getLibrary().getD4lLibCode()).containsExactly(3L);
+        assertThat(index.nearest(37.5, 130.9, 2, 100)).isEmpty();
+    }
+
+    @DisplayName("kNN 결과는 전체를 거리순으로 정렬한 결과와 같다")
+    @Test
+    void nearest_matchesBruteForce() {
+        // Given
+        Random random = new Random(42);
+        List<Library> libraries = new ArrayList<>();
+        for (long i = 0; i < 2000; i++) {
+            libraries.add(library(i, "도서관" + i, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        LibrarySpatialIndex index = new LibrarySpatialIndex(libraries);
+
+        for (int query = 0; query < 50; query++) {
+            double latitude = 32 + random.nextDouble() * 7;
+            double longitude = 124 + random.nextDouble() * 7;
+
+            // When
+            List<Long> actual = index.nearest(latitude, longitude, 5, Double.POSITIVE_INFINITY).stream()
+                    .map(hit -> hit.getLibrary().getD4lLibCode()).toList();
+
+            // Then
+            List<Long> expected = libraries.stream()
+                    .sorted(Comparator.comparingDouble(library ->
+                            LibrarySpatialIndex.distanceKm(latitude, longitude, library.getLatitude(), library.getLongitude())))
+                    .limit(5)
+                    .map(Library::getD4lLibCode)
+                    .toList();
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    private Library library(Long code, String name, double latitude, double longitude) {
+        return Library.builder().d4lLibCode(code).libName(name).latitude(latitude).longitude(longitude).build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.client.AladinClient;
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.client.ExternalApiUnavailableException;
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.AladinDto;
+import com.example.BookProject.dto.BookDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookDeepIngestServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private AladinClient aladinClient;
+    @Mock
+    private BookIngestionService bookIngestionService;
+
+    private BookDeepIngestService bookDeepIngestService;
+
+    @AfterEach
+    void tearDown() {
+        if (bookDeepIngestService != null) {
+            bookDeepIngestService.shutdown();
+        }
+    }
+
+    @DisplayName("2페이지부터는 병렬로 가져오고, 실패한 페이지는 건너뛰고 failedPages로 센다")
+    @Test
+    void ingest_fetchesRemainingPagesInParallel() {
+        // GIVEN: 결과 100건이지만 max-pages(4)까지만 가져옴. 2, 4페이지는 서로가 시작되어야 끝나고 3페이지는 실패
+        bookDeepIngestService = new BookDeepIngestService(aladinClient, bookIngestionService, PAGE_SIZE, 4, 4);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(aladinClient.itemSearch("토지", 1, PAGE_SIZE, Priority.INGEST)).thenReturn(page(100, "1a", "1b"));
+        when(aladinClient.itemSearch("토지", 2, PAGE_SIZE, Priority.INGEST)).thenAnswer(invocation -> awaitBoth(bothStarted, page(100, "2a", "2b")));
+        when(aladinClient.itemSearch("토지", 3, PAGE_SIZE, Priority.INGEST)).thenThrow(new ExternalApiUnavailableException("알라딘 장애"));
+        when(aladinClient.itemSearch("토지", 4, PAGE_SIZE, Priority.INGEST)).thenAnswer(invocation -> awaitBoth(bothStarted, page(100, "4a")));
+        when(bookIngestionService.saveNewItems(anyCollection())).thenAnswer(invocation -> books(invocation.getArgument(0)));
+
+        // WHEN
+        BookDto.IngestResult result = bookDeepIngestService.ingest("토지", 10);
+
+        // THEN
+        assertThat(result.getFetchedCount()).isEqualTo(5);
+        assertThat(result.getInsertedCount()).isEqualTo(5);
+        assertThat(result.getFailedPages()).isEqualTo(1);
+        verify(aladinClient, never()).itemSearch(eq("토지"), eq(5), anyInt(), eq(Priority.INGEST));
+    }
+
+    @DisplayName("수집 중 인터럽트되면 남은 페이지 요청을 취소하고 받지 못한 페이지를 failedPages로 센다")
+    @Test
+    void ingest_interruptCancelsRemainingPages() throws Exception {
+        // GIVEN: 2페이지는 취소될 때까지 응답하지 않음
+        bookDeepIngestService = new BookDeepIngestService(aladinClient, bookIngestionService, PAGE_SIZE, 2, 4);
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch fetchCancelled = new CountDownLatch(1);
+        when(aladinClient.itemSearch("토지", 1, PAGE_SIZE, Priority.INGEST)).thenReturn(page(100, "1a", "1b"));
+        when(aladinClient.itemSearch("토지", 2, PAGE_SIZE, Priority.INGEST)).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                fetchCancelled.countDown();
+                throw e;
+            }
+            return page(100);
+        });
+        when(bookIngestionService.saveNewItems(anyCollection())).thenAnswer(invocation -> books(invocation.getArgument(0)));
+        BookDto.IngestResult[] result = new BookDto.IngestResult[1];
+        Thread caller = new Thread(() -> result[0] = bookDeepIngestService.ingest("토지", 10));
+        caller.start();
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // WHEN
+        caller.interrupt();
+        caller.join(5_000);
+
+        // THEN
+        assertThat(fetchCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result[0].getFetchedCount()).isEqualTo(2);
+        assertThat(result[0].getFailedPages()).isEqualTo(1);
+    }
+
+    @DisplayName("전체 결과 수(totalResults)보다 많은 페이지는 요청하지 않는다")
+    @Test
+    void ingest_lastPageCappedByTotalResults() {
+        // GIVEN: 결과 3건 = 2페이지
+        bookDeepIngestService = new BookDeepIngestService(aladinClient, bookIngestionService, PAGE_SIZE, 10, 4);
+        when(aladinClient.itemSearch("토지", 1, PAGE_SIZE, Priority.INGEST)).thenReturn(page(3, "1a", "1b"));
+        when(aladinClient.itemSearch("토지", 2, PAGE_SIZE, Priority.INGEST)).thenReturn(page(3, "2a"));
+        when(bookIngestionService.saveNewItems(anyCollection())).thenAnswer(invocation -> books(invocation.getArgument(0)));
+
+        // WHEN
+        BookDto.IngestResult result = bookDeepIngestService.ingest("토지", 10);
+
+        // THEN
+        assertThat(result.getFetchedCount()).isEqualTo(3);
+        assertThat(result.getFailedPages()).isZero();
+        verify(aladinClient, never()).itemSearch(eq("토지"), eq(3), anyInt(), eq(Priority.INGEST));
+    }
+
+    @DisplayName("첫 페이지가 비어 있으면 더 가져오지 않는다")
+    @Test
+    void ingest_emptyFirstPage() {
+        // GIVEN
+        bookDeepIngestService = new BookDeepIngestService(aladinClient, bookIngestionService, PAGE_SIZE, 10, 4);
+        when(aladinClient.itemSearch("없는책", 1, PAGE_SIZE, Priority.INGEST)).thenReturn(page(0));
+
+        // WHEN
+        BookDto.IngestResult result = bookDeepIngestService.ingest("없는책", 10);
+
+        // THEN
+        assertThat(result.getFetchedCount()).isZero();
+        verify(bookIngestionService, never()).saveNewItems(anyCollection());
+    }
+
+    // 다른 페이지 요청도 시작될 때까지 기다림 (순서대로 가져오면 시간 초과로 실패)
+    private static AladinDto.AladinResponse awaitBoth(CountDownLatch bothStarted, AladinDto.AladinResponse response) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("페이지를 병렬로 가져오지 않았습니다.");
+        }
+        return response;
+    }
+
+    private static AladinDto.AladinResponse page(int totalResults, String... isbns) {
+        AladinDto.AladinResponse response = new AladinDto.AladinResponse();
+        response.setTotalResults(totalResults);
+        List<AladinDto.Item> items = new ArrayList<>();
+        for (String isbn : isbns) {
+            AladinDto.Item item = new AladinDto.Item();
+            item.setIsbn13(isbn);
+            item.setTitle("토지 " + isbn);
+            items.add(item);
+        }
+        response.setItem(items);
+        return response;
+    }
+
+    private static List<Book> books(Collection<AladinDto.Item> items) {
+        return items.stream()
+                .map(item -> Book.builder().title(item.getTitle()).isbn(item.getIsbn13()).build())
+                .toList();
+    }
+}
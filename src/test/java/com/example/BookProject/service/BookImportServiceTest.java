@@ -0,0 +1,216 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.cache.IsbnLookupMissCache;
+import com.example.BookProject.client.AladinClient;
+import com.example.BookProject.client.AladinQuotaScheduler.Priority;
+import com.example.BookProject.client.ExternalApiUnavailableException;
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.AladinDto;
+import com.example.BookProject.dto.BookDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookImportServiceTest {
+
+    private static final String FOUND_1 = "9788936434120";
+    private static final String FOUND_2 = "9788936434267";
+    private static final String FOUND_3 = "9788954651134";
+    private static final String EXISTING = "9788983927965";
+    private static final String NOT_FOUND = "9788937460456";
+    private static final String FAILING = "9788991123458";
+
+    @Mock
+    private AladinClient aladinClient;
+    @Mock
+    private BookIngestionService bookIngestionService;
+
+    private IsbnLookupMissCache isbnLookupMissCache;
+    private BookImportService bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        isbnLookupMissCache = new IsbnLookupMissCache(Duration.ofHours(1), 100, new SimpleMeterRegistry());
+        // 초당 1000회, 동시 조회 2개, 2권씩 저장, 요청당 최대 10개
+        bookImportService = new BookImportService(aladinClient, bookIngestionService, isbnLookupMissCache,
+                1000, 1000, 2, 2, 10, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookImportService.shutdown();
+    }
+
+    @DisplayName("형식 오류와 중복을 걸러내고, DB에 이미 있는 ISBN은 한 번의 조회로 확인해 알라딘 조회 대상에서 뺀다")
+    @Test
+    void startImport_filtersInvalidDuplicateAndExistingIsbns() throws InterruptedException {
+        // GIVEN: 하이픈이 들어간 같은 ISBN 1개, 형식 오류 1개, 이미 있는 ISBN 1개
+        List<String> checked = new ArrayList<>();
+        when(bookIngestionService.findExistingIsbns(anyCollection())).thenAnswer(invocation -> {
+            checked.addAll(invocation.getArgument(0));
+            return Set.of(EXISTING);
+        });
+        when(aladinClient.itemLookUp(FOUND_1, Priority.INGEST)).thenReturn(response(FOUND_1));
+        when(bookIngestionService.saveNewItems(anyCollection())).thenAnswer(invocation -> books(invocation.getArgument(0)));
+
+        // WHEN
+        BookDto.ImportJobResponse started = bookImportService.startImport(
+                List.of(FOUND_1, "978-89-364-3412-0", "12345", EXISTING));
+
+        // THEN
+        assertThat(started.getRequestedCount()).isEqualTo(4);
+        assertThat(started.getInvalidCount()).isEqualTo(1);
+        assertThat(started.getDuplicateCount()).isEqualTo(1);
+        assertThat(started.getExistingCount()).isEqualTo(1);
+        assertThat(started.getToLookUpCount()).isEqualTo(1);
+
+        verify(bookIngestionService, times(1)).findExistingIsbns(anyCollection());
+        assertThat(checked).containsExactlyInAnyOrder(FOUND_1, EXISTING);
+
+        awaitFinished(started.getJobId());
+        verify(aladinClient, never()).itemLookUp(eq(EXISTING), eq(Priority.INGEST));
+    }
+
+    @DisplayName("조회된 책은 batch-size씩 모아 저장하고, 없음/실패/저장 수를 진행 상황에 센다")
+    @Test
+    void startImport_savesInBatchesAndCountsProgress() throws InterruptedException {
+        // GIVEN: 3권은 조회되고, 1권은 알라딘에 없고, 1권은 호출이 실패
+        when(bookIngestionService.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(aladinClient.itemLookUp(anyString(), eq(Priority.INGEST))).thenAnswer(invocation -> {
+            String isbn = invocation.getArgument(0);
+            if (isbn.equals(NOT_FOUND)) {
+                return new AladinDto.AladinResponse();
+            }
+            if (isbn.equals(FAILING)) {
+                throw new ExternalApiUnavailableException("알라딘 장애");
+            }
+            return response(isbn);
+        });
+        List<Integer> batchSizes = new ArrayList<>();
+        when(bookIngestionService.saveNewItems(anyCollection())).thenAnswer(invocation -> {
+            Collection<AladinDto.Item> items = invocation.getArgument(0);
+            batchSizes.add(items.size());
+            return books(items);
+        });
+
+        // WHEN
+        BookDto.ImportJobResponse started = bookImportService.startImport(
+                List.of(FOUND_1, NOT_FOUND, FOUND_2, FAILING, FOUND_3));
+        BookDto.ImportJobResponse finished = awaitFinished(started.getJobId());
+
+        // THEN
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getToLookUpCount()).isEqualTo(5);
+        assertThat(finished.getLookedUpCount()).isEqualTo(5);
+        assertThat(finished.getNotFoundCount()).isEqualTo(1);
+        assertThat(finished.getFailedCount()).isEqualTo(1);
+        assertThat(finished.getInsertedCount()).isEqualTo(3);
+        assertThat(finished.getStartedAt()).isNotNull();
+        assertThat(finished.getFinishedAt()).isNotNull();
+        assertThat(batchSizes).containsExactly(2, 1);
+        // 결과가 없던 ISBN만 부정 캐시에 남고, 호출이 실패한 ISBN은 남지 않음
+        assertThat(isbnLookupMissCache.isKnownMiss(NOT_FOUND)).isTrue();
+        assertThat(isbnLookupMissCache.isKnownMiss(FAILING)).isFalse();
+    }
+
+    @DisplayName("부정 캐시에 있는 ISBN은 알라딘을 호출하지 않고 없음으로 센다")
+    @Test
+    void startImport_skipsKnownMisses() throws InterruptedException {
+        // GIVEN
+        isbnLookupMissCache.recordMiss(NOT_FOUND);
+        when(bookIngestionService.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+
+        // WHEN
+        BookDto.ImportJobResponse finished = awaitFinished(bookImportService.startImport(List.of(NOT_FOUND)).getJobId());
+
+        // THEN
+        assertThat(finished.getNotFoundCount()).isEqualTo(1);
+        verify(aladinClient, never()).itemLookUp(anyString(), eq(Priority.INGEST));
+    }
+
+    @DisplayName("ISBN이 없거나 최대 개수를 넘으면 작업을 등록하지 않는다")
+    @Test
+    void startImport_rejectsEmptyOrTooLargeRequests() {
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            tooMany.add(FOUND_1);
+        }
+
+        assertThatThrownBy(() -> bookImportService.startImport(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookImportService.startImport(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(bookIngestionService, never()).findExistingIsbns(anyCollection());
+    }
+
+    @DisplayName("ISBN 파일은 줄바꿈, 공백, 쉼표, 세미콜론으로 나눠 읽는다")
+    @Test
+    void startImport_readsSeparatedIsbnFile() throws Exception {
+        // GIVEN
+        when(bookIngestionService.findExistingIsbns(anyCollection())).thenReturn(Set.of(FOUND_1, FOUND_2, FOUND_3, EXISTING));
+        String file = FOUND_1 + ", " + FOUND_2 + "\n" + FOUND_3 + ";" + EXISTING + "\n\n";
+
+        // WHEN
+        BookDto.ImportJobResponse started = bookImportService.startImport(
+                new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)));
+
+        // THEN
+        assertThat(started.getRequestedCount()).isEqualTo(4);
+        assertThat(started.getExistingCount()).isEqualTo(4);
+        assertThat(started.getToLookUpCount()).isZero();
+        assertThat(awaitFinished(started.getJobId()).getStatus()).isEqualTo("COMPLETED");
+    }
+
+    // 작업이 COMPLETED/FAILED가 될 때까지 기다림
+    private BookDto.ImportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        BookDto.ImportJobResponse job = bookImportService.getJob(jobId);
+        while (job.getFinishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = bookImportService.getJob(jobId);
+        }
+        assertThat(job.getFinishedAt()).as("작업이 5초 안에 끝나야 함").isNotNull();
+        return job;
+    }
+
+    private static AladinDto.AladinResponse response(String isbn13) {
+        AladinDto.Item item = new AladinDto.Item();
+        item.setIsbn13(isbn13);
+        item.setTitle("책 " + isbn13);
+        AladinDto.AladinResponse response = new AladinDto.AladinResponse();
+        response.setItem(List.of(item));
+        return response;
+    }
+
+    private static List<Book> books(Collection<AladinDto.Item> items) {
+        return items.stream()
+                .map(item -> Book.builder().isbn(item.getIsbn13()).title(item.getTitle()).build())
+                .collect(Collectors.toList());
+    }
+}
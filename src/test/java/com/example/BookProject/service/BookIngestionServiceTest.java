@@ -0,0 +1,64 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.repository.BookBulkRepository;
+import com.example.BookProject.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookIngestionServiceTest {
+
+    @InjectMocks
+    private BookIngestionService bookIngestionService;
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private BookBulkRepository bookBulkRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("새로 저장된 책만 DB가 매긴 book_id를 채워서 반환하고 이벤트로 알린다")
+    @Test
+    void saveNewBooks_assignsGeneratedIds() {
+        // GIVEN: 이미 있는 책 1권, 새 책 2권 중 1권은 다른 요청이 먼저 저장함 (ON CONFLICT로 건너뜀)
+        Book existing = book("9788936434120");
+        Book inserted = book("9788936434267");
+        Book raced = book("9788954651134");
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(Set.of("9788936434120"));
+        when(bookBulkRepository.insertIgnoringDuplicates(anyList())).thenReturn(Map.of("9788936434267", 42L));
+
+        // WHEN
+        List<Book> result = bookIngestionService.saveNewBooks(List.of(existing, inserted, raced, book("")));
+
+        // THEN
+        assertThat(result).containsExactly(inserted);
+        assertThat(inserted.getId()).isEqualTo(42L);
+        assertThat(raced.getId()).isNull();
+
+        ArgumentCaptor<BooksSavedEvent> event = ArgumentCaptor.forClass(BooksSavedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getBooks()).extracting(Book::getId).containsExactly(42L);
+    }
+
+    private static Book book(String isbn) {
+        return Book.builder().title("제목").author("저자").isbn(isbn).build();
+    }
+}
@@ -10,14 +10,18 @@ import com.example.BookProject.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 // ✅ 1. Mockito 확장 기능을 사용한다고 선언합니다. @SpringBootTest 대신 사용합니다.
@@ -35,6 +39,8 @@ class BookRecordServiceTest {
     private BookRepository bookRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("이미 등록된 책을 추가하면 예외가 발생한다")
     @Test
@@ -65,4 +71,26 @@ class BookRecordServiceTest {
                 .isInstanceOf(IllegalStateException.class) // IllegalStateException 예외가 터지고,
                 .hasMessage("이미 서재에 등록된 책입니다.");     // 메시지가 정확한지 검증합니다.
     }
-}
\ No newline at end of file
+
+    @DisplayName("책을 서재에 담으면 자동완성 순위를 올리도록 이벤트를 발행한다")
+    @Test
+    void createBookRecord_publishesEvent() {
+        // GIVEN
+        Long userId = 1L;
+        Long bookId = 100L;
+        User fakeUser = new User("test@test.com", "1234", "테스터");
+        Book fakeBook = Book.builder().isbn("1234567890").title("테스트 책").build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(fakeUser));
+        when(bookRepository.findById(bookId)).thenReturn(Optional.of(fakeBook));
+        when(bookRecordRepository.findByUserAndBookId(any(User.class), any(Long.class))).thenReturn(Optional.empty());
+        when(bookRecordRepository.save(any(BookRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // WHEN
+        bookRecordService.createBookRecord(new BookRecordCreateRequestDto(bookId), userId);
+
+        // THEN
+        ArgumentCaptor<BookRecordCreatedEvent> event = ArgumentCaptor.forClass(BookRecordCreatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getIsbn()).isEqualTo("1234567890");
+    }
+}
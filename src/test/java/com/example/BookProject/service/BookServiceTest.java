@@ -0,0 +1,132 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.cache.BookSearchCache;
+import com.example.BookProject.cache.IsbnLookupMissCache;
+import com.example.BookProject.client.AladinClient;
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.dto.BookDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {"book.page.default-size=2", "book.page.max-size=3"})
+@Import(BookService.class)
+class BookServiceTest {
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AladinClient aladinClient;
+    @MockitoBean
+    private BookSearchCache bookSearchCache;
+    @MockitoBean
+    private BookSearchRefresher bookSearchRefresher;
+    @MockitoBean
+    private IsbnLookupMissCache isbnLookupMissCache;
+    @MockitoBean
+    private BookIngestionService bookIngestionService;
+    @MockitoBean
+    private LocalBookSearchService localBookSearchService;
+    @MockitoBean
+    private MeterRegistry meterRegistry;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 최대 페이지 크기(3)의 정확히 두 배
+        for (int i = 0; i < 6; i++) {
+            Book book = Book.builder().title("책 " + i).author("저자").isbn("97889000000" + i + "0").build();
+            entityManager.persist(book);
+            ids.add(book.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("size가 없거나 0 이하면 기본 크기, 최대 크기보다 크면 최대 크기로 조회한다")
+    @Test
+    void findBooks_clampsPageSize() {
+        assertThat(bookService.findBooks(null, null).getContent()).hasSize(2);
+        assertThat(bookService.findBooks(null, 0).getContent()).hasSize(2);
+        assertThat(bookService.findBooks(null, -5).getContent()).hasSize(2);
+        assertThat(bookService.findBooks(null, 50).getContent()).hasSize(3);
+    }
+
+    @DisplayName("한 건을 더 조회해 다음 페이지 여부를 정하고, 남은 책이 딱 한 페이지면 hasNext가 false다")
+    @Test
+    void findBooks_followsCursorToLastPage() {
+        // WHEN
+        BookDto.BookPageResponse first = bookService.findBooks(null, 3);
+        BookDto.BookPageResponse second = bookService.findBooks(first.getNextCursor(), 3);
+
+        // THEN
+        assertThat(bookIds(first)).containsExactlyElementsOf(ids.subList(0, 3));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(ids.get(2));
+
+        assertThat(bookIds(second)).containsExactlyElementsOf(ids.subList(3, 6));
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @DisplayName("마지막 id 뒤의 커서는 빈 페이지를 반환한다")
+    @Test
+    void findBooks_cursorAfterLastBook() {
+        // WHEN
+        BookDto.BookPageResponse page = bookService.findBooks(ids.get(5), 3);
+
+        // THEN
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @DisplayName("forEachBook은 모든 책을 id 순서로 한 번씩 넘겨준다")
+    @Test
+    void forEachBook_visitsEveryRow() {
+        // WHEN
+        List<Long> visited = new ArrayList<>();
+        bookService.forEachBook(book -> visited.add(book.getBookId()));
+
+        // THEN
+        assertThat(visited).containsExactlyElementsOf(ids);
+    }
+
+    @DisplayName("책이 저장되면 그 ISBN을 알라딘 조회 실패 캐시에서 지운다")
+    @Test
+    void onBooksSaved_invalidatesLookupMisses() {
+        // GIVEN
+        Book first = Book.builder().title("채식주의자").author("한강").isbn("9788936434120").build();
+        Book second = Book.builder().title("소년이 온다").author("한강").isbn("9788936434267").build();
+
+        // WHEN
+        bookService.onBooksSaved(new BooksSavedEvent(List.of(first, second)));
+
+        // THEN
+        verify(isbnLookupMissCache).invalidate("9788936434120");
+        verify(isbnLookupMissCache).invalidate("9788936434267");
+    }
+
+    private static List<Long> bookIds(BookDto.BookPageResponse page) {
+        return page.getContent().stream()
+                .map(BookDto.BookResponse::getBookId)
+                .collect(Collectors.toList());
+    }
+}
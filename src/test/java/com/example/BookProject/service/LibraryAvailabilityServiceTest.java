@@ -0,0 +1,100 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.cache.LibraryAvailabilityCache;
+import com.example.BookProject.client.Data4LibraryClient;
+import com.example.BookProject.client.ExternalApiUnavailableException;
+import com.example.BookProject.dto.LibraryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibraryAvailabilityServiceTest {
+
+    private static final String ISBN = "9788983927965";
+
+    private final Data4LibraryClient client = mock(Data4LibraryClient.class);
+    private final LibraryAvailabilityCache cache = new LibraryAvailabilityCache(client, 4,
+            Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(4), 1000, new SimpleMeterRegistry());
+    private final LibraryAvailabilityService service =
+            new LibraryAvailabilityService(cache, Duration.ofMillis(300), 10);
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @DisplayName("느린 칸은 TIMEOUT, 실패한 칸은 ERROR로 표시하고 나머지 결과는 그대로 반환한다")
+    @Test
+    void checkAvailabilityMatrix_partialResults() {
+        // GIVEN
+        LibraryDto.Data4LibBookExistResponse.ResultData available = result("Y", "Y");
+        when(client.bookExist(1L, ISBN)).thenReturn(available);
+        when(client.bookExist(2L, ISBN)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return available;
+        });
+        when(client.bookExist(3L, ISBN)).thenThrow(new ExternalApiUnavailableException("정보나루 장애"));
+
+        // WHEN
+        long startedAt = System.nanoTime();
+        LibraryDto.AvailabilityMatrixResponse response =
+                service.checkAvailabilityMatrix(List.of(1L, 2L, 3L), List.of(ISBN));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // THEN
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(response.getCells()).extracting(LibraryDto.AvailabilityResponse::getStatus)
+                .containsExactly(LibraryDto.AvailabilityStatus.OK,
+                        LibraryDto.AvailabilityStatus.TIMEOUT,
+                        LibraryDto.AvailabilityStatus.ERROR);
+        assertThat(response.getCells().get(0).getLoanAvailable()).isTrue();
+        assertThat(response.getCells().get(1).getHasBook()).isNull();
+        assertThat(response.getOkCount()).isEqualTo(1);
+        assertThat(response.getTimeoutCount()).isEqualTo(1);
+        assertThat(response.getErrorCount()).isEqualTo(1);
+    }
+
+    @DisplayName("ISBN-10과 하이픈이 섞인 ISBN은 ISBN-13으로 바꾸고 중복을 제거한다")
+    @Test
+    void checkAvailabilityMatrix_normalizesIsbns() {
+        // GIVEN
+        LibraryDto.Data4LibBookExistResponse.ResultData onShelf = result("Y", "N");
+        when(client.bookExist(1L, ISBN)).thenReturn(onShelf);
+
+        // WHEN
+        LibraryDto.AvailabilityMatrixResponse response =
+                service.checkAvailabilityMatrix(List.of(1L, 1L), List.of("89-8392-796-8", "978-89-8392-796-5"));
+
+        // THEN
+        assertThat(response.getCells()).hasSize(1);
+        assertThat(response.getCells().get(0).getIsbn13()).isEqualTo(ISBN);
+        assertThat(response.getCells().get(0).getHasBook()).isTrue();
+        assertThat(response.getCells().get(0).getLoanAvailable()).isFalse();
+    }
+
+    @DisplayName("조합 수가 최대치를 넘거나 ISBN 형식이 틀리면 예외가 발생한다")
+    @Test
+    void checkAvailabilityMatrix_rejectsInvalidRequest() {
+        assertThatThrownBy(() -> service.checkAvailabilityMatrix(
+                List.of(1L, 2L, 3L, 4L, 5L, 6L), List.of(ISBN, "9788937460451")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.checkAvailabilityMatrix(List.of(1L), List.of("12345")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LibraryDto.Data4LibBookExistResponse.ResultData result(String hasBook, String loanAvailable) {
+        LibraryDto.Data4LibBookExistResponse.ResultData result = mock(LibraryDto.Data4LibBookExistResponse.ResultData.class);
+        when(result.getHasBook()).thenReturn(hasBook);
+        when(result.getLoanAvailable()).thenReturn(loanAvailable);
+        return result;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.client.Data4LibraryClient;
+import com.example.BookProject.domain.Library;
+import com.example.BookProject.domain.LibrarySyncPage;
+import com.example.BookProject.domain.LibrarySyncRun;
+import com.example.BookProject.dto.LibraryDto;
+import com.example.BookProject.repository.LibraryBulkRepository;
+import com.example.BookProject.repository.LibraryRepository;
+import com.example.BookProject.repository.LibrarySyncPageRepository;
+import com.example.BookProject.repository.LibrarySyncRunRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LibraryBatchServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final LibraryRepository libraryRepository = mock(LibraryRepository.class);
+    private final LibraryBulkRepository libraryBulkRepository = mock(LibraryBulkRepository.class);
+    private final LibrarySyncRunRepository syncRunRepository = mock(LibrarySyncRunRepository.class);
+    private final LibrarySyncPageRepository syncPageRepository = mock(LibrarySyncPageRepository.class);
+    private final Data4LibraryClient data4LibraryClient = mock(Data4LibraryClient.class);
+    private final LibraryBatchService service = new LibraryBatchService(libraryRepository, libraryBulkRepository,
+            syncRunRepository, syncPageRepository, data4LibraryClient, mock(ApplicationEventPublisher.class),
+            2, 2, 100, 0.5);
+
+    @BeforeEach
+    void setUp() {
+        when(syncRunRepository.findFirstByStatusOrderByIdDesc(LibrarySyncRun.Status.RUNNING)).thenReturn(Optional.empty());
+        when(syncRunRepository.save(any(LibrarySyncRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(libraryBulkRepository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        when(libraryBulkRepository.updateChanged(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        when(libraryBulkRepository.softDelete(anyList(), any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @DisplayName("내용이 같은 도서관은 쓰지 않고, 새 도서관은 추가, 바뀐 도서관만 갱신한다")
+    @Test
+    void sync_writesOnlyChanges() {
+        // GIVEN: 1번은 그대로, 2번은 주소 변경, 3번은 신규
+        LibraryDto.Data4LibResponse.LibData unchanged = libData(1L, "가도서관", "서울");
+        LibraryDto.Data4LibResponse.LibData changed = libData(2L, "나도서관", "부산(이전)");
+        LibraryDto.Data4LibResponse.LibData added = libData(3L, "다도서관", "대구");
+        when(libraryRepository.findAllSyncStates()).thenReturn(List.of(
+                state(1L, hashOf(unchanged), null),
+                state(2L, hashOf(libData(2L, "나도서관", "부산")), null)));
+        when(data4LibraryClient.libSrch(1, 2)).thenReturn(new Data4LibraryClient.LibSrchPage(3, List.of(unchanged, changed)));
+        when(data4LibraryClient.libSrch(2, 2)).thenReturn(new Data4LibraryClient.LibSrchPage(3, List.of(added)));
+
+        // WHEN
+        LibraryDto.SyncResult result = service.fetchAndSaveAllLibrariesFromData4Lib();
+
+        // THEN
+        assertThat(result.getPageCount()).isEqualTo(2);
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getDeletedCount()).isZero();
+        verify(libraryBulkRepository, never()).softDelete(anyList(), any());
+    }
+
+    @DisplayName("진행 중인 회차가 있으면 체크포인트 이후 페이지만 가져오고, 전체 회차에서 사라진 도서관을 폐관 처리한다")
+    @Test
+    void sync_resumesFromCheckpointAndSoftDeletesMissing() {
+        // GIVEN: 1페이지(1, 2번)는 이미 처리됨, 2페이지에는 3번만 있음 -> 4번은 목록에서 사라짐
+        LibrarySyncRun running = new LibrarySyncRun(2);
+        running.setTotalPages(2);
+        when(syncRunRepository.findFirstByStatusOrderByIdDesc(LibrarySyncRun.Status.RUNNING)).thenReturn(Optional.of(running));
+        when(syncPageRepository.findByRun(running)).thenReturn(List.of(new LibrarySyncPage(running, 1, List.of(1L, 2L))));
+        LibraryDto.Data4LibResponse.LibData third = libData(3L, "다도서관", "대구");
+        List<LibraryRepository.LibrarySyncState> states = new ArrayList<>();
+        for (long code = 1; code <= 3; code++) {
+            states.add(state(code, code == 3 ? hashOf(third) : 0L, null));
+        }
+        states.add(state(4L, 0L, null));
+        when(libraryRepository.findAllSyncStates()).thenReturn(states);
+        when(data4LibraryClient.libSrch(2, 2)).thenReturn(new Data4LibraryClient.LibSrchPage(3, List.of(third)));
+
+        // WHEN
+        LibraryDto.SyncResult result = service.fetchAndSaveAllLibrariesFromData4Lib();
+
+        // THEN
+        verify(data4LibraryClient, never()).libSrch(1, 2);
+        verify(libraryBulkRepository).softDelete(eq(List.of(4L)), any(LocalDateTime.class));
+        assertThat(result.getDeletedCount()).isEqualTo(1);
+        assertThat(result.getUpdatedCount()).isZero();
+        assertThat(running.getStatus()).isEqualTo(LibrarySyncRun.Status.COMPLETED);
+    }
+
+    @DisplayName("가져오지 못한 페이지가 있으면 폐관 처리를 하지 않고 회차를 이어서 진행할 수 있게 남긴다")
+    @Test
+    void sync_keepsRunOpenWhenPageFails() {
+        // GIVEN
+        when(libraryRepository.findAllSyncStates()).thenReturn(List.of(state(9L, 0L, null)));
+        when(data4LibraryClient.libSrch(1, 2)).thenReturn(new Data4LibraryClient.LibSrchPage(4, List.of(libData(1L, "가도서관", "서울"), libData(2L, "나도서관", "부산"))));
+        when(data4LibraryClient.libSrch(2, 2)).thenThrow(new IllegalStateException("정보나루 장애"));
+
+        // WHEN
+        LibraryDto.SyncResult result = service.fetchAndSaveAllLibrariesFromData4Lib();
+
+        // THEN
+        assertThat(result.getFailedPages()).isEqualTo(1);
+        assertThat(result.getInsertedCount()).isEqualTo(2);
+        verify(libraryBulkRepository, never()).softDelete(anyList(), any());
+        verify(syncPageRepository).save(any(LibrarySyncPage.class));
+    }
+
+    @DisplayName("청크 저장이 실패하면 그 청크만 건너뛰고, 그 페이지는 체크포인트를 남기지 않아 다음 실행에서 다시 처리한다")
+    @Test
+    void sync_skipsFailedChunkAndLeavesPageForResume() {
+        // GIVEN: 2페이지 도서관을 저장하는 청크가 실패
+        when(libraryRepository.findAllSyncStates()).thenReturn(List.of());
+        when(data4LibraryClient.libSrch(1, 2)).thenReturn(new Data4LibraryClient.LibSrchPage(4, List.of(libData(1L, "가도서관", "서울"), libData(2L, "나도서관", "부산"))));
+        when(data4LibraryClient.libSrch(2, 2)).thenReturn(new Data4LibraryClient.LibSrchPage(4, List.of(libData(3L, "다도서관", "대구"), libData(4L, "라도서관", "광주"))));
+        when(libraryBulkRepository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+            List<Library> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(library -> library.getD4lLibCode() == 3L)) {
+                throw new IllegalStateException("DB 오류");
+            }
+            return chunk.size();
+        });
+
+        // WHEN
+        LibraryDto.SyncResult result = service.fetchAndSaveAllLibrariesFromData4Lib();
+
+        // THEN
+        assertThat(result.getFailedPages()).isEqualTo(1);
+        assertThat(result.getInsertedCount()).isEqualTo(2);
+        ArgumentCaptor<LibrarySyncPage> checkpoint = ArgumentCaptor.forClass(LibrarySyncPage.class);
+        verify(syncPageRepository).save(checkpoint.capture());
+        assertThat(checkpoint.getValue().getPageNo()).isEqualTo(1);
+        verify(libraryBulkRepository, never()).softDelete(anyList(), any());
+    }
+
+    private static LibraryDto.Data4LibResponse.LibData libData(long code, String name, String address) {
+        return OBJECT_MAPPER.convertValue(Map.of(
+                "libCode", code, "libName", name, "address", address,
+                "latitude", "37.5", "longitude", "127.0"), LibraryDto.Data4LibResponse.LibData.class);
+    }
+
+    private static long hashOf(LibraryDto.Data4LibResponse.LibData libData) {
+        return Library.builder()
+                .d4lLibCode(libData.getLibCode())
+                .libName(libData.getLibName())
+                .address(libData.getAddress())
+                .tel(libData.getTel())
+                .homepage(libData.getHomepage())
+                .latitude(Double.parseDouble(libData.getLatitude()))
+                .longitude(Double.parseDouble(libData.getLongitude()))
+                .build()
+                .computeContentHash();
+    }
+
+    private static LibraryRepository.LibrarySyncState state(long code, long hash, LocalDateTime deletedAt) {
+        return new LibraryRepository.LibrarySyncState() {
+            public Long getD4lLibCode() { return code; }
+            public Long getContentHash() { return hash; }
+            public LocalDateTime getDeletedAt() { return deletedAt; }
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.BookProject.service;
+
+import com.example.BookProject.domain.Book;
+import com.example.BookProject.domain.Review;
+import com.example.BookProject.domain.User;
+import com.example.BookProject.dto.ReviewPageResponseDto;
+import com.example.BookProject.dto.ReviewResponseDto;
+import com.example.BookProject.dto.ReviewSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ReviewService.class)
+class ReviewServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Book book;
+    private Long first;   // 가장 오래된 리뷰, 평점 5.0
+    private Long second;  // first와 작성 시각이 같음, 평점 3.5
+    private Long third;   // 평점 5.0
+    private Long fourth;  // 가장 최근 리뷰, 평점 1.0
+
+    @BeforeEach
+    void setUp() {
+        User alice = new User("alice@test.com", "pw", "앨리스");
+        User bob = new User("bob@test.com", "pw", "밥");
+        book = Book.builder().title("채식주의자").author("한강").isbn("9788936434120").build();
+        Book other = Book.builder().title("소년이 온다").author("한강").isbn("9788936434267").build();
+        entityManager.persist(alice);
+        entityManager.persist(bob);
+        entityManager.persist(book);
+        entityManager.persist(other);
+
+        first = review(book, alice, 5.0f, BASE);
+        second = review(book, bob, 3.5f, BASE);
+        third = review(book, bob, 5.0f, BASE.plusHours(1));
+        fourth = review(book, alice, 1.0f, BASE.plusHours(2));
+        review(other, alice, 4.0f, BASE.plusHours(3));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("최신순은 작성 시각, 같은 시각이면 review_id 내림차순으로 커서를 따라 끝까지 조회한다")
+    @Test
+    void getReviewsByBookId_newest() {
+        // WHEN
+        List<Long> ids = readAll(cursor -> reviewService.getReviewsByBookId(book.getId(), ReviewSort.NEWEST, cursor, 3));
+
+        // THEN
+        assertThat(ids).containsExactly(fourth, third, second, first);
+    }
+
+    @DisplayName("평점순은 평점, 같은 평점이면 review_id 내림차순으로 조회하고 작성자 이름을 함께 담는다")
+    @Test
+    void getReviewsByBookIsbn_rating() {
+        // WHEN
+        ReviewPageResponseDto page = reviewService.getReviewsByBookIsbn(book.getIsbn(), ReviewSort.RATING, null, 2);
+        ReviewPageResponseDto next = reviewService.getReviewsByBookIsbn(book.getIsbn(), ReviewSort.RATING, page.getNextCursor(), 2);
+
+        // THEN
+        assertThat(page.getContent()).extracting(ReviewResponseDto::getReviewId).containsExactly(third, first);
+        assertThat(page.getContent()).extracting(ReviewResponseDto::getAuthorNickname).containsExactly("밥", "앨리스");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(next.getContent()).extracting(ReviewResponseDto::getReviewId).containsExactly(second, fourth);
+        assertThat(next.getContent()).extracting(ReviewResponseDto::getBookId).containsOnly(book.getId());
+        assertThat(next.isHasNext()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @DisplayName("페이지 하나는 작성자와 책 정보까지 쿼리 한 번으로 조회한다")
+    @Test
+    void getReviewsByBookId_singleQuery() {
+        // GIVEN
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN
+        ReviewPageResponseDto page = reviewService.getReviewsByBookId(book.getId(), ReviewSort.NEWEST, null, 10);
+
+        // THEN
+        assertThat(page.getContent()).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("리뷰가 없는 책은 빈 페이지를, 없는 책은 EntityNotFoundException을 반환한다")
+    @Test
+    void getReviewsByBookId_emptyOrMissing() {
+        // GIVEN
+        Book empty = Book.builder().title("흰").author("한강").isbn("9788954651134").build();
+        entityManager.persist(empty);
+
+        // WHEN & THEN
+        ReviewPageResponseDto page = reviewService.getReviewsByBookId(empty.getId(), ReviewSort.NEWEST, null, null);
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThatThrownBy(() -> reviewService.getReviewsByBookId(-1L, ReviewSort.NEWEST, null, null))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> reviewService.getReviewsByBookIsbn("0000000000000", ReviewSort.RATING, null, null))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @DisplayName("잘못된 커서나 다른 정렬의 커서, 지원하지 않는 정렬 기준은 IllegalArgumentException을 던진다")
+    @Test
+    void invalidCursorOrSort() {
+        // GIVEN
+        String ratingCursor = reviewService.getReviewsByBookId(book.getId(), ReviewSort.RATING, null, 1).getNextCursor();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> reviewService.getReviewsByBookId(book.getId(), ReviewSort.NEWEST, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reviewService.getReviewsByBookId(book.getId(), ReviewSort.NEWEST, ratingCursor, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReviewSort.from("popular")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(ReviewSort.from("Rating")).isEqualTo(ReviewSort.RATING);
+        assertThat(ReviewSort.from(null)).isEqualTo(ReviewSort.NEWEST);
+    }
+
+    private interface PageFetcher {
+        ReviewPageResponseDto fetch(String cursor);
+    }
+
+    private static List<Long> readAll(PageFetcher fetcher) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            ReviewPageResponseDto page = fetcher.fetch(cursor);
+            page.getContent().forEach(review -> ids.add(review.getReviewId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    // 작성 시각은 @CreationTimestamp가 채우므로 저장 후 직접 바꿈
+    private Long review(Book book, User user, float rating, LocalDateTime createdAt) {
+        Review review = Review.builder().reviewContent("리뷰").reviewRating(rating).book(book).user(user).build();
+        entityManager.persist(review);
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE reviews SET created_at = ?1 WHERE review_id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, review.getId())
+                .executeUpdate();
+        return review.getId();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.BookProject.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsbnUtilsTest {
+
+    @DisplayName("체크섬이 맞는 ISBN-13은 하이픈과 공백을 제거해 반환한다")
+    @Test
+    void normalizeIsbn13_acceptsValidIsbn13() {
+        assertThat(IsbnUtils.normalizeIsbn13("978-89-8392-796-5")).contains("9788983927965");
+        assertThat(IsbnUtils.normalizeIsbn13(" 9788983927965 ")).contains("9788983927965");
+    }
+
+    @DisplayName("ISBN-10은 ISBN-13으로 변환한다")
+    @Test
+    void normalizeIsbn13_convertsIsbn10() {
+        assertThat(IsbnUtils.normalizeIsbn13("89-8392-796-8")).contains("9788983927965");
+        assertThat(IsbnUtils.normalizeIsbn13("080442957X")).contains("9780804429573");
+    }
+
+    @DisplayName("체크섬이 틀리거나 형식이 잘못된 ISBN은 거절한다")
+    @Test
+    void normalizeIsbn13_rejectsMalformed() {
+        assertThat(IsbnUtils.normalizeIsbn13("9788983927966")).isEmpty();
+        assertThat(IsbnUtils.normalizeIsbn13("97889839279")).isEmpty();
+        assertThat(IsbnUtils.normalizeIsbn13("97889839279650")).isEmpty();
+        assertThat(IsbnUtils.normalizeIsbn13("978898392796X")).isEmpty();
+        assertThat(IsbnUtils.normalizeIsbn13("abc")).isEmpty();
+        assertThat(IsbnUtils.normalizeIsbn13(null)).isEmpty();
+    }
+}